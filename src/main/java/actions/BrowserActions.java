@@ -1,5 +1,7 @@
 package actions;
 
+import utility.ActionMetrics;
+import utility.Filmstrip;
 import webdriverfactory.GetWebDriver;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -67,38 +69,58 @@ public class BrowserActions {
      * @param url URL to navigate to
      */
     public static void navigateToPage(String url) {
-        checkNullDriver();
-        if (url == null){throw new IllegalStateException("Please provide a valid url not a null value");}
-        GetWebDriver.getLocalDriver().navigate().to(url);
-        log.info("Navigated to URL: '{}'", url);
-
+        long startNanos = ActionMetrics.start();
+        try {
+            checkNullDriver();
+            if (url == null){throw new IllegalStateException("Please provide a valid url not a null value");}
+            GetWebDriver.getLocalDriver().navigate().to(url);
+            log.info("Navigated to URL: '{}'", url);
+        } finally {
+            ActionMetrics.record("BrowserActions.navigateToPage", startNanos);
+        }
+        Filmstrip.capture(GetWebDriver.getLocalDriver(), "BrowserActions.navigateToPage", url);
     }
 
     /**
      * Refreshes the current page.
      */
     public static void refreshPage() {
-        checkNullDriver();
-        GetWebDriver.getLocalDriver().navigate().refresh();
-        log.info("Page refreshed successfully.");
+        long startNanos = ActionMetrics.start();
+        try {
+            checkNullDriver();
+            GetWebDriver.getLocalDriver().navigate().refresh();
+            log.info("Page refreshed successfully.");
+        } finally {
+            ActionMetrics.record("BrowserActions.refreshPage", startNanos);
+        }
     }
 
     /**
      * Navigates forward in the browser history.
      */
     public static void navigateForward() {
-        checkNullDriver();
-        GetWebDriver.getLocalDriver().navigate().forward();
-        log.info("Navigated forward.");
+        long startNanos = ActionMetrics.start();
+        try {
+            checkNullDriver();
+            GetWebDriver.getLocalDriver().navigate().forward();
+            log.info("Navigated forward.");
+        } finally {
+            ActionMetrics.record("BrowserActions.navigateForward", startNanos);
+        }
     }
 
     /**
      * Navigates backward in the browser history.
      */
     public static void navigateBackward() {
-        checkNullDriver();
-        GetWebDriver.getLocalDriver().navigate().back();
-        log.info("Navigated backward.");
+        long startNanos = ActionMetrics.start();
+        try {
+            checkNullDriver();
+            GetWebDriver.getLocalDriver().navigate().back();
+            log.info("Navigated backward.");
+        } finally {
+            ActionMetrics.record("BrowserActions.navigateBackward", startNanos);
+        }
     }
 
     //________________________________________________________________________________________________________________//
@@ -108,27 +130,42 @@ public class BrowserActions {
      * Maximizes the browser window to fill the screen.
      */
     public static void maximizeWindow() {
-        checkNullDriver();
-        GetWebDriver.getLocalDriver().manage().window().maximize();
-        log.info("Browser window maximized.");
+        long startNanos = ActionMetrics.start();
+        try {
+            checkNullDriver();
+            GetWebDriver.getLocalDriver().manage().window().maximize();
+            log.info("Browser window maximized.");
+        } finally {
+            ActionMetrics.record("BrowserActions.maximizeWindow", startNanos);
+        }
     }
 
     /**
      * Minimizes the browser window.
      */
     public static void minimizeWindow() {
-        checkNullDriver();
-        GetWebDriver.getLocalDriver().manage().window().minimize();
-        log.info("Browser window minimized.");
+        long startNanos = ActionMetrics.start();
+        try {
+            checkNullDriver();
+            GetWebDriver.getLocalDriver().manage().window().minimize();
+            log.info("Browser window minimized.");
+        } finally {
+            ActionMetrics.record("BrowserActions.minimizeWindow", startNanos);
+        }
     }
 
     /**
      * Sets the browser to full screen mode.
      */
     public static void fullscreen() {
-        checkNullDriver();
-        GetWebDriver.getLocalDriver().manage().window().fullscreen();
-        log.info("Browser set to fullscreen mode.");
+        long startNanos = ActionMetrics.start();
+        try {
+            checkNullDriver();
+            GetWebDriver.getLocalDriver().manage().window().fullscreen();
+            log.info("Browser set to fullscreen mode.");
+        } finally {
+            ActionMetrics.record("BrowserActions.fullscreen", startNanos);
+        }
     }
 
     /**
@@ -138,10 +175,15 @@ public class BrowserActions {
      * @param height the desired height of the browser window in pixels
      */
     public static void setScreenSize(int width, int height) {
-        checkNullDriver();
-        Dimension dimension = new Dimension(width, height);
-        GetWebDriver.getLocalDriver().manage().window().setSize(dimension);
-        log.info("Browser window size set to width: '{}', height: '{}'.", width, height);
+        long startNanos = ActionMetrics.start();
+        try {
+            checkNullDriver();
+            Dimension dimension = new Dimension(width, height);
+            GetWebDriver.getLocalDriver().manage().window().setSize(dimension);
+            log.info("Browser window size set to width: '{}', height: '{}'.", width, height);
+        } finally {
+            ActionMetrics.record("BrowserActions.setScreenSize", startNanos);
+        }
     }
 
     /**
@@ -151,10 +193,15 @@ public class BrowserActions {
      * @param y the vertical position (in pixels) from the top of the screen
      */
     public static void setWindowPosition(int x, int y) {
-        checkNullDriver();
-        Point point = new Point(x, y);
-        GetWebDriver.getLocalDriver().manage().window().setPosition(point);
-        log.info("Browser window position set to x: '{}', y: '{}'.", x, y);
+        long startNanos = ActionMetrics.start();
+        try {
+            checkNullDriver();
+            Point point = new Point(x, y);
+            GetWebDriver.getLocalDriver().manage().window().setPosition(point);
+            log.info("Browser window position set to x: '{}', y: '{}'.", x, y);
+        } finally {
+            ActionMetrics.record("BrowserActions.setWindowPosition", startNanos);
+        }
     }
 
     //________________________________________________________________________________________________________________//
@@ -166,28 +213,43 @@ public class BrowserActions {
      * @return Alert object
      */
     public static Alert switchToAlert() {
-        checkNullDriver();
-        Alert alert = GetWebDriver.getLocalDriver().switchTo().alert();
-        log.info("Switched to alert.");
-        return alert;
+        long startNanos = ActionMetrics.start();
+        try {
+            checkNullDriver();
+            Alert alert = GetWebDriver.getLocalDriver().switchTo().alert();
+            log.info("Switched to alert.");
+            return alert;
+        } finally {
+            ActionMetrics.record("BrowserActions.switchToAlert", startNanos);
+        }
     }
 
     /**
      * Accepts the currently active alert.
      */
     public static void acceptAlert() {
-        checkNullDriver();
-        GetWebDriver.getLocalDriver().switchTo().alert().accept();
-        log.info("Alert accepted.");
+        long startNanos = ActionMetrics.start();
+        try {
+            checkNullDriver();
+            GetWebDriver.getLocalDriver().switchTo().alert().accept();
+            log.info("Alert accepted.");
+        } finally {
+            ActionMetrics.record("BrowserActions.acceptAlert", startNanos);
+        }
     }
 
     /**
      * Dismisses the currently active alert.
      */
     public static void dismissAlert() {
-        checkNullDriver();
-        GetWebDriver.getLocalDriver().switchTo().alert().dismiss();
-        log.info("Alert dismissed.");
+        long startNanos = ActionMetrics.start();
+        try {
+            checkNullDriver();
+            GetWebDriver.getLocalDriver().switchTo().alert().dismiss();
+            log.info("Alert dismissed.");
+        } finally {
+            ActionMetrics.record("BrowserActions.dismissAlert", startNanos);
+        }
     }
 
     /**
@@ -196,9 +258,14 @@ public class BrowserActions {
      * @param text Text to send to the alert
      */
     public static void setAlertText(String text) {
-        checkNullDriver();
-        GetWebDriver.getLocalDriver().switchTo().alert().sendKeys(text);
-        log.info("Text '{}' entered into alert.", text);
+        long startNanos = ActionMetrics.start();
+        try {
+            checkNullDriver();
+            GetWebDriver.getLocalDriver().switchTo().alert().sendKeys(text);
+            log.info("Text '{}' entered into alert.", text);
+        } finally {
+            ActionMetrics.record("BrowserActions.setAlertText", startNanos);
+        }
     }
 
     /**
@@ -207,10 +274,15 @@ public class BrowserActions {
      * @return Text from the alert
      */
     public static String getAlertText() {
-        checkNullDriver();
-        String text = GetWebDriver.getLocalDriver().switchTo().alert().getText();
-        log.info("Retrieved alert text: '{}'.", text);
-        return text;
+        long startNanos = ActionMetrics.start();
+        try {
+            checkNullDriver();
+            String text = GetWebDriver.getLocalDriver().switchTo().alert().getText();
+            log.info("Retrieved alert text: '{}'.", text);
+            return text;
+        } finally {
+            ActionMetrics.record("BrowserActions.getAlertText", startNanos);
+        }
     }
 
     //________________________________________________________________________________________________________________//
@@ -222,10 +294,15 @@ public class BrowserActions {
      * @return Window or tab handle
      */
     public static String getWindowHandle() {
-        checkNullDriver();
-        String windowHandle = GetWebDriver.getLocalDriver().getWindowHandle();
-        log.info("Current window/tab handler retrieved: '{}'.", windowHandle);
-        return windowHandle;
+        long startNanos = ActionMetrics.start();
+        try {
+            checkNullDriver();
+            String windowHandle = GetWebDriver.getLocalDriver().getWindowHandle();
+            log.info("Current window/tab handler retrieved: '{}'.", windowHandle);
+            return windowHandle;
+        } finally {
+            ActionMetrics.record("BrowserActions.getWindowHandle", startNanos);
+        }
     }
 
     /**
@@ -234,10 +311,15 @@ public class BrowserActions {
      * @return List of window/tab handles
      */
     public static List<String> getWindowHandles() {
-        checkNullDriver();
-        List<String> handles = new ArrayList<>(GetWebDriver.getLocalDriver().getWindowHandles());
-        log.info("Retrieved '{}' window/tab handle(s): '{}'.", handles.size(), handles);
-        return handles;
+        long startNanos = ActionMetrics.start();
+        try {
+            checkNullDriver();
+            List<String> handles = new ArrayList<>(GetWebDriver.getLocalDriver().getWindowHandles());
+            log.info("Retrieved '{}' window/tab handle(s): '{}'.", handles.size(), handles);
+            return handles;
+        } finally {
+            ActionMetrics.record("BrowserActions.getWindowHandles", startNanos);
+        }
     }
 
     /**
@@ -246,9 +328,15 @@ public class BrowserActions {
      * @param windowHandle Handle of the window or tab to switch to
      */
     public static void switchToWindow(String windowHandle) {
-        checkNullDriver();
-        GetWebDriver.getLocalDriver().switchTo().window(windowHandle);
-        log.info("Switched to window/tab with handle: '{}'.", windowHandle);
+        long startNanos = ActionMetrics.start();
+        try {
+            checkNullDriver();
+            GetWebDriver.getLocalDriver().switchTo().window(windowHandle);
+            FrameContext.markDefaultContent();
+            log.info("Switched to window/tab with handle: '{}'.", windowHandle);
+        } finally {
+            ActionMetrics.record("BrowserActions.switchToWindow", startNanos);
+        }
     }
 
     /**
@@ -257,10 +345,15 @@ public class BrowserActions {
      * @return Title of the current window or tab
      */
     public static String getWindowTitle() {
-        checkNullDriver();
-        String title = GetWebDriver.getLocalDriver().getTitle();
-        log.info("Retrieved current window/tab title: '{}'.", title);
-        return title;
+        long startNanos = ActionMetrics.start();
+        try {
+            checkNullDriver();
+            String title = GetWebDriver.getLocalDriver().getTitle();
+            log.info("Retrieved current window/tab title: '{}'.", title);
+            return title;
+        } finally {
+            ActionMetrics.record("BrowserActions.getWindowTitle", startNanos);
+        }
     }
 
     /**
@@ -270,37 +363,59 @@ public class BrowserActions {
      */
 
     public static String getURL() {
-        checkNullDriver();
-        String URL = GetWebDriver.getLocalDriver().getCurrentUrl();
-        log.info("Retrieved currently loaded url: '{}'.", URL);
-        return URL;
+        long startNanos = ActionMetrics.start();
+        try {
+            checkNullDriver();
+            String URL = GetWebDriver.getLocalDriver().getCurrentUrl();
+            log.info("Retrieved currently loaded url: '{}'.", URL);
+            return URL;
+        } finally {
+            ActionMetrics.record("BrowserActions.getURL", startNanos);
+        }
     }
 
     /**
      * Opens and switches to a new browser tab.
      */
     public static void openAndSwitchToNewTab() {
-        checkNullDriver();
-        GetWebDriver.getLocalDriver().switchTo().newWindow(WindowType.TAB);
-        log.info("Opened and switched to a new browser tab.");
+        long startNanos = ActionMetrics.start();
+        try {
+            checkNullDriver();
+            GetWebDriver.getLocalDriver().switchTo().newWindow(WindowType.TAB);
+            FrameContext.markDefaultContent();
+            log.info("Opened and switched to a new browser tab.");
+        } finally {
+            ActionMetrics.record("BrowserActions.openAndSwitchToNewTab", startNanos);
+        }
     }
 
     /**
      * Opens and switches to a new browser window.
      */
     public static void openAndSwitchToNewWindow() {
-        checkNullDriver();
-        GetWebDriver.getLocalDriver().switchTo().newWindow(WindowType.WINDOW);
-        log.info("Opened and switched to a new browser window.");
+        long startNanos = ActionMetrics.start();
+        try {
+            checkNullDriver();
+            GetWebDriver.getLocalDriver().switchTo().newWindow(WindowType.WINDOW);
+            FrameContext.markDefaultContent();
+            log.info("Opened and switched to a new browser window.");
+        } finally {
+            ActionMetrics.record("BrowserActions.openAndSwitchToNewWindow", startNanos);
+        }
     }
 
     /**
      * Close the current browser window/tab.
      */
     public static void closeWindow() {
-        checkNullDriver();
-        GetWebDriver.getLocalDriver().close();
-        log.info("Window closed.");
+        long startNanos = ActionMetrics.start();
+        try {
+            checkNullDriver();
+            GetWebDriver.getLocalDriver().close();
+            log.info("Window closed.");
+        } finally {
+            ActionMetrics.record("BrowserActions.closeWindow", startNanos);
+        }
     }
 
     //________________________________________________________________________________________________________________//
@@ -312,9 +427,15 @@ public class BrowserActions {
      * @param frameId Index of the frame
      */
     public static void switchToFrame(int frameId) {
-        checkNullDriver();
-        GetWebDriver.getLocalDriver().switchTo().frame(frameId);
-        log.info("Switched to frame with index: '{}'.", frameId);
+        long startNanos = ActionMetrics.start();
+        try {
+            checkNullDriver();
+            GetWebDriver.getLocalDriver().switchTo().frame(frameId);
+            FrameContext.markUnknown();
+            log.info("Switched to frame with index: '{}'.", frameId);
+        } finally {
+            ActionMetrics.record("BrowserActions.switchToFrame", startNanos);
+        }
     }
 
     /**
@@ -323,9 +444,15 @@ public class BrowserActions {
      * @param frameName Name or ID of the frame
      */
     public static void switchToFrame(String frameName) {
-        checkNullDriver();
-        GetWebDriver.getLocalDriver().switchTo().frame(frameName);
-        log.info("Switched to frame with name or ID: '{}'.", frameName);
+        long startNanos = ActionMetrics.start();
+        try {
+            checkNullDriver();
+            GetWebDriver.getLocalDriver().switchTo().frame(frameName);
+            FrameContext.markUnknown();
+            log.info("Switched to frame with name or ID: '{}'.", frameName);
+        } finally {
+            ActionMetrics.record("BrowserActions.switchToFrame", startNanos);
+        }
     }
 
     /**
@@ -334,27 +461,45 @@ public class BrowserActions {
      * @param frameName Web element of the frame
      */
     public static void switchToFrame(WebElement frameName) {
-        checkNullDriver();
-        GetWebDriver.getLocalDriver().switchTo().frame(frameName);
-        log.info("Switched to frame with Element: '{}'.", describeElement(frameName));
+        long startNanos = ActionMetrics.start();
+        try {
+            checkNullDriver();
+            GetWebDriver.getLocalDriver().switchTo().frame(frameName);
+            FrameContext.markUnknown();
+            log.info("Switched to frame with Element: '{}'.", describeElement(frameName));
+        } finally {
+            ActionMetrics.record("BrowserActions.switchToFrame", startNanos);
+        }
     }
 
     /**
      * Switches back to the parent frame.
      */
     public static void switchToParentFrame() {
-        checkNullDriver();
-        GetWebDriver.getLocalDriver().switchTo().parentFrame();
-        log.info("Switched to parent frame.");
+        long startNanos = ActionMetrics.start();
+        try {
+            checkNullDriver();
+            GetWebDriver.getLocalDriver().switchTo().parentFrame();
+            FrameContext.markUnknown();
+            log.info("Switched to parent frame.");
+        } finally {
+            ActionMetrics.record("BrowserActions.switchToParentFrame", startNanos);
+        }
     }
 
     /**
      * Switches back to the default content from a frame.
      */
     public static void switchToDefaultContent() {
-        checkNullDriver();
-        GetWebDriver.getLocalDriver().switchTo().defaultContent();
-        log.info("Switched to default content.");
+        long startNanos = ActionMetrics.start();
+        try {
+            checkNullDriver();
+            GetWebDriver.getLocalDriver().switchTo().defaultContent();
+            FrameContext.markDefaultContent();
+            log.info("Switched to default content.");
+        } finally {
+            ActionMetrics.record("BrowserActions.switchToDefaultContent", startNanos);
+        }
     }
 
 }
@@ -0,0 +1,165 @@
+package actions;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.Keys;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebElement;
+import webdriverfactory.GetWebDriver;
+
+import static java.lang.invoke.MethodHandles.lookup;
+
+/**
+ * ComboBox drives React-style searchable select controls (type to filter, ENTER to choose)
+ * in as few WebDriver round trips as possible.
+ *
+ * <p>Key Features:
+ * <ul>
+ *   <li>Types the option text into the control's input.</li>
+ *   <li>Waits for the listbox to highlight an option through a MutationObserver instead of polling attributes.</li>
+ *   <li>Chooses the highlighted option with ENTER.</li>
+ *   <li>Confirms the chosen value by searching only inside the control's container, again through a MutationObserver.</li>
+ * </ul>
+ *
+ * <p>A selection costs five round trips: find input, type, await listbox, ENTER, await confirmation.
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ *   ComboBox comboBox = new ComboBox(uiActions, 10);
+ *   comboBox.select("build_id_input", "build_id", "3");
+ * }</pre>
+ *
+ * @author Hossam Atef
+ * @version 1.0
+ */
+public class ComboBox {
+
+    private static final Logger log = LogManager.getLogger(lookup().lookupClass());
+    private final UIActions uiActions;
+    private final JavascriptExecutor js;
+    private final long timeoutMillis;
+
+    /**
+     * Resolves with the highlighted option text once the input's {@code aria-activedescendant}
+     * points to a React option, or with {@code null} on timeout.
+     */
+    private static final String AWAIT_LISTBOX_SCRIPT = ScriptLibrary.HELPERS +
+            "var input = arguments[0], timeout = arguments[1], done = arguments[arguments.length - 1];" +
+            "function active() {" +
+            "  var id = input.getAttribute('aria-activedescendant');" +
+            "  return id && id.indexOf('react') >= 0 ? id : null;" +
+            "}" +
+            "function finish(id) {" +
+            "  var option = document.getElementById(id);" +
+            "  done(option ? __text(option) : id);" +
+            "}" +
+            "var id = active();" +
+            "if (id) { finish(id); return; }" +
+            "var timer;" +
+            "var observer = new MutationObserver(function () {" +
+            "  var id = active();" +
+            "  if (id) { observer.disconnect(); clearTimeout(timer); finish(id); }" +
+            "});" +
+            "observer.observe(input, {attributes: true, attributeFilter: ['aria-activedescendant']});" +
+            "timer = setTimeout(function () { observer.disconnect(); done(null); }, timeout);";
+
+    /**
+     * Resolves with the matched text once an element inside the container shows the expected value
+     * in its own text, or with {@code null} on timeout.
+     */
+    private static final String AWAIT_SELECTED_SCRIPT = ScriptLibrary.HELPERS +
+            "var container = document.getElementById(arguments[0]), contains = arguments[2], timeout = arguments[3];" +
+            "var done = arguments[arguments.length - 1];" +
+            "function norm(t) { return (t || '').replace(/\\s+/g, ' ').trim(); }" +
+            "var expected = norm(arguments[1]);" +
+            "if (!container) { done(null); return; }" +
+            "function ownText(el) {" +
+            "  var t = '';" +
+            "  for (var n = el.firstChild; n; n = n.nextSibling) if (n.nodeType === 3) t += n.nodeValue;" +
+            "  return norm(t);" +
+            "}" +
+            "function match() {" +
+            "  var all = container.getElementsByTagName('*');" +
+            "  for (var i = 0; i < all.length; i++) {" +
+            "    var t = ownText(all[i]);" +
+            "    if (t && (contains ? t.indexOf(expected) >= 0 : t === expected) && __visible(all[i])) return t;" +
+            "  }" +
+            "  return null;" +
+            "}" +
+            "var found = match();" +
+            "if (found) { done(found); return; }" +
+            "var timer;" +
+            "var observer = new MutationObserver(function () {" +
+            "  var found = match();" +
+            "  if (found) { observer.disconnect(); clearTimeout(timer); done(found); }" +
+            "});" +
+            "observer.observe(container, {childList: true, subtree: true, characterData: true});" +
+            "timer = setTimeout(function () { observer.disconnect(); done(null); }, timeout);";
+
+    /**
+     * Defines how the confirmed value is compared with the requested option text.
+     */
+    public enum TextMatch {
+        exact,
+        contains
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param uiActions  the UIActions instance used to find and type into the input.
+     * @param timeoutSec the maximum number of seconds to wait for the listbox and for the confirmation,
+     *                   It should stay below the driver's script timeout (30 seconds by default).
+     */
+    public ComboBox(UIActions uiActions, int timeoutSec) {
+        if (GetWebDriver.getLocalDriver() == null) {
+            log.error("WebDriver instance is null. WebDriver must be initialized before using combo boxes.");
+            throw new IllegalStateException("WebDriver has not been initialized.");
+        }
+        this.uiActions = uiActions;
+        this.js = (JavascriptExecutor) GetWebDriver.getLocalDriver();
+        this.timeoutMillis = timeoutSec * 1000L;
+    }
+
+    /**
+     * Selects the option whose text exactly matches the given text.
+     *
+     * @param inputId     the id of the control's search input.
+     * @param containerId the id of the element wrapping the control, used to confirm the selected value.
+     * @param optionText  the option text to type and select.
+     * @throws TimeoutException if the listbox doesn't highlight an option or the value isn't confirmed within the timeout.
+     */
+    public void select(String inputId, String containerId, String optionText) {
+        select(inputId, containerId, optionText, TextMatch.exact);
+    }
+
+    /**
+     * Selects the option matching the given text.
+     *
+     * @param inputId     the id of the control's search input.
+     * @param containerId the id of the element wrapping the control, used to confirm the selected value.
+     * @param optionText  the option text to type and select.
+     * @param match       how the confirmed value is compared with the option text.
+     * @throws TimeoutException if the listbox doesn't highlight an option or the value isn't confirmed within the timeout.
+     */
+    public void select(String inputId, String containerId, String optionText, TextMatch match) {
+        WebElement input = uiActions.findWebElement(UIActions.LocatorType.id, inputId, UIActions.ExplicitWaitCondition.elementToBeClickable);
+        uiActions.sendKeys(input, optionText);
+
+        Object highlighted = js.executeAsyncScript(AWAIT_LISTBOX_SCRIPT, input, timeoutMillis);
+        if (highlighted == null) {
+            log.error("No option was highlighted in the '{}' list for '{}' within '{}' ms.", inputId, optionText, timeoutMillis);
+            throw new TimeoutException("No option was highlighted in the '" + inputId + "' list for '" + optionText + "'.");
+        }
+        input.sendKeys(Keys.ENTER);
+        log.info("Chose highlighted option '{}' in the '{}' list.", highlighted, inputId);
+
+        Object confirmed = js.executeAsyncScript(AWAIT_SELECTED_SCRIPT, containerId, optionText, match == TextMatch.contains, timeoutMillis);
+        if (confirmed == null) {
+            log.error("Value '{}' isn't shown inside '{}' within '{}' ms.", optionText, containerId, timeoutMillis);
+            throw new TimeoutException("Value '" + optionText + "' isn't shown inside '" + containerId + "'.");
+        }
+        log.info("Value '{}' is selected inside '{}'.", confirmed, containerId);
+    }
+}
@@ -0,0 +1,146 @@
+package actions;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.openqa.selenium.support.ui.WebDriverWait;
+import webdriverfactory.GetWebDriver;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.function.Consumer;
+
+import static java.lang.invoke.MethodHandles.lookup;
+
+/**
+ * FrameContext runs batches of actions inside an iframe while tracking which frame the driver is in,
+ * so the frame is entered once per batch and redundant switches are skipped.
+ *
+ * <p>Key Features:
+ * <ul>
+ *   <li>Waits for the frame and switches into it in a single wait, instead of finding it first and switching after.</li>
+ *   <li>Runs several actions per frame visit through {@link #inFrame(UIActions.LocatorType, String, Consumer)}.</li>
+ *   <li>Skips the switch when the driver is already inside the requested frame, e.g. in nested batches.</li>
+ *   <li>Returns to the previous context after the batch, even when an action fails.</li>
+ * </ul>
+ *
+ * <p>The current frame is tracked per thread. Frame switches done directly through {@link BrowserActions}
+ * are reported to this class, so tracking never relies on a stale frame.
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ *   FrameContext frameContext = new FrameContext(uiActions, 20);
+ *   frameContext.inFrame(UIActions.LocatorType.xPath, "//iframe[@title='card number']", actions -> {
+ *       WebElement cardNo = actions.findWebElement(UIActions.LocatorType.id, "number", UIActions.ExplicitWaitCondition.elementToBeClickable);
+ *       actions.clearText(cardNo);
+ *       actions.sendKeys(cardNo, "4111111111111111");
+ *   });
+ * }</pre>
+ *
+ * @author Hossam Atef
+ * @version 1.0
+ */
+public class FrameContext {
+
+    private static final Logger log = LogManager.getLogger(lookup().lookupClass());
+
+    /**
+     * The frames the driver of the current thread is inside, outermost first.
+     * <br>An empty path is the top-level document; {@code null} means the frame is unknown.
+     */
+    private static final ThreadLocal<Deque<String>> framePath = ThreadLocal.withInitial(ArrayDeque::new);
+
+    private final UIActions uiActions;
+    private final WebDriver driver;
+    private final WebDriverWait wait;
+
+    /**
+     * Constructor.
+     *
+     * @param uiActions  the UIActions instance handed to every batch.
+     * @param timeoutSec the maximum number of seconds to wait for a frame to be available.
+     */
+    public FrameContext(UIActions uiActions, int timeoutSec) {
+        if (GetWebDriver.getLocalDriver() == null) {
+            log.error("WebDriver instance is null. WebDriver must be initialized before using frames.");
+            throw new IllegalStateException("WebDriver has not been initialized.");
+        }
+        this.uiActions = uiActions;
+        this.driver = GetWebDriver.getLocalDriver();
+        this.wait = new WebDriverWait(driver, Duration.ofSeconds(timeoutSec));
+    }
+
+    /**
+     * Runs the given actions inside the frame matching the locator, then returns to the previous context.
+     * <br>If the driver is already inside that frame, the actions run without any switch.
+     *
+     * @param locator  the type of locator used to find the frame (e.g., ID, XPath).
+     * @param selector the value of the locator.
+     * @param batch    the actions to run inside the frame.
+     * @throws org.openqa.selenium.TimeoutException if the frame isn't available within the timeout.
+     */
+    public void inFrame(UIActions.LocatorType locator, String selector, Consumer<UIActions> batch) {
+        String key = locator + "=" + selector;
+        Deque<String> path = framePath.get();
+        if (path != null && key.equals(path.peekLast())) {
+            log.debug("Already inside frame '{}', skipping the switch.", key);
+            batch.accept(uiActions);
+            return;
+        }
+
+        By frameLocator = uiActions.findLocator(locator, selector);
+        try {
+            wait.until(ExpectedConditions.frameToBeAvailableAndSwitchToIt(frameLocator));
+        } catch (Exception e) {
+            log.error("Frame '{}' isn't available within the timeout.", key);
+            throw e;
+        }
+        if (path != null) {
+            path.addLast(key);
+        }
+        log.info("Switched to frame '{}'.", key);
+
+        try {
+            batch.accept(uiActions);
+        } finally {
+            driver.switchTo().parentFrame();
+            path = framePath.get();
+            if (path != null && key.equals(path.peekLast())) {
+                path.removeLast();
+            }
+            log.info("Left frame '{}'.", key);
+        }
+    }
+
+    /**
+     * Switches to the top-level document, unless the driver is already known to be there.
+     */
+    public void toDefaultContent() {
+        Deque<String> path = framePath.get();
+        if (path != null && path.isEmpty()) {
+            return;
+        }
+        driver.switchTo().defaultContent();
+        markDefaultContent();
+        log.info("Switched to default content.");
+    }
+
+    /**
+     * Records that the driver of the current thread is on the top-level document,
+     * e.g. after a window switch, a new session or {@code switchTo().defaultContent()}.
+     */
+    public static void markDefaultContent() {
+        framePath.remove();
+    }
+
+    /**
+     * Records that the driver of the current thread switched frames outside this class,
+     * so the next batch always switches explicitly.
+     */
+    public static void markUnknown() {
+        framePath.set(null);
+    }
+}
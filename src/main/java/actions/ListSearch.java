@@ -0,0 +1,193 @@
+package actions;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebElement;
+import webdriverfactory.GetWebDriver;
+
+import java.util.Map;
+
+import static java.lang.invoke.MethodHandles.lookup;
+
+/**
+ * ListSearch finds an entry in a long, virtualized or paginated list by scanning it chunk by chunk
+ * and stopping at the first match, so the whole list is never read or rendered.
+ *
+ * <p>Key Features:
+ * <ul>
+ *   <li>Evaluates the text predicate over every rendered item of a chunk in a single script call.</li>
+ *   <li>Advances by scrolling the container (or the page, if the container doesn't scroll) one viewport at a time,
+ *       resolving on {@code scrollend} and rendered items instead of a fixed sleep.</li>
+ *   <li>Optionally follows a "next page" button once the end of the current page is reached.</li>
+ *   <li>Stops at the first visible match, scrolls it into view, and reports how many chunks it scanned.</li>
+ *   <li>Bounded by a maximum number of chunks.</li>
+ * </ul>
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ *   ListSearch listSearch = new ListSearch(5);
+ *   ListSearch.Result result = listSearch.find(UIActions.LocatorType.id, "unit_id_listbox", "[role='option']",
+ *           "3", ListSearch.Match.exact, 20);
+ *   if (result.found()) {
+ *       uiActions.click(result.element());
+ *   }
+ * }</pre>
+ *
+ * @author Hossam Atef
+ * @version 1.0
+ */
+public class ListSearch {
+
+    private static final Logger log = LogManager.getLogger(lookup().lookupClass());
+    private final JavascriptExecutor js;
+    private final long chunkTimeoutMillis;
+
+    /**
+     * Scans the rendered items of the container; on a match resolves with it, otherwise advances one chunk
+     * (scroll, or the next page button at the end) and resolves once the new chunk has rendered.
+     */
+    private static final String CHUNK_SEARCH_SCRIPT = ScriptLibrary.HELPERS +
+            "var container = __find(arguments[0], arguments[1]), itemCss = arguments[2], mode = arguments[4];" +
+            "var nextCss = arguments[5], timeout = arguments[6], done = arguments[arguments.length - 1];" +
+            "var expected = (arguments[3] || '').replace(/\\s+/g, ' ').trim();" +
+            "if (!container) { done({status: 'missing', scanned: 0}); return; }" +
+            "function matches(t) {" +
+            "  if (mode === 'exact') return t === expected;" +
+            "  if (mode === 'startsWith') return t.indexOf(expected) === 0;" +
+            "  return t.indexOf(expected) >= 0;" +
+            "}" +
+            "var items = container.querySelectorAll(itemCss);" +
+            "for (var i = 0; i < items.length; i++) {" +
+            "  var t = __text(items[i]);" +
+            "  if (t && matches(t) && __visible(items[i])) {" +
+            "    items[i].scrollIntoView({block: 'nearest'});" +
+            "    done({status: 'found', element: items[i], text: t, scanned: items.length}); return;" +
+            "  }" +
+            "}" +
+            "var root = document.scrollingElement || document.documentElement;" +
+            "var scroller = container.scrollHeight > container.clientHeight + 1 ? container : root;" +
+            "var atEnd = scroller.scrollTop + scroller.clientHeight >= scroller.scrollHeight - 1;" +
+            "var next = !atEnd || !nextCss ? null : document.querySelector(nextCss);" +
+            "if (atEnd && !(next && !next.disabled && next.getAttribute('aria-disabled') !== 'true' && __visible(next))) {" +
+            "  done({status: 'end', scanned: items.length}); return;" +
+            "}" +
+            "var finished = false, settleTimer, fallbackTimer;" +
+            "var scrollTarget = scroller === root ? document : scroller;" +
+            "var observer = new MutationObserver(settle);" +
+            "function finish() {" +
+            "  if (finished) return;" +
+            "  finished = true;" +
+            "  observer.disconnect();" +
+            "  scrollTarget.removeEventListener('scrollend', settle);" +
+            "  clearTimeout(settleTimer); clearTimeout(fallbackTimer);" +
+            "  done({status: atEnd ? 'nextPage' : 'scrolled', scanned: items.length});" +
+            "}" +
+            "function settle() { clearTimeout(settleTimer); settleTimer = setTimeout(finish, 100); }" +
+            "observer.observe(container, {childList: true, subtree: true, characterData: true});" +
+            "if (atEnd) {" +
+            "  next.click();" +
+            "} else {" +
+            "  scrollTarget.addEventListener('scrollend', settle);" +
+            "  scroller.scrollBy(0, Math.max(Math.round(scroller.clientHeight * 0.9), 50));" +
+            "}" +
+            "fallbackTimer = setTimeout(finish, timeout);";
+
+    /**
+     * Defines how an item's text is compared with the searched text.
+     */
+    public enum Match {
+        exact,
+        contains,
+        startsWith
+    }
+
+    /**
+     * The outcome of a search.
+     *
+     * @param element       the matched item, or {@code null} if nothing matched.
+     * @param text          the matched item's normalized text, or {@code null} if nothing matched.
+     * @param chunksScanned the number of chunks evaluated, including the one with the match.
+     */
+    public record Result(WebElement element, String text, int chunksScanned) {
+
+        /**
+         * @return {@code true} if an item matched.
+         */
+        public boolean found() {
+            return element != null;
+        }
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param chunkTimeoutSec the maximum number of seconds to wait for a new chunk to render after advancing,
+     *                        It should stay below the driver's script timeout (30 seconds by default).
+     */
+    public ListSearch(int chunkTimeoutSec) {
+        if (GetWebDriver.getLocalDriver() == null) {
+            log.error("WebDriver instance is null. WebDriver must be initialized before searching lists.");
+            throw new IllegalStateException("WebDriver has not been initialized.");
+        }
+        this.js = (JavascriptExecutor) GetWebDriver.getLocalDriver();
+        this.chunkTimeoutMillis = chunkTimeoutSec * 1000L;
+    }
+
+    /**
+     * Scrolls through the list chunk by chunk until an item matches.
+     *
+     * @param containerLocator  the type of locator of the scrollable list container.
+     * @param containerSelector the value of the container locator.
+     * @param itemCss           the CSS selector of the list items, relative to the container.
+     * @param text              the text to search for.
+     * @param match             how an item's text is compared with the searched text.
+     * @param maxChunks         the maximum number of chunks to scan.
+     * @return the search result, with {@link Result#found()} {@code false} if nothing matched.
+     */
+    public Result find(UIActions.LocatorType containerLocator, String containerSelector, String itemCss,
+                       String text, Match match, int maxChunks) {
+        return findAcrossPages(containerLocator, containerSelector, itemCss, null, text, match, maxChunks);
+    }
+
+    /**
+     * Scrolls through the list chunk by chunk, moving to the next page at the end of each page, until an item matches.
+     *
+     * @param containerLocator  the type of locator of the scrollable list container.
+     * @param containerSelector the value of the container locator.
+     * @param itemCss           the CSS selector of the list items, relative to the container.
+     * @param nextPageCss       the CSS selector of the "next page" button, or {@code null} for a single page.
+     * @param text              the text to search for.
+     * @param match             how an item's text is compared with the searched text.
+     * @param maxChunks         the maximum number of chunks to scan, pages included.
+     * @return the search result, with {@link Result#found()} {@code false} if nothing matched.
+     * @throws NoSuchElementException if the container isn't in the page.
+     */
+    @SuppressWarnings("unchecked")
+    public Result findAcrossPages(UIActions.LocatorType containerLocator, String containerSelector, String itemCss,
+                                  String nextPageCss, String text, Match match, int maxChunks) {
+        for (int chunk = 1; chunk <= maxChunks; chunk++) {
+            Map<String, Object> outcome = (Map<String, Object>) js.executeAsyncScript(CHUNK_SEARCH_SCRIPT,
+                    containerLocator.name(), containerSelector, itemCss, text, match.name(), nextPageCss, chunkTimeoutMillis);
+            String status = String.valueOf(outcome.get("status"));
+            switch (status) {
+                case "found" -> {
+                    log.info("Found '{}' in list [{}: '{}'] after scanning '{}' chunk(s).", outcome.get("text"), containerLocator, containerSelector, chunk);
+                    return new Result((WebElement) outcome.get("element"), (String) outcome.get("text"), chunk);
+                }
+                case "missing" -> {
+                    log.error("List container [{}: '{}'] isn't in the page.", containerLocator, containerSelector);
+                    throw new NoSuchElementException("List container [" + containerLocator + ": '" + containerSelector + "'] isn't in the page.");
+                }
+                case "end" -> {
+                    log.warn("'{}' isn't in list [{}: '{}'], Reached its end after '{}' chunk(s).", text, containerLocator, containerSelector, chunk);
+                    return new Result(null, null, chunk);
+                }
+                default -> log.debug("'{}' isn't in chunk '{}' of list [{}: '{}'], Advanced by '{}'.", text, chunk, containerLocator, containerSelector, status);
+            }
+        }
+        log.warn("'{}' isn't in the first '{}' chunk(s) of list [{}: '{}'].", text, maxChunks, containerLocator, containerSelector);
+        return new Result(null, null, maxChunks);
+    }
+}
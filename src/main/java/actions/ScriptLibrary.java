@@ -0,0 +1,93 @@
+package actions;
+
+/**
+ * ScriptLibrary holds the JavaScript fragments shared by the script-backed actions in this package.
+ * <br>Each fragment is plain ES5 so it can be prepended to any script sent through
+ * {@link org.openqa.selenium.JavascriptExecutor} and evaluated in a single round trip.
+ *
+ * <p>Key Features:
+ * <ul>
+ *   <li>{@code __find(type, selector, root)} resolves a {@link UIActions.LocatorType} inside the browser.</li>
+ *   <li>{@code __findAll(type, selector)} resolves every element matching a {@link UIActions.LocatorType}; it needs {@code __find}.</li>
+ *   <li>{@code __visible(element)} mirrors Selenium's displayed check closely enough for wait conditions.</li>
+ *   <li>{@code __text(element)} returns the trimmed, whitespace-normalized text of an element.</li>
+ * </ul>
+ *
+ * @author Hossam Atef
+ * @version 1.0
+ */
+final class ScriptLibrary {
+
+    /**
+     * Locates the first element matching a {@link UIActions.LocatorType} name and selector,
+     * optionally scoped to a root element, returning {@code null} when nothing matches.
+     */
+    static final String FIND_FUNCTION =
+            "function __find(type, sel, root) {" +
+            "  root = root || document;" +
+            "  switch (type) {" +
+            "    case 'id': return root === document ? document.getElementById(sel) : root.querySelector('#' + CSS.escape(sel));" +
+            "    case 'name': return root.querySelector('[name=\"' + CSS.escape(sel) + '\"]');" +
+            "    case 'className': return root.getElementsByClassName(sel)[0] || null;" +
+            "    case 'tagName': return root.getElementsByTagName(sel)[0] || null;" +
+            "    case 'css': return root.querySelector(sel);" +
+            "    case 'xPath': return document.evaluate(sel, root, null, XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue;" +
+            "    case 'linkText':" +
+            "    case 'partialLinkText':" +
+            "      var links = root.getElementsByTagName('a');" +
+            "      for (var i = 0; i < links.length; i++) {" +
+            "        var t = (links[i].innerText || '').trim();" +
+            "        if (type === 'linkText' ? t === sel : t.indexOf(sel) >= 0) return links[i];" +
+            "      }" +
+            "      return null;" +
+            "  }" +
+            "  return null;" +
+            "}";
+
+    /**
+     * Locates every element matching a {@link UIActions.LocatorType} name and selector, in document order;
+     * locator types that identify a single element return at most one.
+     */
+    static final String FIND_ALL_FUNCTION =
+            "function __findAll(type, sel) {" +
+            "  switch (type) {" +
+            "    case 'name': return Array.prototype.slice.call(document.querySelectorAll('[name=\"' + CSS.escape(sel) + '\"]'));" +
+            "    case 'className': return Array.prototype.slice.call(document.getElementsByClassName(sel));" +
+            "    case 'tagName': return Array.prototype.slice.call(document.getElementsByTagName(sel));" +
+            "    case 'css': return Array.prototype.slice.call(document.querySelectorAll(sel));" +
+            "    case 'xPath':" +
+            "      var r = document.evaluate(sel, document, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null), all = [];" +
+            "      for (var i = 0; i < r.snapshotLength; i++) all.push(r.snapshotItem(i));" +
+            "      return all;" +
+            "  }" +
+            "  var el = __find(type, sel);" +
+            "  return el ? [el] : [];" +
+            "}";
+
+    /**
+     * Returns {@code true} if the element is rendered and not hidden through CSS.
+     */
+    static final String VISIBLE_FUNCTION =
+            "function __visible(el) {" +
+            "  if (!el || !el.isConnected) return false;" +
+            "  var s = window.getComputedStyle(el);" +
+            "  if (s.visibility === 'hidden' || s.display === 'none' || s.opacity === '0') return false;" +
+            "  return !!(el.offsetWidth || el.offsetHeight || el.getClientRects().length);" +
+            "}";
+
+    /**
+     * Returns the trimmed, whitespace-normalized visible text of an element.
+     */
+    static final String TEXT_FUNCTION =
+            "function __text(el) {" +
+            "  return el ? (el.innerText || el.textContent || '').replace(/\\s+/g, ' ').trim() : '';" +
+            "}";
+
+    /**
+     * All helper functions concatenated, ready to be prepended to a script body.
+     */
+    static final String HELPERS = FIND_FUNCTION + VISIBLE_FUNCTION + TEXT_FUNCTION;
+
+    private ScriptLibrary() {
+    }
+}
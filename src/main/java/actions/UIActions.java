@@ -2,6 +2,9 @@ package actions;
 
 
 import org.openqa.selenium.support.ui.ExpectedCondition;
+import utility.ActionMetrics;
+import utility.DownloadManager;
+import utility.Filmstrip;
 import webdriverfactory.GetWebDriver;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -11,12 +14,14 @@ import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.Select;
 import org.openqa.selenium.support.ui.WebDriverWait;
 
-import java.io.File;
-import java.io.FilenameFilter;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static java.lang.invoke.MethodHandles.lookup;
@@ -44,9 +49,11 @@ public class UIActions {
 
     private static final Logger log = LogManager.getLogger(lookup().lookupClass());
     private final WebDriverWait wait;
+    private final Duration waitDuration;
     private final Actions actions;
     private final JavascriptExecutor js;
     private final WebDriver driver;
+    private static final ThreadLocal<Integer> maxStepRetries = ThreadLocal.withInitial(() -> 2);
 
 
     /**
@@ -59,7 +66,8 @@ public class UIActions {
         log.info("Initializing UIActions object.");
         checkNullDriver();
         driver = GetWebDriver.getLocalDriver();
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(waitDuration));
+        this.waitDuration = Duration.ofSeconds(waitDuration);
+        this.wait = new WebDriverWait(driver, this.waitDuration);
         this.actions = new Actions(driver);
         js = (JavascriptExecutor) driver;
         log.info("UIActions initialized with wait duration: '{}' seconds", waitDuration);
@@ -123,6 +131,110 @@ public class UIActions {
         index
     }
 
+    /**
+     * Describes one candidate result that {@link #waitForAny(Outcome...)} races against the others.
+     *
+     * @param name        A readable name reported back when this outcome wins (e.g., "success", "error").
+     * @param locator     The locator strategy.
+     * @param selector    The selector value.
+     * @param condition   The state the element must reach; {@code none} behaves like {@code presenceOfElement}.
+     * @param requireText Whether the element must also contain non-blank text to win.
+     */
+    public record Outcome(String name, LocatorType locator, String selector,
+                          ExplicitWaitCondition condition, boolean requireText) {
+
+        /**
+         * Creates an outcome that wins as soon as the element reaches the given condition.
+         */
+        public static Outcome of(String name, LocatorType locator, String selector, ExplicitWaitCondition condition) {
+            return new Outcome(name, locator, selector, condition, false);
+        }
+
+        /**
+         * Returns a copy of this outcome that only wins once the element contains non-blank text.
+         */
+        public Outcome withText() {
+            return new Outcome(name, locator, selector, condition, true);
+        }
+    }
+
+    /**
+     * The winning {@link Outcome} of a race together with its element and text, captured in the same round trip.
+     *
+     * @param outcome The outcome that won.
+     * @param element The element that satisfied the outcome.
+     * @param text    The trimmed visible text of the element at the time it won.
+     */
+    public record WaitResult(Outcome outcome, WebElement element, String text) {
+
+        /**
+         * Checks whether the given outcome name is the one that won.
+         */
+        public boolean is(String outcomeName) {
+            return outcome.name().equals(outcomeName);
+        }
+    }
+
+    /**
+     * Describes what {@link #clickAndAwait(LocatorType, String, ExplicitWaitCondition, Transition)} waits for after the click.
+     * <p>
+     * A marker is armed in the page right before the click, so a transition is only reported
+     * once it actually happened after that click.
+     * </p>
+     * <ul>
+     *     <li>{@link #navigation()} resolves once the document has been replaced (full page load).</li>
+     *     <li>{@link #urlChange()} resolves once the URL changes, including client-side routing, or the document is replaced.</li>
+     *     <li>{@link #domChange()} resolves on the first DOM mutation after the click, or once the document is replaced.</li>
+     *     <li>{@link #anyOf(Outcome...)} resolves once any of the given outcomes is satisfied by an element that
+     *     is new since the click: added, changed or revealed after it, or on a replaced document. An outcome
+     *     element that was already on the page before the click, like a stale error banner, doesn't count.</li>
+     * </ul>
+     */
+    public static final class Transition {
+
+        private final String kind;
+        private final Outcome[] outcomes;
+        private final Duration timeout;
+
+        private Transition(String kind, Outcome[] outcomes, Duration timeout) {
+            this.kind = kind;
+            this.outcomes = outcomes;
+            this.timeout = timeout;
+        }
+
+        public static Transition navigation() {
+            return new Transition("navigation", new Outcome[0], null);
+        }
+
+        public static Transition urlChange() {
+            return new Transition("urlChange", new Outcome[0], null);
+        }
+
+        public static Transition domChange() {
+            return new Transition("domChange", new Outcome[0], null);
+        }
+
+        public static Transition anyOf(Outcome... outcomes) {
+            if (outcomes == null || outcomes.length == 0) {
+                throw new IllegalArgumentException("At least one outcome must be provided to wait for.");
+            }
+            return new Transition("outcome", outcomes, null);
+        }
+
+        /**
+         * Returns a copy of this transition that waits up to the given number of seconds
+         * instead of the default wait duration of the {@link UIActions} instance.
+         */
+        public Transition within(int timeoutSec) {
+            return new Transition(kind, outcomes, Duration.ofSeconds(timeoutSec));
+        }
+
+        @Override
+        public String toString() {
+            return kind.equals("outcome") ? "anyOf" + Arrays.stream(outcomes).map(Outcome::name).toList() : kind;
+        }
+    }
+
     //________________________________________________________________________________________________________________//
     // Elements & Locators
 
@@ -141,6 +253,7 @@ public class UIActions {
     }
 
     public WebElement tryFindElement(LocatorType locator, String selector, ExplicitWaitCondition condition) {
+        long startNanos = ActionMetrics.start();
         try {
             return switch (condition) {
                 case presenceOfElement ->
@@ -153,6 +266,8 @@ public class UIActions {
             };
         } catch (Exception e) {
             return null;
+        } finally {
+            ActionMetrics.record("UIActions.tryFindElement", locator, condition, startNanos);
         }
     }
 
@@ -164,7 +279,7 @@ public class UIActions {
      * @param selector The selector value.
      * @return A By object representing the locator.
      */
-    private By findLocator(LocatorType locator, String selector) {
+    By findLocator(LocatorType locator, String selector) {
         return switch (locator) {
             case id -> By.id(selector);
             case name -> By.name(selector);
@@ -187,6 +302,7 @@ public class UIActions {
      * @return The found WebElement after waiting for the condition, or null if unsupported condition.
      */
     public WebElement findWebElement(LocatorType locator, String selector, ExplicitWaitCondition condition) {
+        long startNanos = ActionMetrics.start();
         try {
             WebElement element = switch (condition) {
                 case presenceOfElement ->
@@ -202,7 +318,8 @@ public class UIActions {
         } catch (Exception e) {
             log.error("Unable to find element located by [{}: '{}'] with wait condition '{}'.", locator, selector, condition);
             throw e;
-
+        } finally {
+            ActionMetrics.record("UIActions.findWebElement", locator, condition, startNanos);
         }
     }
 
@@ -217,6 +334,7 @@ public class UIActions {
      */
 
     public List<WebElement> findWebElements(LocatorType locator, String selector, ExplicitWaitCondition condition) {
+        long startNanos = ActionMetrics.start();
         try {
             By by = findLocator(locator, selector);
             List<WebElement> elements = switch (condition) {
@@ -233,6 +351,8 @@ public class UIActions {
         } catch (Exception e) {
             log.error("Error locating elements located by [{}: '{}'] with condition '{}'.", locator, selector, condition);
             throw e;
+        } finally {
+            ActionMetrics.record("UIActions.findWebElements", locator, condition, startNanos);
         }
     }
 
@@ -246,6 +366,7 @@ public class UIActions {
      * @return List of located WebElements within the context.
      */
     public List<WebElement> findWebElementsInParent(WebElement parent, LocatorType locator, String selector) {
+        long startNanos = ActionMetrics.start();
         try {
             By by = findLocator(locator, selector);
             List<WebElement> elements = parent.findElements(by);
@@ -254,6 +375,8 @@ public class UIActions {
         } catch (Exception e) {
             log.error("Error locating elements inside parent element [{}] using [{}: '{}'].", describeElement(parent), locator, selector);
             throw e;
+        } finally {
+            ActionMetrics.record("UIActions.findWebElementsInParent", locator, null, startNanos);
         }
     }
 
@@ -261,178 +384,349 @@ public class UIActions {
     //________________________________________________________________________________________________________________//
     //Element Interactions
 
+    /**
+     * Sets how many times a locator-based interaction is re-located and retried after a transient failure
+     * ({@link StaleElementReferenceException} or {@link ElementClickInterceptedException}).
+     * <br>Applies to the current thread only, so a test keeps the value it started with while others are set up.
+     *
+     * @param retries the maximum number of retries per interaction, 0 disables step retries.
+     */
+    public static void setMaxStepRetries(int retries) {
+        maxStepRetries.set(Math.max(retries, 0));
+        log.info("Step retries set to: '{}'.", maxStepRetries.get());
+    }
+
+    /**
+     * Locates the element and runs the interaction on it, re-locating and retrying when the element
+     * went stale or the click was intercepted, up to {@code maxStepRetries} times.
+     * <br>Each retry is counted in {@link ActionMetrics#countStepRetry(String, Throwable)}.
+     *
+     * @param action      the action name used in the retry counters.
+     * @param locator     The type of locator (e.g., ID, CSS, XPATH).
+     * @param selector    The locator string used to find the element.
+     * @param condition   The explicit wait condition to apply.
+     * @param interaction the interaction to run on the located element.
+     * @return the interaction result.
+     */
+    private <T> T readWithRelocateRetry(String action, LocatorType locator, String selector, ExplicitWaitCondition condition,
+                                        Function<WebElement, T> interaction) {
+        int attempt = 0;
+        int maxRetries = maxStepRetries.get();
+        while (true) {
+            try {
+                return interaction.apply(findWebElement(locator, selector, condition));
+            } catch (StaleElementReferenceException | ElementClickInterceptedException e) {
+                if (attempt >= maxRetries) {
+                    log.error("'{}' on element located by [{}: '{}'] failed after '{}' step retries.", action, locator, selector, attempt);
+                    throw e;
+                }
+                attempt++;
+                ActionMetrics.countStepRetry(action, e);
+                log.warn("'{}' on element located by [{}: '{}'] hit '{}', Re-locating and retrying ({}/{}).",
+                        action, locator, selector, e.getClass().getSimpleName(), attempt, maxRetries);
+                if (e instanceof ElementClickInterceptedException) {
+                    pauseBeforeRetry(attempt);
+                }
+            }
+        }
+    }
+
+    /**
+     * Runs an interaction without a result through {@link #readWithRelocateRetry(String, LocatorType, String, ExplicitWaitCondition, Function)}.
+     */
+    private void withRelocateRetry(String action, LocatorType locator, String selector, ExplicitWaitCondition condition,
+                                   Consumer<WebElement> interaction) {
+        readWithRelocateRetry(action, locator, selector, condition, element -> {
+            interaction.accept(element);
+            return null;
+        });
+    }
+
+    /**
+     * Gives an intercepting overlay a moment to go away, 100 ms more on each attempt.
+     */
+    private void pauseBeforeRetry(int attempt) {
+        try {
+            Thread.sleep(100L * attempt);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting to retry an interaction.", e);
+        }
+    }
+
+
     /**
      * Clicks an element identified by locator and wait condition.
      */
     public void click(LocatorType locator, String selector, ExplicitWaitCondition condition) {
-        findWebElement(locator, selector, condition).click();
-        log.info("Clicked on element located by [{}: '{}'].", locator, selector);
+        long startNanos = ActionMetrics.start();
+        try {
+            withRelocateRetry("UIActions.click", locator, selector, condition, WebElement::click);
+            log.info("Clicked on element located by [{}: '{}'].", locator, selector);
+        } finally {
+            ActionMetrics.record("UIActions.click", locator, condition, startNanos);
+        }
+        Filmstrip.capture(driver, "UIActions.click", locator + ": '" + selector + "'");
     }
 
     /**
      * Clicks a given WebElement.
      */
     public void click(WebElement element) {
-        element.click();
-        log.info("Clicked on WebElement: '{}'.", describeElement(element));
+        long startNanos = ActionMetrics.start();
+        try {
+            element.click();
+            log.info("Clicked on WebElement: '{}'.", describeElement(element));
+        } finally {
+            ActionMetrics.record("UIActions.click", startNanos);
+        }
+        Filmstrip.capture(driver, "UIActions.click", null);
     }
 
     /**
      * Clears text from an element identified by locator and wait condition.
      */
     public void clearText(LocatorType locator, String selector, ExplicitWaitCondition condition) {
-        findWebElement(locator, selector, condition).clear();
-        log.info("Cleared text from element located by [{}: '{}'].", locator, selector);
+        long startNanos = ActionMetrics.start();
+        try {
+            withRelocateRetry("UIActions.clearText", locator, selector, condition, WebElement::clear);
+            log.info("Cleared text from element located by [{}: '{}'].", locator, selector);
+        } finally {
+            ActionMetrics.record("UIActions.clearText", locator, condition, startNanos);
+        }
     }
 
     /**
      * Clears text from a given WebElement.
      */
     public void clearText(WebElement element) {
-        element.clear();
-        log.info("Cleared text from WebElement: '{}'.", describeElement(element));
+        long startNanos = ActionMetrics.start();
+        try {
+            element.clear();
+            log.info("Cleared text from WebElement: '{}'.", describeElement(element));
+        } finally {
+            ActionMetrics.record("UIActions.clearText", startNanos);
+        }
     }
 
     /**
      * Sends keys to an element identified by locator and wait condition.
      */
     public void sendKeys(LocatorType locator, String selector, ExplicitWaitCondition condition, String text) {
-        findWebElement(locator, selector, condition).sendKeys(text);
-        log.info("Sent text '{}' to element located by [{}: '{}'].", text, locator, selector);
-
+        long startNanos = ActionMetrics.start();
+        try {
+            withRelocateRetry("UIActions.sendKeys", locator, selector, condition, element -> element.sendKeys(text));
+            log.info("Sent text '{}' to element located by [{}: '{}'].", text, locator, selector);
+        } finally {
+            ActionMetrics.record("UIActions.sendKeys", locator, condition, startNanos);
+        }
     }
 
     /**
      * Sends keys to a given WebElement.
      */
     public void sendKeys(WebElement element, String text) {
-        element.sendKeys(text);
-        log.info("Sent text '{}' to WebElement: '{}'.", text, describeElement(element));
-
+        long startNanos = ActionMetrics.start();
+        try {
+            element.sendKeys(text);
+            log.info("Sent text '{}' to WebElement: '{}'.", text, describeElement(element));
+        } finally {
+            ActionMetrics.record("UIActions.sendKeys", startNanos);
+        }
     }
 
     /**
      * Gets text from an element identified by locator and wait condition.
      */
     public String getElementText(LocatorType locator, String selector, ExplicitWaitCondition condition) {
-        String text = findWebElement(locator, selector, condition).getText();
-        log.info("Retrieved text from element located by [{}: '{}']: '{}'.", locator, selector, text);
-        return text;
+        long startNanos = ActionMetrics.start();
+        try {
+            String text = readWithRelocateRetry("UIActions.getElementText", locator, selector, condition, WebElement::getText);
+            log.info("Retrieved text from element located by [{}: '{}']: '{}'.", locator, selector, text);
+            return text;
+        } finally {
+            ActionMetrics.record("UIActions.getElementText", locator, condition, startNanos);
+        }
     }
 
     /**
      * Gets text from a given WebElement.
      */
     public String getElementText(WebElement element) {
-        String text = element.getText();
-        log.info("Retrieved text from WebElement: '{}'.", text);
-        return text;
+        long startNanos = ActionMetrics.start();
+        try {
+            String text = element.getText();
+            log.info("Retrieved text from WebElement: '{}'.", text);
+            return text;
+        } finally {
+            ActionMetrics.record("UIActions.getElementText", startNanos);
+        }
     }
 
     /**
      * Checks if an element is displayed.
      */
     public boolean isElementDisplayed(LocatorType locator, String selector, ExplicitWaitCondition condition) {
-        boolean displayed = findWebElement(locator, selector, condition).isDisplayed();
-        log.info("Element located by [{}: '{}'] is displayed: '{}'.", locator, selector, displayed);
-        return displayed;
+        long startNanos = ActionMetrics.start();
+        try {
+            boolean displayed = readWithRelocateRetry("UIActions.isElementDisplayed", locator, selector, condition, WebElement::isDisplayed);
+            log.info("Element located by [{}: '{}'] is displayed: '{}'.", locator, selector, displayed);
+            return displayed;
+        } finally {
+            ActionMetrics.record("UIActions.isElementDisplayed", locator, condition, startNanos);
+        }
     }
 
     /**
      * Checks if a WebElement is displayed.
      */
     public boolean isElementDisplayed(WebElement element) {
-        boolean displayed = element.isDisplayed();
-        log.info("WebElement '{}' is displayed: '{}'.", describeElement(element), displayed);
-        return displayed;
+        long startNanos = ActionMetrics.start();
+        try {
+            boolean displayed = element.isDisplayed();
+            log.info("WebElement '{}' is displayed: '{}'.", describeElement(element), displayed);
+            return displayed;
+        } finally {
+            ActionMetrics.record("UIActions.isElementDisplayed", startNanos);
+        }
     }
 
     /**
      * Checks if an element is enabled.
      */
     public boolean isElementEnabled(LocatorType locator, String selector, ExplicitWaitCondition condition) {
-        boolean enabled = findWebElement(locator, selector, condition).isEnabled();
-        log.info("Element located by [{}: '{}'] is enabled: '{}'.", locator, selector, enabled);
-        return enabled;
+        long startNanos = ActionMetrics.start();
+        try {
+            boolean enabled = readWithRelocateRetry("UIActions.isElementEnabled", locator, selector, condition, WebElement::isEnabled);
+            log.info("Element located by [{}: '{}'] is enabled: '{}'.", locator, selector, enabled);
+            return enabled;
+        } finally {
+            ActionMetrics.record("UIActions.isElementEnabled", locator, condition, startNanos);
+        }
     }
 
     /**
      * Checks if a WebElement is enabled.
      */
     public boolean isElementEnabled(WebElement element) {
-        boolean enabled = element.isEnabled();
-        log.info("WebElement '{}' is enabled: '{}'.", describeElement(element), enabled);
-        return enabled;
+        long startNanos = ActionMetrics.start();
+        try {
+            boolean enabled = element.isEnabled();
+            log.info("WebElement '{}' is enabled: '{}'.", describeElement(element), enabled);
+            return enabled;
+        } finally {
+            ActionMetrics.record("UIActions.isElementEnabled", startNanos);
+        }
     }
 
     /**
      * Checks if an element is selected.
      */
     public boolean isElementSelected(LocatorType locator, String selector, ExplicitWaitCondition condition) {
-        boolean selected = findWebElement(locator, selector, condition).isSelected();
-        log.info("Element located by [{}: '{}'] is selected: '{}'.", locator, selector, selected);
-        return selected;
+        long startNanos = ActionMetrics.start();
+        try {
+            boolean selected = readWithRelocateRetry("UIActions.isElementSelected", locator, selector, condition, WebElement::isSelected);
+            log.info("Element located by [{}: '{}'] is selected: '{}'.", locator, selector, selected);
+            return selected;
+        } finally {
+            ActionMetrics.record("UIActions.isElementSelected", locator, condition, startNanos);
+        }
     }
 
     /**
      * Checks if a WebElement is selected.
      */
     public boolean isElementSelected(WebElement element) {
-        boolean selected = element.isSelected();
-        log.info("WebElement '{}' is enabled: '{}'.", describeElement(element), selected);
-        return selected;
+        long startNanos = ActionMetrics.start();
+        try {
+            boolean selected = element.isSelected();
+            log.info("WebElement '{}' is enabled: '{}'.", describeElement(element), selected);
+            return selected;
+        } finally {
+            ActionMetrics.record("UIActions.isElementSelected", startNanos);
+        }
     }
 
     /**
      * Gets an attribute value from an element.
      */
     public String getElementAttribute(LocatorType locator, String selector, ExplicitWaitCondition condition, String attributeName) {
-        String value = findWebElement(locator, selector, condition).getDomAttribute(attributeName);
-        log.info("Retrieved attribute '{}' from element located by [{}: '{}'] is '{}'.", attributeName, locator, selector, value);
-        return value;
+        long startNanos = ActionMetrics.start();
+        try {
+            String value = readWithRelocateRetry("UIActions.getElementAttribute", locator, selector, condition, element -> element.getDomAttribute(attributeName));
+            log.info("Retrieved attribute '{}' from element located by [{}: '{}'] is '{}'.", attributeName, locator, selector, value);
+            return value;
+        } finally {
+            ActionMetrics.record("UIActions.getElementAttribute", locator, condition, startNanos);
+        }
     }
 
     /**
      * Gets an attribute value from a WebElement.
      */
     public String getElementAttribute(WebElement element, String attributeName) {
-        String value = element.getDomAttribute(attributeName);
-        log.info("Retrieved attribute '{}' from WebElement '{}' is '{}'.", attributeName, describeElement(element), value);
-        return value;
+        long startNanos = ActionMetrics.start();
+        try {
+            String value = element.getDomAttribute(attributeName);
+            log.info("Retrieved attribute '{}' from WebElement '{}' is '{}'.", attributeName, describeElement(element), value);
+            return value;
+        } finally {
+            ActionMetrics.record("UIActions.getElementAttribute", startNanos);
+        }
     }
 
     /**
      * Gets the tag name of an element.
      */
     public String getElementTagName(LocatorType locator, String selector, ExplicitWaitCondition condition) {
-        String tagName = findWebElement(locator, selector, condition).getTagName();
-        log.info("Retrieved tag name from element located by [{}: '{}'] is '{}'.", locator, selector, tagName);
-        return tagName;
+        long startNanos = ActionMetrics.start();
+        try {
+            String tagName = readWithRelocateRetry("UIActions.getElementTagName", locator, selector, condition, WebElement::getTagName);
+            log.info("Retrieved tag name from element located by [{}: '{}'] is '{}'.", locator, selector, tagName);
+            return tagName;
+        } finally {
+            ActionMetrics.record("UIActions.getElementTagName", locator, condition, startNanos);
+        }
     }
 
     /**
      * Gets the tag name of a WebElement.
      */
     public String getElementTagName(WebElement element) {
-        String tagName = element.getTagName();
-        log.info("Retrieved tag name from WebElement '{}' is '{}'.", describeElement(element), tagName);
-        return tagName;
+        long startNanos = ActionMetrics.start();
+        try {
+            String tagName = element.getTagName();
+            log.info("Retrieved tag name from WebElement '{}' is '{}'.", describeElement(element), tagName);
+            return tagName;
+        } finally {
+            ActionMetrics.record("UIActions.getElementTagName", startNanos);
+        }
     }
 
     /**
      * Executes JavaScript code on an element.
      */
     public void executeJavaScriptCode(LocatorType locator, String selector, ExplicitWaitCondition condition, String javaScript) {
-        js.executeScript(javaScript, findWebElement(locator, selector, condition));
-        log.info("Executed JavaScript on element located by [{}: '{}'] with script: '{}'.", locator, selector, javaScript);
+        long startNanos = ActionMetrics.start();
+        try {
+            withRelocateRetry("UIActions.executeJavaScriptCode", locator, selector, condition, element -> js.executeScript(javaScript, element));
+            log.info("Executed JavaScript on element located by [{}: '{}'] with script: '{}'.", locator, selector, javaScript);
+        } finally {
+            ActionMetrics.record("UIActions.executeJavaScriptCode", locator, condition, startNanos);
+        }
     }
 
     /**
      * Executes JavaScript code on a WebElement.
      */
     public void executeJavaScriptCode(WebElement element, String javaScript) {
-        js.executeScript(javaScript, element);
-        log.info("Executed JavaScript on WebElement '{}' with script: '{}'", describeElement(element), javaScript);
+        long startNanos = ActionMetrics.start();
+        try {
+            js.executeScript(javaScript, element);
+            log.info("Executed JavaScript on WebElement '{}' with script: '{}'", describeElement(element), javaScript);
+        } finally {
+            ActionMetrics.record("UIActions.executeJavaScriptCode", startNanos);
+        }
     }
 
     /**
@@ -446,6 +740,7 @@ public class UIActions {
      * @throws TimeoutException If the attribute does not contain the expected value within the timeout.
      */
     public void waitForAttributeContainsValueOrFail(WebElement element, String attributeName, String expectedValue, int timeoutSec) {
+        long startNanos = ActionMetrics.start();
         try {
             WebDriverWait customWait = new WebDriverWait(driver, Duration.ofSeconds(timeoutSec));
 
@@ -460,6 +755,8 @@ public class UIActions {
         } catch (Exception e) {
             log.error("Attribute '{}' of element '{}' doesn't contain '{}'.", attributeName, describeElement(element), expectedValue);
             throw e;
+        } finally {
+            ActionMetrics.record("UIActions.waitForAttributeContainsValueOrFail", startNanos);
         }
     }
 
@@ -479,6 +776,7 @@ public class UIActions {
      * @throws TimeoutException If the element is not interactable within the timeout period.
      */
     public void waitUntilElementIsVisibleAndInteractableOrFail(WebElement element, int timeoutSec) {
+        long startNanos = ActionMetrics.start();
         try {
             WebDriverWait customWait = new WebDriverWait(driver, Duration.ofSeconds(timeoutSec));
 
@@ -497,10 +795,13 @@ public class UIActions {
             log.error("Element '{}' is not interactable (visible, enabled, and not readonly) within {} seconds.",
                     describeElement(element), timeoutSec);
             throw e;
+        } finally {
+            ActionMetrics.record("UIActions.waitUntilElementIsVisibleAndInteractableOrFail", startNanos);
         }
     }
 
     public void waitUntilInvisibilityOfElement(WebElement element, int timeoutSec) {
+        long startNanos = ActionMetrics.start();
         try {
             WebDriverWait customWait = new WebDriverWait(driver, Duration.ofSeconds(timeoutSec));
             customWait.until(ExpectedConditions.invisibilityOf(element));
@@ -508,6 +809,8 @@ public class UIActions {
         } catch (Exception e) {
             log.error("An error occurred while waiting for element '{}' to become invisible", describeElement(element));
             throw e;
+        } finally {
+            ActionMetrics.record("UIActions.waitUntilInvisibilityOfElement", startNanos);
         }
     }
 
@@ -522,6 +825,7 @@ public class UIActions {
      * @throws Exception if the element does not contain text within the timeout.
      */
     public void waitUntilElementHaveText(WebElement element, int timeoutSec) {
+        long startNanos = ActionMetrics.start();
         try {
             WebDriverWait customWait = new WebDriverWait(driver, Duration.ofSeconds(timeoutSec));
 
@@ -536,68 +840,365 @@ public class UIActions {
             log.error("Text is not shown for '{}' element within '{}' seconds.",
                     describeElement(element), timeoutSec);
             throw e;
+        } finally {
+            ActionMetrics.record("UIActions.waitUntilElementHaveText", startNanos);
         }
     }
 
     /**
-     * Waits until at least one file appears in the specified download directory within the given timeout.
+     * Waits until at least one completed file is in the specified download directory within the given timeout.
      *
-     * <p>This method is useful for verifying that a file download has completed by checking the presence
-     * of files in the target directory. It uses WebDriverWait to poll the directory contents.</p>
+     * <p>In-progress downloads ({@code .crdownload}, {@code .part}, ...) are ignored, and a file only counts once
+     * its size is stable. The directory is watched with {@link DownloadManager} instead of being polled.</p>
      *
      * @param downloadDirPath The absolute path to the download directory.
      * @param timeoutSec      The maximum time to wait in seconds before timing out.
-     * @throws Exception if no files are found in the directory within the timeout.
+     * @throws TimeoutException if no completed file is found in the directory within the timeout.
      */
     public void waitUntilFilesAreDownloaded(String downloadDirPath, int timeoutSec) {
-        File downloadDir = new File(downloadDirPath);
+        long startNanos = ActionMetrics.start();
+        try {
+            DownloadManager.waitForDownloads(Path.of(downloadDirPath), 1, null, timeoutSec);
+        } finally {
+            ActionMetrics.record("UIActions.waitUntilFilesAreDownloaded", startNanos);
+        }
+    }
 
+    /**
+     * Waits until exactly two completed PDF files are in the specified download directory within the given timeout;
+     * a third PDF keeps it waiting until the timeout.
+     *
+     * <p>In-progress downloads ({@code .crdownload}, {@code .part}, ...) are ignored, and a file only counts once
+     * its size is stable. The directory is watched with {@link DownloadManager} instead of being polled.</p>
+     *
+     * @param downloadDirPath The absolute path to the download directory.
+     * @param timeoutSec      The maximum time to wait in seconds before timing out.
+     * @throws TimeoutException if exactly two completed PDF files are not found in the directory within the timeout.
+     */
+    public void waitUntilTwoPdfFilesAreDownloaded(String downloadDirPath, int timeoutSec) {
+        long startNanos = ActionMetrics.start();
         try {
-            WebDriverWait customWait = new WebDriverWait(driver, Duration.ofSeconds(timeoutSec));
+            DownloadManager.waitForDownloads(Path.of(downloadDirPath), 2, true, ".pdf", timeoutSec);
+        } finally {
+            ActionMetrics.record("UIActions.waitUntilTwoPdfFilesAreDownloaded", startNanos);
+        }
+    }
 
-            customWait.until((ExpectedCondition<Boolean>) driver -> {
-                File[] files = downloadDir.listFiles();
-                return files != null && files.length > 0;
-            });
+    //________________________________________________________________________________________________________________//
+    //Race Waits & Transitions
 
-            log.info("Files have successfully downloaded to '{}'.", downloadDirPath);
+    /**
+     * Script evaluating every outcome in order and returning {@code [index, element, text]} of the first one
+     * satisfied, or {@code null} if none is satisfied yet.
+     */
+    private static final String WAIT_FOR_ANY_SCRIPT = ScriptLibrary.HELPERS +
+            "var outcomes = arguments[0];" +
+            "for (var i = 0; i < outcomes.length; i++) {" +
+            "  var o = outcomes[i];" +
+            "  var el = __find(o[0], o[1]);" +
+            "  if (!el) continue;" +
+            "  if (o[2] !== 'presenceOfElement' && o[2] !== 'none' && !__visible(el)) continue;" +
+            "  if (o[2] === 'elementToBeClickable' && el.disabled) continue;" +
+            "  var text = __text(el);" +
+            "  if (o[3] && !text) continue;" +
+            "  return [i, el, text];" +
+            "}" +
+            "return null;";
 
-        } catch (Exception e) {
-            log.error("Files haven't successfully downloaded within '{}' seconds.", timeoutSec);
-            throw e;
+    /**
+     * Waits until any of the given outcomes is satisfied using the default wait duration of this instance.
+     *
+     * @param outcomes The candidate outcomes, evaluated in the given order on each poll.
+     * @return The winning outcome together with its element and text.
+     * @throws TimeoutException If no outcome is satisfied within the wait duration.
+     */
+    public WaitResult waitForAny(Outcome... outcomes) {
+        long startNanos = ActionMetrics.start();
+        try {
+            return waitForAny(wait, outcomes);
+        } finally {
+            ActionMetrics.record("UIActions.waitForAny", startNanos);
         }
     }
 
     /**
-     * Waits until exactly two PDF files appear in the specified download directory within the given timeout.
+     * Waits until any of the given outcomes is satisfied, polling every 500 milliseconds.
      *
-     * <p>This method is useful for verifying that a file download has completed by checking for the presence
-     * of two files with a ".pdf" extension in the target directory. It uses WebDriverWait to poll the directory contents.</p>
+     * @param timeoutSec Maximum number of seconds to wait.
+     * @param outcomes   The candidate outcomes, evaluated in the given order on each poll.
+     * @return The winning outcome together with its element and text.
+     * @throws TimeoutException If no outcome is satisfied within the timeout.
+     */
+    public WaitResult waitForAny(int timeoutSec, Outcome... outcomes) {
+        long startNanos = ActionMetrics.start();
+        try {
+            return waitForAny(Duration.ofSeconds(timeoutSec), Duration.ofMillis(500), outcomes);
+        } finally {
+            ActionMetrics.record("UIActions.waitForAny", startNanos);
+        }
+    }
+
+    /**
+     * Waits until any of the given outcomes is satisfied.
+     * <p>
+     * All outcomes are checked by a single script per poll, so each poll costs one round trip
+     * no matter how many outcomes are raced. When several outcomes are satisfied on the same poll,
+     * the first one in argument order wins.
+     * </p>
      *
-     * @param downloadDirPath The absolute path to the download directory.
-     * @param timeoutSec      The maximum time to wait in seconds before timing out.
-     * @throws Exception if two PDF files are not found in the directory within the timeout.
+     * @param timeout         Maximum time to wait.
+     * @param pollingInterval Time to sleep between two polls.
+     * @param outcomes        The candidate outcomes, evaluated in the given order on each poll.
+     * @return The winning outcome together with its element and text.
+     * @throws TimeoutException If no outcome is satisfied within the timeout.
      */
-    public void waitUntilTwoPdfFilesAreDownloaded(String downloadDirPath, int timeoutSec) {
-        File downloadDir = new File(downloadDirPath);
+    public WaitResult waitForAny(Duration timeout, Duration pollingInterval, Outcome... outcomes) {
+        long startNanos = ActionMetrics.start();
+        try {
+            WebDriverWait customWait = new WebDriverWait(driver, timeout);
+            customWait.pollingEvery(pollingInterval);
+            return waitForAny(customWait, outcomes);
+        } finally {
+            ActionMetrics.record("UIActions.waitForAny", startNanos);
+        }
+    }
 
+    private WaitResult waitForAny(WebDriverWait customWait, Outcome... outcomes) {
+        if (outcomes == null || outcomes.length == 0) {
+            log.error("No outcomes were provided to wait for.");
+            throw new IllegalArgumentException("At least one outcome must be provided to wait for.");
+        }
+        List<String> names = Arrays.stream(outcomes).map(Outcome::name).toList();
         try {
-            WebDriverWait customWait = new WebDriverWait(driver, Duration.ofSeconds(timeoutSec));
+            WaitResult result = customWait.until((ExpectedCondition<WaitResult>) driver -> findAny(outcomes));
+            log.info("Outcome '{}' won the race between '{}' with text '{}'.", result.outcome().name(), names, result.text());
+            return result;
+        } catch (Exception e) {
+            log.error("None of the outcomes '{}' was satisfied within the timeout.", names);
+            throw e;
+        }
+    }
 
-            customWait.until((ExpectedCondition<Boolean>) driver -> {
+    /**
+     * Evaluates all outcomes once, in a single script call, without waiting.
+     *
+     * @param outcomes The candidate outcomes, evaluated in the given order.
+     * @return The first satisfied outcome together with its element and text, or {@code null} if none is satisfied.
+     */
+    public WaitResult findAny(Outcome... outcomes) {
+        long startNanos = ActionMetrics.start();
+        try {
+            List<List<Object>> arguments = new ArrayList<>(outcomes.length);
+            for (Outcome outcome : outcomes) {
+                arguments.add(List.of(outcome.locator().name(), outcome.selector(), outcome.condition().name(), outcome.requireText()));
+            }
+            Object raw = js.executeScript(WAIT_FOR_ANY_SCRIPT, arguments);
+            if (!(raw instanceof List<?> winner)) {
+                return null;
+            }
+            Outcome outcome = outcomes[((Number) winner.get(0)).intValue()];
+            return new WaitResult(outcome, (WebElement) winner.get(1), String.valueOf(winner.get(2)));
+        } finally {
+            ActionMetrics.record("UIActions.findAny", startNanos);
+        }
+    }
 
-                File[] pdfFiles = downloadDir.listFiles((dir, name) -> name.toLowerCase().endsWith(".pdf"));
-                return pdfFiles != null && pdfFiles.length == 2;
-            });
+    /**
+     * Installs the transition marker: a per-click token on {@code window}, the current URL, the clicked element,
+     * and a MutationObserver counting DOM mutations from now on.
+     * <br>The observer also stamps the token on the nodes it sees: added nodes, nodes whose attributes changed,
+     * nodes whose visibility attributes changed, and every ancestor of changed text.
+     */
+    private static final String ARM_FUNCTION =
+            "function __arm(token, clicked) {" +
+            "  window.__uiActionsMarker = token;" +
+            "  window.__uiActionsUrl = location.href;" +
+            "  window.__uiActionsClicked = clicked || null;" +
+            "  window.__uiActionsMutations = 0;" +
+            "  if (window.__uiActionsObserver) window.__uiActionsObserver.disconnect();" +
+            "  window.__uiActionsObserver = new MutationObserver(function (records) {" +
+            "    window.__uiActionsMutations += records.length;" +
+            "    for (var i = 0; i < records.length; i++) {" +
+            "      var r = records[i], n;" +
+            "      if (r.type === 'attributes') {" +
+            "        r.target.__uiaChanged = token;" +
+            "        if (/^(class|style|hidden|aria-hidden|open)$/.test(r.attributeName)) r.target.__uiaShown = token;" +
+            "        continue;" +
+            "      }" +
+            "      if (r.type === 'childList') {" +
+            "        for (var j = 0; j < r.addedNodes.length; j++) r.addedNodes[j].__uiaAdded = token;" +
+            "      }" +
+            "      for (n = r.type === 'characterData' ? r.target.parentNode : r.target; n; n = n.parentNode) n.__uiaText = token;" +
+            "    }" +
+            "  });" +
+            "  window.__uiActionsObserver.observe(document.documentElement, {childList: true, subtree: true, attributes: true, characterData: true});" +
+            "}";
+
+    /**
+     * Returns {@code true} if the element is new since the marker was armed: the document was replaced,
+     * the element or its text changed, it or an ancestor was added, or an ancestor that doesn't hold the
+     * clicked element was revealed.
+     */
+    private static final String FRESH_FUNCTION =
+            "function __fresh(el, token) {" +
+            "  if (window.__uiActionsMarker !== token) return true;" +
+            "  if (el.__uiaChanged === token || el.__uiaText === token) return true;" +
+            "  var clicked = window.__uiActionsClicked;" +
+            "  for (var n = el; n; n = n.parentNode) {" +
+            "    if (n.__uiaAdded === token) return true;" +
+            "    if (n !== el && n.__uiaShown === token && !(clicked && n.contains(clicked))) return true;" +
+            "  }" +
+            "  return false;" +
+            "}";
+
+    /**
+     * Finds the click target, checks its wait condition and arms the transition marker, all in one call.
+     */
+    private static final String FIND_AND_ARM_SCRIPT = ScriptLibrary.HELPERS + ARM_FUNCTION +
+            "var el = __find(arguments[0], arguments[1]);" +
+            "if (!el) return null;" +
+            "var c = arguments[2];" +
+            "if (c !== 'presenceOfElement' && c !== 'none' && !__visible(el)) return null;" +
+            "if (c === 'elementToBeClickable' && el.disabled) return null;" +
+            "__arm(arguments[3], el);" +
+            "return el;";
 
-            log.info("Two PDF files have successfully downloaded to '{}'.", downloadDirPath);
+    private static final String ARM_SCRIPT = ARM_FUNCTION + "__arm(arguments[0], arguments[1]);";
 
+    /**
+     * Returns {@code true} once the armed transition happened.
+     */
+    private static final String TRANSITION_SCRIPT =
+            "var token = arguments[0], kind = arguments[1];" +
+            "if (window.__uiActionsMarker !== token) return true;" +
+            "if (kind === 'urlChange') return location.href !== window.__uiActionsUrl;" +
+            "if (kind === 'domChange') return window.__uiActionsMutations > 0;" +
+            "return false;";
+
+    /**
+     * Script evaluating every outcome in order against all of its matching elements, and returning
+     * {@code [index, element, text]} of the first one satisfied by an element that is new since the marker
+     * was armed, or {@code null} if none is satisfied yet.
+     */
+    private static final String TRANSITION_OUTCOME_SCRIPT = ScriptLibrary.HELPERS + ScriptLibrary.FIND_ALL_FUNCTION + FRESH_FUNCTION +
+            "var token = arguments[0], outcomes = arguments[1];" +
+            "for (var i = 0; i < outcomes.length; i++) {" +
+            "  var o = outcomes[i], els = __findAll(o[0], o[1]);" +
+            "  for (var j = 0; j < els.length; j++) {" +
+            "    var el = els[j];" +
+            "    if (!__fresh(el, token)) continue;" +
+            "    if (o[2] !== 'presenceOfElement' && o[2] !== 'none' && !__visible(el)) continue;" +
+            "    if (o[2] === 'elementToBeClickable' && el.disabled) continue;" +
+            "    var text = __text(el);" +
+            "    if (o[3] && !text) continue;" +
+            "    return [i, el, text];" +
+            "  }" +
+            "}" +
+            "return null;";
+
+    /**
+     * Clicks an element identified by locator and wait condition, then waits for the given transition.
+     * <p>
+     * The element lookup and the arming of the transition marker happen in the same script call,
+     * the element is clicked exactly once, and every poll afterwards costs a single script call.
+     * </p>
+     *
+     * @param locator    The locator strategy.
+     * @param selector   The selector value.
+     * @param condition  The wait condition the element must reach before being clicked.
+     * @param transition The transition that is expected to follow the click.
+     * @return The winning outcome for {@link Transition#anyOf(Outcome...)} transitions, {@code null} otherwise.
+     * @throws TimeoutException If the element or the transition does not appear within the timeout.
+     */
+    public WaitResult clickAndAwait(LocatorType locator, String selector, ExplicitWaitCondition condition, Transition transition) {
+        long startNanos = ActionMetrics.start();
+        WaitResult result;
+        try {
+            String token = newTransitionToken();
+            WebElement element;
+            try {
+                element = wait.until((ExpectedCondition<WebElement>) driver ->
+                        (WebElement) js.executeScript(FIND_AND_ARM_SCRIPT, locator.name(), selector, condition.name(), token));
+            } catch (Exception e) {
+                log.error("Unable to find element located by [{}: '{}'] with wait condition '{}'.", locator, selector, condition);
+                throw e;
+            }
+            element.click();
+            log.info("Clicked on element located by [{}: '{}'], awaiting transition '{}'.", locator, selector, transition);
+            result = awaitTransition(token, transition);
+        } finally {
+            ActionMetrics.record("UIActions.clickAndAwait", locator, condition, startNanos);
+        }
+        Filmstrip.capture(driver, "UIActions.clickAndAwait", locator + ": '" + selector + "'");
+        return result;
+    }
+
+    /**
+     * Clicks a given WebElement, then waits for the given transition.
+     *
+     * @param element    The WebElement to click.
+     * @param transition The transition that is expected to follow the click.
+     * @return The winning outcome for {@link Transition#anyOf(Outcome...)} transitions, {@code null} otherwise.
+     * @throws TimeoutException If the transition does not happen within the timeout.
+     */
+    public WaitResult clickAndAwait(WebElement element, Transition transition) {
+        long startNanos = ActionMetrics.start();
+        WaitResult result;
+        try {
+            String token = newTransitionToken();
+            js.executeScript(ARM_SCRIPT, token, element);
+            element.click();
+            log.info("Clicked on WebElement: '{}', awaiting transition '{}'.", describeElement(element), transition);
+            result = awaitTransition(token, transition);
+        } finally {
+            ActionMetrics.record("UIActions.clickAndAwait", startNanos);
+        }
+        Filmstrip.capture(driver, "UIActions.clickAndAwait", null);
+        return result;
+    }
+
+    private String newTransitionToken() {
+        return UUID.randomUUID().toString();
+    }
+
+    private WaitResult awaitTransition(String token, Transition transition) {
+        WebDriverWait customWait = new WebDriverWait(driver, transition.timeout == null ? waitDuration : transition.timeout);
+        customWait.ignoring(JavascriptException.class);
+        try {
+            WaitResult result;
+            if (transition.outcomes.length > 0) {
+                result = customWait.until((ExpectedCondition<WaitResult>) driver -> findFreshOutcome(token, transition.outcomes));
+                log.info("Transition '{}' resolved with outcome '{}'.", transition, result.outcome().name());
+            } else {
+                customWait.until((ExpectedCondition<Boolean>) driver ->
+                        Boolean.TRUE.equals(js.executeScript(TRANSITION_SCRIPT, token, transition.kind)));
+                result = null;
+                log.info("Transition '{}' happened.", transition);
+            }
+            return result;
         } catch (Exception e) {
-            log.error("Two PDF files haven't successfully downloaded within '{}' seconds.", timeoutSec);
+            log.error("Transition '{}' didn't happen within the timeout.", transition);
             throw e;
         }
     }
 
+    /**
+     * Evaluates all outcomes once, like {@link #findAny(Outcome...)}, but only against elements that are new
+     * since the transition marker was armed.
+     */
+    private WaitResult findFreshOutcome(String token, Outcome[] outcomes) {
+        List<List<Object>> arguments = new ArrayList<>(outcomes.length);
+        for (Outcome outcome : outcomes) {
+            arguments.add(List.of(outcome.locator().name(), outcome.selector(), outcome.condition().name(), outcome.requireText()));
+        }
+        Object raw = js.executeScript(TRANSITION_OUTCOME_SCRIPT, token, arguments);
+        if (!(raw instanceof List<?> winner)) {
+            return null;
+        }
+        Outcome outcome = outcomes[((Number) winner.get(0)).intValue()];
+        return new WaitResult(outcome, (WebElement) winner.get(1), String.valueOf(winner.get(2)));
+    }
+
 
 
     //________________________________________________________________________________________________________________//
@@ -613,56 +1214,121 @@ public class UIActions {
      * @return A Select object representing the dropdown element.
      */
     public Select findDropDownElement(LocatorType locator, String selector, ExplicitWaitCondition condition) {
-        Select select = new Select(findWebElement(locator, selector, condition));
-        log.info("Created Select object for dropdown element located by [{}: '{}'] with wait condition '{}'.", locator, selector, condition);
-        return select;
+        long startNanos = ActionMetrics.start();
+        try {
+            Select select = new Select(findWebElement(locator, selector, condition));
+            log.info("Created Select object for dropdown element located by [{}: '{}'] with wait condition '{}'.", locator, selector, condition);
+            return select;
+        } finally {
+            ActionMetrics.record("UIActions.findDropDownElement", locator, condition, startNanos);
+        }
     }
 
+    /**
+     * Selects or deselects the options matching text/value/index in one call and fires the
+     * {@code input}/{@code change} events a user selection would.
+     * <br>Returns {@code false} when the select is disabled, when no enabled option matches, or when deselecting a single select,
+     * so the caller can fall back to the {@link Select} API and its standard exceptions.
+     */
+    private static final String SELECT_OPTION_SCRIPT =
+            "var sel = arguments[0], by = arguments[1], opt = arguments[2], select = arguments[3];" +
+            "function norm(t) { return (t || '').replace(/\\s+/g, ' ').trim(); }" +
+            "if (sel.disabled) return false;" +
+            "if (!select && !sel.multiple) return false;" +
+            "var matched = false, changed = false;" +
+            "for (var i = 0; i < sel.options.length; i++) {" +
+            "  var o = sel.options[i];" +
+            "  var hit = by === 'text' ? norm(o.text) === norm(opt) : by === 'value' ? o.value === opt : o.index === parseInt(opt, 10);" +
+            "  if (!hit) continue;" +
+            "  if (o.disabled) return false;" +
+            "  matched = true;" +
+            "  if (o.selected !== select) { o.selected = select; changed = true; }" +
+            "  if (!sel.multiple || by === 'index') break;" +
+            "}" +
+            "if (changed) {" +
+            "  sel.dispatchEvent(new Event('input', {bubbles: true}));" +
+            "  sel.dispatchEvent(new Event('change', {bubbles: true}));" +
+            "}" +
+            "return matched;";
+
+    /**
+     * Returns the normalized text of all options, or only the selected ones when {@code arguments[1]} is true.
+     */
+    private static final String READ_OPTIONS_SCRIPT =
+            "var sel = arguments[0], selectedOnly = arguments[1], texts = [];" +
+            "for (var i = 0; i < sel.options.length; i++) {" +
+            "  var o = sel.options[i];" +
+            "  if (!selectedOnly || o.selected) texts.push((o.text || '').replace(/\\s+/g, ' ').trim());" +
+            "}" +
+            "return texts;";
+
     /**
      * Deselects an option from the given dropdown element using the specified selection method.
+     * <p>The option is deselected by a single script call; if the script can't handle it
+     * (no matching option, disabled option, single select), the {@link Select} API is used instead.</p>
      *
      * @param dropdownElement The Select object representing the dropdown.
      * @param method          The method to identify the option (text, value, or index).
      * @param option          The value to be deselected (text/value/index as a string).
      */
     public void deselectDropDownOption(Select dropdownElement, SelectBy method, String option) {
-        switch (method) {
-            case text:
-                dropdownElement.deselectByVisibleText(option);
-                log.info("Deselected dropdown option with visible text: '{}'.", option);
-                break;
-            case value:
-                dropdownElement.deselectByValue(option);
-                log.info("Deselected dropdown option with value: '{}'.", option);
-                break;
-            case index:
-                dropdownElement.deselectByIndex(Integer.parseInt(option));
-                log.info("Deselected dropdown option with index: '{}'.", option);
-                break;
+        long startNanos = ActionMetrics.start();
+        try {
+            if (applyDropDownOption(dropdownElement, method, option, false)) {
+                log.info("Deselected dropdown option with {}: '{}'.", method, option);
+                return;
+            }
+            switch (method) {
+                case text:
+                    dropdownElement.deselectByVisibleText(option);
+                    log.info("Deselected dropdown option with visible text: '{}'.", option);
+                    break;
+                case value:
+                    dropdownElement.deselectByValue(option);
+                    log.info("Deselected dropdown option with value: '{}'.", option);
+                    break;
+                case index:
+                    dropdownElement.deselectByIndex(Integer.parseInt(option));
+                    log.info("Deselected dropdown option with index: '{}'.", option);
+                    break;
+            }
+        } finally {
+            ActionMetrics.record("UIActions.deselectDropDownOption", startNanos);
         }
     }
 
     /**
      * Selects an option from the given dropdown element using the specified selection method.
+     * <p>The option is selected by a single script call; if the script can't handle it
+     * (no matching option, disabled option), the {@link Select} API is used instead.</p>
      *
      * @param dropdownElement The Select object representing the dropdown.
      * @param method          The method to identify the option (text, value, or index).
      * @param option          The value to be selected (text/value/index as a string).
      */
     public void selectDropDownOption(Select dropdownElement, SelectBy method, String option) {
-        switch (method) {
-            case text:
-                dropdownElement.selectByVisibleText(option);
-                log.info("Selected dropdown option with visible text: '{}'.", option);
-                break;
-            case value:
-                dropdownElement.selectByValue(option);
-                log.info("Selected dropdown option with value: '{}'.", option);
-                break;
-            case index:
-                dropdownElement.selectByIndex(Integer.parseInt(option));
-                log.info("Selected dropdown option with index: '{}'.", option);
-                break;
+        long startNanos = ActionMetrics.start();
+        try {
+            if (applyDropDownOption(dropdownElement, method, option, true)) {
+                log.info("Selected dropdown option with {}: '{}'.", method, option);
+                return;
+            }
+            switch (method) {
+                case text:
+                    dropdownElement.selectByVisibleText(option);
+                    log.info("Selected dropdown option with visible text: '{}'.", option);
+                    break;
+                case value:
+                    dropdownElement.selectByValue(option);
+                    log.info("Selected dropdown option with value: '{}'.", option);
+                    break;
+                case index:
+                    dropdownElement.selectByIndex(Integer.parseInt(option));
+                    log.info("Selected dropdown option with index: '{}'.", option);
+                    break;
+            }
+        } finally {
+            ActionMetrics.record("UIActions.selectDropDownOption", startNanos);
         }
     }
 
@@ -673,11 +1339,19 @@ public class UIActions {
      * @return A list of strings containing the visible text of all selected options.
      */
     public List<String> getAllSelectedDropDownOptions(Select dropdownElement) {
-        List<String> selectedOptions = dropdownElement.getAllSelectedOptions().stream()
-                .map(WebElement::getText)
-                .collect(Collectors.toList());
-        log.info("Retrieved selected dropdown options: '{}'.", selectedOptions);
-        return selectedOptions;
+        long startNanos = ActionMetrics.start();
+        try {
+            List<String> selectedOptions = readDropDownOptions(dropdownElement, true);
+            if (selectedOptions == null) {
+                selectedOptions = dropdownElement.getAllSelectedOptions().stream()
+                        .map(WebElement::getText)
+                        .collect(Collectors.toList());
+            }
+            log.info("Retrieved selected dropdown options: '{}'.", selectedOptions);
+            return selectedOptions;
+        } finally {
+            ActionMetrics.record("UIActions.getAllSelectedDropDownOptions", startNanos);
+        }
     }
 
     /**
@@ -687,11 +1361,49 @@ public class UIActions {
      * @return A list of strings containing the visible text of all available options.
      */
     public List<String> getAllDropDownOptions(Select dropdownElement) {
-        List<String> options = dropdownElement.getOptions()
-                .stream().map(WebElement::getText)
-                .collect(Collectors.toList());
-        log.info("Retrieved all dropdown options: '{}'.", options);
-        return options;
+        long startNanos = ActionMetrics.start();
+        try {
+            List<String> options = readDropDownOptions(dropdownElement, false);
+            if (options == null) {
+                options = dropdownElement.getOptions()
+                        .stream().map(WebElement::getText)
+                        .collect(Collectors.toList());
+            }
+            log.info("Retrieved all dropdown options: '{}'.", options);
+            return options;
+        } finally {
+            ActionMetrics.record("UIActions.getAllDropDownOptions", startNanos);
+        }
+    }
+
+    /**
+     * Runs {@link #SELECT_OPTION_SCRIPT} against the dropdown.
+     *
+     * @return {@code true} if the script handled the (de)selection, {@code false} if the {@link Select} API should be used.
+     */
+    private boolean applyDropDownOption(Select dropdownElement, SelectBy method, String option, boolean select) {
+        try {
+            return Boolean.TRUE.equals(js.executeScript(SELECT_OPTION_SCRIPT, dropdownElement.getWrappedElement(), method.name(), option, select));
+        } catch (JavascriptException e) {
+            log.warn("Script-backed dropdown operation failed, Falling back to the Select API: '{}'.", e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Reads the option texts of the dropdown in one script call.
+     *
+     * @return The option texts, or {@code null} if the {@link Select} API should be used.
+     */
+    @SuppressWarnings("unchecked")
+    private List<String> readDropDownOptions(Select dropdownElement, boolean selectedOnly) {
+        try {
+            Object texts = js.executeScript(READ_OPTIONS_SCRIPT, dropdownElement.getWrappedElement(), selectedOnly);
+            return texts instanceof List<?> ? new ArrayList<>((List<String>) texts) : null;
+        } catch (JavascriptException e) {
+            log.warn("Script-backed dropdown read failed, Falling back to the Select API: '{}'.", e.getMessage());
+            return null;
+        }
     }
 
     //________________________________________________________________________________________________________________//
@@ -705,8 +1417,13 @@ public class UIActions {
      * @param condition The wait condition to apply before locating the element.
      */
     public void rightClick(LocatorType locator, String selector, ExplicitWaitCondition condition) {
-        actions.contextClick(findWebElement(locator, selector, condition)).perform();
-        log.info("Performed right-click on provided element located by '[{}: '{}']'.", locator, selector);
+        long startNanos = ActionMetrics.start();
+        try {
+            withRelocateRetry("UIActions.rightClick", locator, selector, condition, element -> actions.contextClick(element).perform());
+            log.info("Performed right-click on provided element located by '[{}: '{}']'.", locator, selector);
+        } finally {
+            ActionMetrics.record("UIActions.rightClick", locator, condition, startNanos);
+        }
     }
 
     /**
@@ -715,8 +1432,13 @@ public class UIActions {
      * @param element The WebElement to right-click on.
      */
     public void rightClick(WebElement element) {
-        actions.contextClick(element).perform();
-        log.info("Performed right-click on provided WebElement: '{}'.", describeElement(element));
+        long startNanos = ActionMetrics.start();
+        try {
+            actions.contextClick(element).perform();
+            log.info("Performed right-click on provided WebElement: '{}'.", describeElement(element));
+        } finally {
+            ActionMetrics.record("UIActions.rightClick", startNanos);
+        }
     }
 
     /**
@@ -727,8 +1449,13 @@ public class UIActions {
      * @param condition The wait condition to apply before locating the element.
      */
     public void doubleClick(LocatorType locator, String selector, ExplicitWaitCondition condition) {
-        actions.doubleClick(findWebElement(locator, selector, condition)).perform();
-        log.info("Performed double-click on provided element located by '[{}: '{}']'.", locator, selector);
+        long startNanos = ActionMetrics.start();
+        try {
+            withRelocateRetry("UIActions.doubleClick", locator, selector, condition, element -> actions.doubleClick(element).perform());
+            log.info("Performed double-click on provided element located by '[{}: '{}']'.", locator, selector);
+        } finally {
+            ActionMetrics.record("UIActions.doubleClick", locator, condition, startNanos);
+        }
     }
 
     /**
@@ -737,8 +1464,13 @@ public class UIActions {
      * @param element The WebElement to double-click on.
      */
     public void doubleClick(WebElement element) {
-        actions.doubleClick(element).perform();
-        log.info("Performed double-click on provided WebElement: '{}'.", describeElement(element));
+        long startNanos = ActionMetrics.start();
+        try {
+            actions.doubleClick(element).perform();
+            log.info("Performed double-click on provided WebElement: '{}'.", describeElement(element));
+        } finally {
+            ActionMetrics.record("UIActions.doubleClick", startNanos);
+        }
     }
 
     /**
@@ -750,8 +1482,14 @@ public class UIActions {
      * @param pauseDuration Duration to hold the click in seconds.
      */
     public void clickAndHold(LocatorType locator, String selector, ExplicitWaitCondition condition, int pauseDuration) {
-        actions.clickAndHold(findWebElement(locator, selector, condition)).pause(Duration.ofSeconds(pauseDuration)).release().perform();
-        log.info("Performed click-and-hold on provided element located by '[{}: '{}']' for '{}' seconds.", locator, selector, pauseDuration);
+        long startNanos = ActionMetrics.start();
+        try {
+            withRelocateRetry("UIActions.clickAndHold", locator, selector, condition,
+                    element -> actions.clickAndHold(element).pause(Duration.ofSeconds(pauseDuration)).release().perform());
+            log.info("Performed click-and-hold on provided element located by '[{}: '{}']' for '{}' seconds.", locator, selector, pauseDuration);
+        } finally {
+            ActionMetrics.record("UIActions.clickAndHold", locator, condition, startNanos);
+        }
     }
 
     /**
@@ -761,8 +1499,13 @@ public class UIActions {
      * @param pauseDuration Duration to hold the click in seconds.
      */
     public void clickAndHold(WebElement element, int pauseDuration) {
-        actions.clickAndHold(element).pause(Duration.ofSeconds(pauseDuration)).release().perform();
-        log.info("Performed click-and-hold on provided WebElement: '{}' for '{}' seconds.", describeElement(element), pauseDuration);
+        long startNanos = ActionMetrics.start();
+        try {
+            actions.clickAndHold(element).pause(Duration.ofSeconds(pauseDuration)).release().perform();
+            log.info("Performed click-and-hold on provided WebElement: '{}' for '{}' seconds.", describeElement(element), pauseDuration);
+        } finally {
+            ActionMetrics.record("UIActions.clickAndHold", startNanos);
+        }
     }
 
     /**
@@ -773,8 +1516,13 @@ public class UIActions {
      * @param condition The wait condition to apply before locating the element.
      */
     public void moveToElement(LocatorType locator, String selector, ExplicitWaitCondition condition) {
-        actions.moveToElement(findWebElement(locator, selector, condition)).perform();
-        log.info("Moved to provided element: '[{}: '{}']'.", locator, selector);
+        long startNanos = ActionMetrics.start();
+        try {
+            withRelocateRetry("UIActions.moveToElement", locator, selector, condition, element -> actions.moveToElement(element).perform());
+            log.info("Moved to provided element: '[{}: '{}']'.", locator, selector);
+        } finally {
+            ActionMetrics.record("UIActions.moveToElement", locator, condition, startNanos);
+        }
     }
 
     /**
@@ -783,8 +1531,13 @@ public class UIActions {
      * @param element The WebElement to move to.
      */
     public void moveToElement(WebElement element) {
-        actions.moveToElement(element).perform();
-        log.info("Moved to provided WebElement: '{}'.", describeElement(element));
+        long startNanos = ActionMetrics.start();
+        try {
+            actions.moveToElement(element).perform();
+            log.info("Moved to provided WebElement: '{}'.", describeElement(element));
+        } finally {
+            ActionMetrics.record("UIActions.moveToElement", startNanos);
+        }
     }
 
     /**
@@ -799,12 +1552,17 @@ public class UIActions {
     public void dragAndDrop(LocatorType srcLocator, String srcSelector,
                             LocatorType destLocator, String destSelector,
                             ExplicitWaitCondition condition) {
-        WebElement srcElement = findWebElement(srcLocator, srcSelector, condition);
-        WebElement destElement = findWebElement(destLocator, destSelector, condition);
-        actions.dragAndDrop(srcElement, destElement).perform();
-
-        log.info("Performed drag-and-drop from source element: '[{}: '{}']' to destination element: '[{}: '{}']'.",
-                srcLocator, srcSelector, destLocator, destSelector);
+        long startNanos = ActionMetrics.start();
+        try {
+            WebElement srcElement = findWebElement(srcLocator, srcSelector, condition);
+            WebElement destElement = findWebElement(destLocator, destSelector, condition);
+            actions.dragAndDrop(srcElement, destElement).perform();
+
+            log.info("Performed drag-and-drop from source element: '[{}: '{}']' to destination element: '[{}: '{}']'.",
+                    srcLocator, srcSelector, destLocator, destSelector);
+        } finally {
+            ActionMetrics.record("UIActions.dragAndDrop", srcLocator, condition, startNanos);
+        }
     }
 
     /**
@@ -814,9 +1572,14 @@ public class UIActions {
      * @param destElement The destination WebElement.
      */
     public void dragAndDrop(WebElement srcElement, WebElement destElement) {
-        actions.dragAndDrop(srcElement, destElement).perform();
-        log.info("Performed drag-and-drop from source WebElement: '{}' to destination WebElement: '{}'.",
-                describeElement(srcElement), describeElement(destElement));
+        long startNanos = ActionMetrics.start();
+        try {
+            actions.dragAndDrop(srcElement, destElement).perform();
+            log.info("Performed drag-and-drop from source WebElement: '{}' to destination WebElement: '{}'.",
+                    describeElement(srcElement), describeElement(destElement));
+        } finally {
+            ActionMetrics.record("UIActions.dragAndDrop", startNanos);
+        }
     }
 
 
@@ -828,21 +1591,26 @@ public class UIActions {
      * @param keys      One or more characters to send with the modifier keys.
      */
     public void enterKeyCombination(List<Keys> modifiers, String... keys) {
-        for (Keys mod : modifiers) {
-            actions.keyDown(mod);
-        }
+        long startNanos = ActionMetrics.start();
+        try {
+            for (Keys mod : modifiers) {
+                actions.keyDown(mod);
+            }
 
-        actions.sendKeys(keys);
+            actions.sendKeys(keys);
 
-        for (int i = modifiers.size() - 1; i >= 0; i--) {
-            actions.keyUp(modifiers.get(i));
-        }
+            for (int i = modifiers.size() - 1; i >= 0; i--) {
+                actions.keyUp(modifiers.get(i));
+            }
 
-        actions.perform();
+            actions.perform();
 
-        log.info("Performed key combination: '{}' + '{}'",
-                modifiers.stream().map(Keys::name).collect(Collectors.joining(" + ")),
-                String.join("", keys));
+            log.info("Performed key combination: '{}' + '{}'",
+                    modifiers.stream().map(Keys::name).collect(Collectors.joining(" + ")),
+                    String.join("", keys));
+        } finally {
+            ActionMetrics.record("UIActions.enterKeyCombination", startNanos);
+        }
     }
 
     /**
@@ -853,12 +1621,17 @@ public class UIActions {
      * @param keys     One or more characters to send with the modifier key.
      */
     public void enterKeyCombination(Keys modifier, String... keys) {
-        actions.keyDown(modifier)
-                .sendKeys(keys)
-                .keyUp(modifier)
-                .perform();
-
-        log.info("Performed key combination: '{}' + '{}'.", modifier.name(), keys);
+        long startNanos = ActionMetrics.start();
+        try {
+            actions.keyDown(modifier)
+                    .sendKeys(keys)
+                    .keyUp(modifier)
+                    .perform();
+
+            log.info("Performed key combination: '{}' + '{}'.", modifier.name(), keys);
+        } finally {
+            ActionMetrics.record("UIActions.enterKeyCombination", startNanos);
+        }
     }
 
 
@@ -881,17 +1654,22 @@ public class UIActions {
     public List<String> getTableCellValues(LocatorType tableLocator, String tableSelector,
                                            LocatorType rowLocator, String rowSelector,
                                            LocatorType cellLocator, String cellSelector) {
-        WebElement table = findWebElement(tableLocator, tableSelector, ExplicitWaitCondition.visibilityOfElement);
-        List<WebElement> rows = findWebElementsInParent(table, rowLocator, rowSelector);
-
-        List<String> cellsValues = new ArrayList<>();
-        for (WebElement row : rows) {
-            List<WebElement> cells = findWebElementsInParent(row, cellLocator, cellSelector);
-            for (WebElement cell : cells) {
-                cellsValues.add(cell.getText());
+        long startNanos = ActionMetrics.start();
+        try {
+            WebElement table = findWebElement(tableLocator, tableSelector, ExplicitWaitCondition.visibilityOfElement);
+            List<WebElement> rows = findWebElementsInParent(table, rowLocator, rowSelector);
+
+            List<String> cellsValues = new ArrayList<>();
+            for (WebElement row : rows) {
+                List<WebElement> cells = findWebElementsInParent(row, cellLocator, cellSelector);
+                for (WebElement cell : cells) {
+                    cellsValues.add(cell.getText());
+                }
             }
+            return cellsValues;
+        } finally {
+            ActionMetrics.record("UIActions.getTableCellValues", tableLocator, null, startNanos);
         }
-        return cellsValues;
     }
 
 
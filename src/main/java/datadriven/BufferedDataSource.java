@@ -0,0 +1,135 @@
+package datadriven;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static java.lang.invoke.MethodHandles.lookup;
+
+/**
+ * Base of the text file sources: opens the file with a buffered reader for every stream, reads a row when
+ * the stream pulls one, and closes the file when the stream is closed.
+ * <br>Only the row being read is held, so memory doesn't grow with the size of the file.
+ *
+ * @author Hossam Atef
+ * @version 1.0
+ */
+abstract class BufferedDataSource implements DataSource {
+
+    private static final Logger log = LogManager.getLogger(lookup().lookupClass());
+
+    final Path path;
+    private final String fileName;
+
+    /**
+     * Reads the rows of one open file.
+     */
+    interface RowReader {
+
+        /**
+         * @return the next row, or {@code null} at the end of the file.
+         */
+        Row next() throws IOException;
+    }
+
+    BufferedDataSource(String path) {
+        this.path = Paths.get(path).toAbsolutePath().normalize();
+        this.fileName = this.path.getFileName().toString();
+    }
+
+    /**
+     * Prepares to read the rows of a newly opened file, e.g. by reading its header.
+     */
+    abstract RowReader reader(BufferedReader input) throws IOException;
+
+    @Override
+    public String getName() {
+        return path.toString();
+    }
+
+    @Override
+    public Stream<Row> rows() {
+        BufferedReader input = null;
+        try {
+            input = Files.newBufferedReader(path, StandardCharsets.UTF_8);
+            RowIterator iterator = new RowIterator(reader(input));
+            BufferedReader opened = input;
+            log.info("Streaming test data rows from: '{}'", path);
+            return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                    .onClose(() -> close(opened));
+        } catch (IOException e) {
+            close(input);
+            log.error("Failed to open test data file: '{}'.", path);
+            throw new UncheckedIOException(e);
+        } catch (RuntimeException e) {
+            close(input);
+            throw e;
+        }
+    }
+
+    /**
+     * @return the <code>_key</code> field of the row, or the file name and row number if it has none.
+     */
+    String key(Object key, long number) {
+        return key != null && !key.toString().isBlank() ? key.toString() : fileName + "#" + number;
+    }
+
+    private void close(BufferedReader input) {
+        if (input == null) {
+            return;
+        }
+        try {
+            input.close();
+        } catch (IOException e) {
+            log.warn("Failed to close test data file '{}': {}", path, e.getMessage());
+        }
+    }
+
+    private final class RowIterator implements Iterator<Row> {
+
+        private final RowReader reader;
+        private Row next;
+        private boolean done;
+
+        private RowIterator(RowReader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next == null && !done) {
+                try {
+                    next = reader.next();
+                } catch (IOException e) {
+                    log.error("Failed to read test data file: '{}'.", path);
+                    throw new UncheckedIOException(e);
+                }
+                done = next == null;
+            }
+            return next != null;
+        }
+
+        @Override
+        public Row next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Row row = next;
+            next = null;
+            return row;
+        }
+    }
+}
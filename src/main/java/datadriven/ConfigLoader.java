@@ -3,20 +3,18 @@ package datadriven;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import java.io.FileInputStream;
-import java.util.Properties;
-
 import static java.lang.invoke.MethodHandles.lookup;
 
 /**
  * ConfigLoader is a utility class designed to load and retrieve configuration values
  * from java .properties file.<br>It supports retrieval of single values and
  * comma-separated array values, with optional control over exception behavior when
- * keys are missing.
+ * keys are missing.<br>It is a view over the process-wide {@link ConfigSnapshot} of the file,
+ * so creating one doesn't read the file again.
  *
  * <p>Key Features:
  * <ul>
- *   <li>Loads properties from a file on initialization.</li>
+ *   <li>Loads properties from a file once per process, layered with environment variables and -D system properties.</li>
  *   <li>Provides methods to retrieve single or array values.</li>
  *   <li>Optional flag-based behavior to throw exceptions or log warnings when keys are missing.</li>
  *   <li>Integrated logging using Log4j for traceability and debugging.</li>
@@ -35,7 +33,7 @@ import static java.lang.invoke.MethodHandles.lookup;
 public class ConfigLoader {
 
     private static final Logger log = LogManager.getLogger(lookup().lookupClass());
-    private Properties properties;
+    private final ConfigSnapshot snapshot;
 
     /**
      * Constructor.
@@ -43,25 +41,15 @@ public class ConfigLoader {
      * @param filepath the path to the properties file.
      */
     public ConfigLoader(String filepath) throws Exception {
-        log.info("Initializing ConfigLoader with file: '{}'", filepath);
-        loadProperties(filepath);
+        log.debug("Initializing ConfigLoader with file: '{}'", filepath);
+        snapshot = ConfigSnapshot.of(filepath);
     }
 
     /**
-     * Loads the properties from the given file path into the Properties object.
-     *
-     * @param filepath the path to the properties file.
+     * @return the snapshot this loader reads, with typed accessors.
      */
-    private void loadProperties(String filepath) throws Exception {
-        properties = new Properties();
-        try {
-            FileInputStream fileInputStream = new FileInputStream(filepath);
-            properties.load(fileInputStream);
-            log.info("Properties loaded successfully from: '{}'", filepath);
-        } catch (Exception e) {
-            log.error("Failed to load properties from: '{}'", filepath);
-            throw e;
-        }
+    public ConfigSnapshot getSnapshot() {
+        return snapshot;
     }
 
     /**
@@ -75,11 +63,11 @@ public class ConfigLoader {
      */
     public String getValue(String key, boolean... flag) {
         boolean flagValue = flag.length > 0 && flag[0];  // Only true if flag is explicitly true
-        String value = properties.getProperty(key);
+        String value = snapshot.getString(key);
 
         if (value != null) {
-            log.info("Property value retrieved for key '{}': {}", key, value);
-            return value.trim();
+            log.debug("Property value retrieved for key '{}': {}", key, value);
+            return value;
         } else {
             if (flagValue) {
                 log.error("Property key '{}' not found in the selected properties file.", key);
@@ -103,10 +91,9 @@ public class ConfigLoader {
      */
     public String[] getArrayValue(String key, boolean... flag) {
         boolean flagValue = flag.length > 0 && flag[0];
-        String value = properties.getProperty(key);
-        if (value != null) {
-            String[] values = value.split(",", -1);
-            log.info("Property array value retrieved for key '{}': {}", key, values);
+        String[] values = snapshot.getItems(key);
+        if (values != null) {
+            log.debug("Property array value retrieved for key '{}': {}", key, values);
             return values;
         } else {
             if (flagValue) {
@@ -119,7 +106,3 @@ public class ConfigLoader {
         }
     }
 }
-
-
-
-
@@ -0,0 +1,302 @@
+package datadriven;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import static java.lang.invoke.MethodHandles.lookup;
+
+/**
+ * ConfigSnapshot is an immutable, process-wide view of a properties file, loaded once and shared by all threads.
+ * <br>Every value is resolved through three layers, the last one found wins:
+ * <ol>
+ *   <li>The properties file.</li>
+ *   <li>An environment variable named after the key, either as is or in upper snake case
+ *       (e.g. <code>maxRetryCount</code> or <code>MAX_RETRY_COUNT</code>).</li>
+ *   <li>A <code>-D</code> system property with the same key (e.g. <code>-DmaxRetryCount=0</code>).</li>
+ * </ol>
+ *
+ * <p>Key Features:
+ * <ul>
+ *   <li>Reads the file once per process; later lookups are map reads with no file I/O.</li>
+ *   <li>Pre-parses every value at load: comma-separated items, integer, decimal and boolean forms.</li>
+ *   <li>Typed accessors with defaults for optional keys, and strict variants for required ones.</li>
+ *   <li>Keys missing from the file can still be given by an environment variable or a system property.</li>
+ * </ul>
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ *   ConfigSnapshot config = ConfigSnapshot.of("src/test/resources/Config.properties");
+ *   int maxRetryCount = config.getInt("maxRetryCount");
+ *   int budget = config.getInt("commandBudget", 0);
+ *   List<String> users = config.getList("nationalId/Passport");
+ * }</pre>
+ *
+ * @author Hossam Atef
+ * @version 1.0
+ */
+public final class ConfigSnapshot {
+
+    private static final Logger log = LogManager.getLogger(lookup().lookupClass());
+    private static final Map<Path, ConfigSnapshot> snapshots = new ConcurrentHashMap<>();
+
+    private final Path path;
+    private final Map<String, Value> values;
+
+    /**
+     * A configuration value with its pre-parsed forms; a form is {@code null} when the value doesn't parse to it.
+     */
+    private record Value(String text, String source, String[] items, List<String> list,
+                         Long asLong, Double asDouble, Boolean asBoolean) {
+
+        static Value of(String text, String source) {
+            String trimmed = text.trim();
+            String[] items = text.split(",", -1);
+            List<String> list = Arrays.stream(items).map(String::trim).filter(item -> !item.isEmpty()).toList();
+            Long asLong = null;
+            Double asDouble = null;
+            try {
+                asLong = Long.parseLong(trimmed);
+            } catch (NumberFormatException ignored) {
+                // Not an integer
+            }
+            try {
+                asDouble = Double.parseDouble(trimmed);
+            } catch (NumberFormatException ignored) {
+                // Not a number
+            }
+            Boolean asBoolean = "true".equalsIgnoreCase(trimmed) ? Boolean.TRUE : "false".equalsIgnoreCase(trimmed) ? Boolean.FALSE : null;
+            return new Value(trimmed, source, items, list, asLong, asDouble, asBoolean);
+        }
+    }
+
+    private ConfigSnapshot(Path path, Map<String, Value> values) {
+        this.path = path;
+        this.values = values;
+    }
+
+    /**
+     * Returns the snapshot of a properties file, loading it on first use.
+     *
+     * @param filepath the path to the properties file.
+     * @return the shared snapshot.
+     * @throws UncheckedIOException if the file can't be read.
+     */
+    public static ConfigSnapshot of(String filepath) {
+        return snapshots.computeIfAbsent(Paths.get(filepath).toAbsolutePath().normalize(), ConfigSnapshot::load);
+    }
+
+    /**
+     * Drops every loaded snapshot, so the next {@link #of(String)} reads the files and the overrides again.
+     */
+    public static void invalidateAll() {
+        snapshots.clear();
+    }
+
+    /**
+     * Loads the file again and swaps the new snapshot in, if the file was loaded before.
+     * <br>Holders of the previous snapshot keep reading it; if the file can't be read, the previous snapshot stays.
+     *
+     * @param path the absolute, normalized path of the properties file.
+     */
+    static void reload(Path path) {
+        ConfigSnapshot current = snapshots.get(path);
+        if (current == null) {
+            return;
+        }
+        ConfigSnapshot reloaded;
+        try {
+            reloaded = load(path);
+        } catch (Exception e) {
+            log.warn("Failed to reload '{}', Keeping the previous configuration: {}", path, e.getMessage());
+            return;
+        }
+        snapshots.put(path, reloaded);
+        List<String> changes = new ArrayList<>();
+        Set<String> keys = new TreeSet<>(current.values.keySet());
+        keys.addAll(reloaded.values.keySet());
+        for (String key : keys) {
+            String before = current.getString(key);
+            String after = reloaded.getString(key);
+            if (!Objects.equals(before, after)) {
+                boolean secret = key.toLowerCase().matches(".*(password|secret|token).*");
+                changes.add(secret ? key + ": '***'" : key + ": '" + before + "' -> '" + after + "'");
+            }
+        }
+        log.info("Configuration '{}' reloaded, Changes: {}", path, changes);
+    }
+
+    private static ConfigSnapshot load(Path path) {
+        Properties properties = new Properties();
+        try (InputStream input = Files.newInputStream(path)) {
+            properties.load(input);
+        } catch (IOException e) {
+            log.error("Failed to load properties from: '{}'", path);
+            throw new UncheckedIOException(e);
+        }
+        Map<String, Value> values = new HashMap<>();
+        List<String> overridden = new ArrayList<>();
+        for (String key : properties.stringPropertyNames()) {
+            Value value = override(key);
+            if (value != null) {
+                overridden.add(key + " (" + value.source() + ")");
+            } else {
+                value = Value.of(properties.getProperty(key), "file");
+            }
+            values.put(key, value);
+        }
+        // Values are logged by key only, as some of them are credentials
+        log.info("Configuration loaded once from '{}': '{}' keys, Overridden: {}", path, values.size(), overridden);
+        return new ConfigSnapshot(path, Collections.unmodifiableMap(values));
+    }
+
+    /**
+     * Resolves a key from the system properties, then the environment.
+     */
+    private static Value override(String key) {
+        String system = System.getProperty(key);
+        if (system != null) {
+            return Value.of(system, "system property");
+        }
+        String environment = System.getenv(key);
+        if (environment == null) {
+            environment = System.getenv(environmentName(key));
+        }
+        return environment == null ? null : Value.of(environment, "environment");
+    }
+
+    private static String environmentName(String key) {
+        return key.replaceAll("([a-z0-9])([A-Z])", "$1_$2").replaceAll("[^A-Za-z0-9]+", "_").toUpperCase();
+    }
+
+    private Value value(String key) {
+        Value value = values.get(key);
+        return value != null ? value : override(key);
+    }
+
+    /**
+     * @param key the key to look up.
+     * @return {@code true} if the key has a value in any layer.
+     */
+    public boolean contains(String key) {
+        return value(key) != null;
+    }
+
+    /**
+     * @param key the key to look up.
+     * @return the trimmed value, or {@code null} if the key has no value.
+     */
+    public String getString(String key) {
+        Value value = value(key);
+        return value == null ? null : value.text();
+    }
+
+    /**
+     * @param key          the key to look up.
+     * @param defaultValue the value returned if the key has no value.
+     * @return the trimmed value, or the default.
+     */
+    public String getString(String key, String defaultValue) {
+        String value = getString(key);
+        return value == null ? defaultValue : value;
+    }
+
+    /**
+     * @param key the key to look up.
+     * @return the comma-separated items, trimmed and without empty ones, or {@code null} if the key has no value.
+     */
+    public List<String> getList(String key) {
+        Value value = value(key);
+        return value == null ? null : value.list();
+    }
+
+    /**
+     * @param key the key to look up.
+     * @return a copy of the comma-separated items as written, or {@code null} if the key has no value.
+     */
+    public String[] getItems(String key) {
+        Value value = value(key);
+        return value == null ? null : value.items().clone();
+    }
+
+    /**
+     * @param key the key of a required integer value.
+     * @return the value.
+     * @throws IllegalArgumentException if the key has no value, or it isn't an integer.
+     */
+    public int getInt(String key) {
+        return Math.toIntExact(getLong(key));
+    }
+
+    /**
+     * @param key          the key of an optional integer value.
+     * @param defaultValue the value returned if the key has no value.
+     * @return the value, or the default.
+     * @throws IllegalArgumentException if the key has a value that isn't an integer.
+     */
+    public int getInt(String key, int defaultValue) {
+        return contains(key) ? getInt(key) : defaultValue;
+    }
+
+    /**
+     * @param key the key of a required integer value.
+     * @return the value.
+     * @throws IllegalArgumentException if the key has no value, or it isn't an integer.
+     */
+    public long getLong(String key) {
+        return parsed(key, "an integer", Value::asLong);
+    }
+
+    /**
+     * @param key          the key of an optional integer value.
+     * @param defaultValue the value returned if the key has no value.
+     * @return the value, or the default.
+     * @throws IllegalArgumentException if the key has a value that isn't an integer.
+     */
+    public long getLong(String key, long defaultValue) {
+        return contains(key) ? getLong(key) : defaultValue;
+    }
+
+    /**
+     * @param key          the key of an optional decimal value.
+     * @param defaultValue the value returned if the key has no value.
+     * @return the value, or the default.
+     * @throws IllegalArgumentException if the key has a value that isn't a number.
+     */
+    public double getDouble(String key, double defaultValue) {
+        return contains(key) ? parsed(key, "a number", Value::asDouble) : defaultValue;
+    }
+
+    /**
+     * @param key          the key of an optional boolean value.
+     * @param defaultValue the value returned if the key has no value.
+     * @return the value, or the default.
+     * @throws IllegalArgumentException if the key has a value other than true or false.
+     */
+    public boolean getBoolean(String key, boolean defaultValue) {
+        return contains(key) ? parsed(key, "true or false", Value::asBoolean) : defaultValue;
+    }
+
+    private <T> T parsed(String key, String expected, Function<Value, T> form) {
+        Value value = value(key);
+        if (value == null) {
+            log.error("Property key '{}' not found in '{}'.", key, path);
+            throw new IllegalArgumentException("Failed to find the provided config key: '" + key + "' in '" + path + "'.");
+        }
+        T parsed = form.apply(value);
+        if (parsed == null) {
+            log.error("Property '{}' from the {} isn't {}: '{}'.", key, value.source(), expected, value.text());
+            throw new IllegalArgumentException("Config key '" + key + "' isn't " + expected + ": '" + value.text() + "'.");
+        }
+        return parsed;
+    }
+}
@@ -0,0 +1,135 @@
+package datadriven;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.*;
+
+import static java.lang.invoke.MethodHandles.lookup;
+
+/**
+ * CsvDataSource streams test data rows from a CSV file, one row at a time, in constant memory.
+ *
+ * <p>Key Features:
+ * <ul>
+ *   <li>The first line holds the field names; each following line is a test case.</li>
+ *   <li>Comma-separated, with double-quoted cells that may hold commas, doubled quotes and line breaks (RFC 4180).</li>
+ *   <li>Empty cells are left out of the row, so they bind to {@code null} like a missing JSON field.</li>
+ *   <li>The optional <code>_key</code> column names the case and the optional <code>_tags</code> column tags it,
+ *       with tags separated by ';', '|' or ','.</li>
+ * </ul>
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ *   // _key,_tags,Nationality,MobileNo,ExpiryMonth
+ *   // northCoast_0001,volume;US,US,01000000001,12
+ *   try (Stream<DataSource.Row> rows = new CsvDataSource("src/test/resources/paymentMatrix.csv").rows()) {
+ *       rows.forEach(row -> log.info(row.key()));
+ *   }
+ * }</pre>
+ *
+ * @author Hossam Atef
+ * @version 1.0
+ */
+public final class CsvDataSource extends BufferedDataSource {
+
+    private static final Logger log = LogManager.getLogger(lookup().lookupClass());
+
+    /**
+     * @param csvPath the path to the CSV file; it's opened by every {@link #rows()} call.
+     */
+    public CsvDataSource(String csvPath) {
+        super(csvPath);
+    }
+
+    @Override
+    RowReader reader(BufferedReader input) throws IOException {
+        List<String> header = readRecord(input);
+        if (header == null) {
+            return () -> null;
+        }
+        String[] columns = new String[header.size()];
+        Set<String> seen = new HashSet<>();
+        for (int i = 0; i < columns.length; i++) {
+            // A UTF-8 byte order mark is read as the first character of the first column
+            String column = (i == 0 ? header.get(i).replace("﻿", "") : header.get(i)).trim();
+            if (column.isEmpty() || !seen.add(column)) {
+                log.error("CSV header of '{}' has an empty or duplicate column: '{}'.", path, column);
+                throw new IllegalArgumentException("CSV header of '" + path + "' has an empty or duplicate column: '" + column + "'.");
+            }
+            columns[i] = column;
+        }
+        long[] number = {0};
+        return () -> {
+            List<String> cells;
+            do {
+                cells = readRecord(input);
+            } while (cells != null && cells.size() == 1 && cells.get(0).isBlank());
+            if (cells == null) {
+                return null;
+            }
+            long rowNumber = ++number[0];
+            if (cells.size() > columns.length) {
+                log.error("Row '{}' of '{}' has '{}' cells, the header has '{}'.", rowNumber, path, cells.size(), columns.length);
+                throw new IllegalArgumentException("Row '" + rowNumber + "' of '" + path + "' has more cells than the header.");
+            }
+            Map<String, Object> values = new LinkedHashMap<>();
+            for (int i = 0; i < cells.size(); i++) {
+                if (!cells.get(i).isEmpty()) {
+                    values.put(columns[i], cells.get(i));
+                }
+            }
+            return new Row(rowNumber, key(values.get("_key"), rowNumber), values);
+        };
+    }
+
+    /**
+     * Reads the cells of one record, joining the lines of a quoted cell that spans several.
+     *
+     * @return the cells, or {@code null} at the end of the file.
+     */
+    private List<String> readRecord(BufferedReader input) throws IOException {
+        String line = input.readLine();
+        if (line == null) {
+            return null;
+        }
+        List<String> cells = new ArrayList<>();
+        StringBuilder cell = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            for (int i = 0; i < line.length(); i++) {
+                char c = line.charAt(i);
+                if (quoted) {
+                    if (c != '"') {
+                        cell.append(c);
+                    } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        cell.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    cells.add(cell.toString());
+                    cell.setLength(0);
+                } else {
+                    cell.append(c);
+                }
+            }
+            if (!quoted) {
+                break;
+            }
+            line = input.readLine();
+            if (line == null) {
+                log.error("CSV file '{}' ends inside a quoted cell.", path);
+                throw new IllegalArgumentException("CSV file '" + path + "' ends inside a quoted cell.");
+            }
+            cell.append('\n');
+        }
+        cells.add(cell.toString());
+        return cells;
+    }
+}
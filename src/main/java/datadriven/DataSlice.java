@@ -0,0 +1,136 @@
+package datadriven;
+
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * DataSlice restricts a {@link DataSource} to a deterministic part of it, so one run covers a slice
+ * of a huge test matrix and several runs together cover all of it.
+ *
+ * <p>Key Features:
+ * <ul>
+ *   <li>Sharding by row number: shard <i>i</i> of <i>n</i> takes every <i>n</i>-th row, starting at row <i>i</i>.</li>
+ *   <li>Sampling by a hash of the row key and a seed, so the same seed picks the same rows in every run and shard.</li>
+ *   <li>An optional limit on the number of rows, counted after any other filter, e.g. a tag.</li>
+ *   <li>Decided row by row, so it adds no memory to a streamed source.</li>
+ * </ul>
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ *   DataSlice slice = DataSlice.parse("3/8", 0.05, 42, 0);   // 5% of the 3rd of 8 shards
+ *   DataSlice fromConfig = DataSlice.from(ConfigSnapshot.of("src/test/resources/Config.properties"));
+ * }</pre>
+ *
+ * @param shardIndex the 1-based shard to take.
+ * @param shardCount the number of shards, 1 takes all rows.
+ * @param sampleRate the share of rows to take, between 0 and 1.
+ * @param seed       the sampling seed.
+ * @param limit      the maximum number of rows, 0 means no limit.
+ * @author Hossam Atef
+ * @version 1.0
+ */
+public record DataSlice(int shardIndex, int shardCount, double sampleRate, long seed, long limit) {
+
+    public DataSlice {
+        if (shardCount < 1 || shardIndex < 1 || shardIndex > shardCount) {
+            throw new IllegalArgumentException("Invalid shard: '" + shardIndex + "/" + shardCount + "'.");
+        }
+        if (sampleRate < 0 || sampleRate > 1) {
+            throw new IllegalArgumentException("Sample rate must be between 0 and 1: '" + sampleRate + "'.");
+        }
+        if (limit < 0) {
+            throw new IllegalArgumentException("Limit must be 0 or more: '" + limit + "'.");
+        }
+    }
+
+    /**
+     * @return a slice that takes every row.
+     */
+    public static DataSlice all() {
+        return new DataSlice(1, 1, 1.0, 0, 0);
+    }
+
+    /**
+     * Creates a slice from a shard written as <code>index/count</code>.
+     *
+     * @param shard      the shard, e.g. "2/8", or {@code null} or empty for all rows.
+     * @param sampleRate the share of rows to take, between 0 and 1.
+     * @param seed       the sampling seed.
+     * @param limit      the maximum number of rows, 0 means no limit.
+     * @return the slice.
+     * @throws IllegalArgumentException if the shard isn't written as <code>index/count</code>.
+     */
+    public static DataSlice parse(String shard, double sampleRate, long seed, long limit) {
+        if (shard == null || shard.isBlank()) {
+            return new DataSlice(1, 1, sampleRate, seed, limit);
+        }
+        String[] parts = shard.trim().split("/");
+        if (parts.length != 2) {
+            throw new IllegalArgumentException("Shard must be written as 'index/count': '" + shard + "'.");
+        }
+        return new DataSlice(Integer.parseInt(parts[0].trim()), Integer.parseInt(parts[1].trim()), sampleRate, seed, limit);
+    }
+
+    /**
+     * Creates a slice from the <code>dataShard</code>, <code>dataSample</code>, <code>dataSampleSeed</code>
+     * and <code>dataLimit</code> keys, each optional, e.g. <code>-DdataShard=2/8 -DdataSample=0.1</code>.
+     *
+     * @param config the configuration to read.
+     * @return the slice, all rows if none of the keys is set.
+     */
+    public static DataSlice from(ConfigSnapshot config) {
+        return parse(config.getString("dataShard"), config.getDouble("dataSample", 1.0),
+                config.getLong("dataSampleSeed", 0), config.getLong("dataLimit", 0));
+    }
+
+    /**
+     * @param row the row to check.
+     * @return {@code true} if the row is in the shard and the sample.
+     */
+    public boolean includes(DataSource.Row row) {
+        if ((row.number() - 1) % shardCount != shardIndex - 1) {
+            return false;
+        }
+        if (sampleRate >= 1.0) {
+            return true;
+        }
+        // Top 53 bits of a mixed hash, as a uniform value in [0, 1)
+        return (mix(row.key().hashCode() ^ seed) >>> 11) * 0x1.0p-53 < sampleRate;
+    }
+
+    /**
+     * Restricts a stream of rows to this slice.
+     *
+     * @param rows the rows of a source.
+     * @return the rows of the slice.
+     */
+    public Stream<DataSource.Row> apply(Stream<DataSource.Row> rows) {
+        return apply(rows, row -> true);
+    }
+
+    /**
+     * Restricts a stream of rows to this slice and a filter, taking the limit from the rows that pass both.
+     *
+     * @param rows   the rows of a source.
+     * @param filter the rows to keep within the slice, e.g. the rows with a tag.
+     * @return the filtered rows of the slice.
+     */
+    public Stream<DataSource.Row> apply(Stream<DataSource.Row> rows, Predicate<DataSource.Row> filter) {
+        Stream<DataSource.Row> sliced = shardCount == 1 && sampleRate >= 1.0 ? rows : rows.filter(this::includes);
+        return limit(sliced.filter(filter));
+    }
+
+    /**
+     * @param rows rows already restricted to the shard, the sample and any other filter.
+     * @return the first {@code limit} rows, or all of them if there's no limit.
+     */
+    Stream<DataSource.Row> limit(Stream<DataSource.Row> rows) {
+        return limit > 0 ? rows.limit(limit) : rows;
+    }
+
+    private static long mix(long value) {
+        value = (value ^ (value >>> 33)) * 0xff51afd7ed558ccdL;
+        value = (value ^ (value >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return value ^ (value >>> 33);
+    }
+}
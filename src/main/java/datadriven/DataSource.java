@@ -0,0 +1,147 @@
+package datadriven;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * DataSource is a stream of test data rows, whatever the file format, so data providers can feed
+ * test matrices of any size from JSON, JSON Lines or CSV files.
+ *
+ * <p>Key Features:
+ * <ul>
+ *   <li>Rows are read lazily; CSV and JSON Lines files are streamed in constant memory.</li>
+ *   <li>Every row has a key, its number in the file, and its values by field name.</li>
+ *   <li>Rows bind to records with the same validation as {@link JsonFileManager#getAs(String, Class)}.</li>
+ *   <li>Key prefix filtering, and sharding and sampling through {@link DataSlice}.</li>
+ * </ul>
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ *   DataSource source = DataSource.open("src/test/resources/paymentMatrix.csv", true);
+ *   try (Stream<DataSource.Row> rows = source.rows("northCoast", DataSlice.parse("2/8", 0.1, 42, 0))) {
+ *       rows.map(row -> row.as(PaymentCase.class)).forEach(...);
+ *   }
+ * }</pre>
+ *
+ * @author Hossam Atef
+ * @version 1.0
+ */
+public interface DataSource {
+
+    /**
+     * One row of test data.
+     *
+     * @param number the 1-based position of the row in the source.
+     * @param key    the row key: the top-level key of a JSON object file, or the <code>_key</code> field
+     *               of a CSV or JSON Lines row, or the file name and row number if there isn't one.
+     * @param values the row values by field name.
+     */
+    record Row(long number, String key, Map<String, Object> values) {
+
+        /**
+         * Binds the row to a record; fields starting with an underscore are skipped unless the record declares them.
+         *
+         * @param type the record type whose components mirror the row fields.
+         * @return the bound record.
+         * @throws com.google.gson.JsonParseException if a field is unknown to the record or has an invalid value.
+         */
+        public <T extends Record> T as(Class<T> type) {
+            return JsonDataCache.convert(key, values, type);
+        }
+
+        /**
+         * @param tag the tag to look for.
+         * @return {@code true} if the <code>_tags</code> field, a list or a string separated by ';', '|' or ',',
+         * contains the tag.
+         */
+        public boolean hasTag(String tag) {
+            Object tags = values.get("_tags");
+            if (tags instanceof List<?> list) {
+                return list.contains(tag);
+            }
+            if (tags instanceof String text) {
+                for (String item : text.split("[;|,]")) {
+                    if (item.trim().equals(tag)) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * @return the name of the source, typically its file path.
+     */
+    String getName();
+
+    /**
+     * Streams all the rows, in source order.
+     * <br>The stream may hold an open file, so close it, e.g. with try-with-resources.
+     *
+     * @return the rows.
+     * @throws java.io.UncheckedIOException if the source can't be read.
+     */
+    Stream<Row> rows();
+
+    /**
+     * Streams the rows whose key starts with the prefix (case-insensitive, whitespace ignored), in source order.
+     *
+     * @param keyPrefix the key prefix, empty selects all rows.
+     * @return the matching rows.
+     */
+    default Stream<Row> rows(String keyPrefix) {
+        String prefix = SearchIndex.normalize(keyPrefix);
+        return prefix.isEmpty() ? rows() : rows().filter(row -> SearchIndex.normalize(row.key()).startsWith(prefix));
+    }
+
+    /**
+     * Streams the rows whose key starts with the prefix, restricted to a shard and sample of the source.
+     *
+     * @param keyPrefix the key prefix, empty selects all rows.
+     * @param slice     the shard, sample and limit to apply.
+     * @return the matching rows of the slice.
+     */
+    default Stream<Row> rows(String keyPrefix, DataSlice slice) {
+        return rows(keyPrefix, slice, row -> true);
+    }
+
+    /**
+     * Streams the rows whose key starts with the prefix and that pass the filter, restricted to a shard and
+     * sample of the source; the slice's limit counts the rows that pass the filter.
+     *
+     * @param keyPrefix the key prefix, empty selects all rows.
+     * @param slice     the shard, sample and limit to apply.
+     * @param filter    the rows to keep, e.g. <code>row -> row.hasTag("smoke")</code>.
+     * @return the matching rows of the slice.
+     */
+    default Stream<Row> rows(String keyPrefix, DataSlice slice, Predicate<Row> filter) {
+        return slice.apply(rows(keyPrefix), filter);
+    }
+
+    /**
+     * Opens a data file, choosing the reader from its extension:
+     * <ul>
+     *   <li><code>.csv</code>: {@link CsvDataSource}, the first line holds the field names.</li>
+     *   <li><code>.jsonl</code> or <code>.ndjson</code>: {@link JsonLinesDataSource}, one JSON object per line.</li>
+     *   <li>Anything else: {@link JsonObjectDataSource}, a JSON object of test cases by key.</li>
+     * </ul>
+     *
+     * @param path      the path to the data file.
+     * @param streaming for JSON object files, {@code true} reads them through {@link JsonStreamingSource}
+     *                  instead of loading them; CSV and JSON Lines files are always streamed.
+     * @return the source.
+     */
+    static DataSource open(String path, boolean streaming) {
+        String name = path.toLowerCase();
+        if (name.endsWith(".csv")) {
+            return new CsvDataSource(path);
+        }
+        if (name.endsWith(".jsonl") || name.endsWith(".ndjson")) {
+            return new JsonLinesDataSource(path);
+        }
+        return new JsonObjectDataSource(path, streaming);
+    }
+}
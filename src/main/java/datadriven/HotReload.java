@@ -0,0 +1,152 @@
+package datadriven;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import static java.lang.invoke.MethodHandles.lookup;
+
+/**
+ * HotReload watches configuration and JSON data files during long soak and volume runs, and swaps in
+ * a newly parsed snapshot when one of them is saved, without restarting the JVM or the browsers.
+ *
+ * <p>Key Features:
+ * <ul>
+ *   <li>Opt-in: nothing is watched until {@link #start(long, String...)} is called.</li>
+ *   <li>One {@link WatchService} and two daemon threads for all the watched files.</li>
+ *   <li>Debounces bursts of events, so an editor's save is parsed once, after it's complete.</li>
+ *   <li>Swaps the {@link ConfigSnapshot} or the {@link JsonDataCache} entry atomically and logs what changed;
+ *       a file that doesn't parse keeps the previous snapshot.</li>
+ *   <li>{@link ConfigLoader} and {@link JsonFileManager} instances keep the snapshot they were created with,
+ *       so a running test isn't affected; the next test picks up the new one.</li>
+ * </ul>
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ *   HotReload.start(1000, "src/test/resources/Config.properties", "src/test/resources/jsonNewData.json");
+ *   ...
+ *   HotReload.stop();
+ * }</pre>
+ *
+ * @author Hossam Atef
+ * @version 1.0
+ */
+public final class HotReload {
+
+    private static final Logger log = LogManager.getLogger(lookup().lookupClass());
+    private static volatile WatchService watchService;
+    private static volatile ScheduledExecutorService executor;
+    private static volatile Set<Path> watched = Set.of();
+    private static final Map<Path, ScheduledFuture<?>> pending = new ConcurrentHashMap<>();
+
+    private HotReload() {
+    }
+
+    /**
+     * Starts watching the files; files already watched are replaced by the new list.
+     * <br>Properties files are reloaded into {@link ConfigSnapshot}, JSON files into {@link JsonDataCache};
+     * a file is only reloaded once it has been loaded.
+     *
+     * @param debounceMillis the quiet time after the last change before a file is reloaded.
+     * @param files          the paths of the files to watch.
+     * @throws IOException if a directory can't be watched.
+     */
+    public static synchronized void start(long debounceMillis, String... files) throws IOException {
+        stop();
+        Set<Path> paths = new HashSet<>();
+        for (String file : files) {
+            paths.add(Paths.get(file).toAbsolutePath().normalize());
+        }
+        watchService = FileSystems.getDefault().newWatchService();
+        for (Path directory : paths.stream().map(Path::getParent).distinct().toList()) {
+            directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        }
+        watched = Set.copyOf(paths);
+        // One thread blocks on the watch service, the other runs the debounced reloads
+        executor = Executors.newScheduledThreadPool(2, runnable -> {
+            Thread thread = new Thread(runnable, "hot-reload");
+            thread.setDaemon(true);
+            return thread;
+        });
+        WatchService service = watchService;
+        executor.execute(() -> watch(service, Math.max(debounceMillis, 0)));
+        log.info("Hot reload started for: {}", watched);
+    }
+
+    /**
+     * Stops watching; reloads already scheduled are dropped.
+     */
+    public static synchronized void stop() {
+        if (watchService == null) {
+            return;
+        }
+        try {
+            watchService.close();       // Wakes the watching loop up with a ClosedWatchServiceException
+        } catch (IOException e) {
+            log.warn("Failed to close the hot reload watch service: {}", e.getMessage());
+        }
+        executor.shutdownNow();
+        pending.clear();
+        watchService = null;
+        executor = null;
+        watched = Set.of();
+        log.info("Hot reload stopped.");
+    }
+
+    /**
+     * @return {@code true} if files are being watched.
+     */
+    public static synchronized boolean isRunning() {
+        return watchService != null;
+    }
+
+    private static void watch(WatchService service, long debounceMillis) {
+        try {
+            while (true) {
+                WatchKey key = service.take();
+                Path directory = (Path) key.watchable();
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (event.context() instanceof Path name) {
+                        Path file = directory.resolve(name).normalize();
+                        if (watched.contains(file)) {
+                            schedule(file, debounceMillis);
+                        }
+                    }
+                }
+                key.reset();
+            }
+        } catch (ClosedWatchServiceException | InterruptedException e) {
+            log.debug("Hot reload watching loop ended.");
+        }
+    }
+
+    private static void schedule(Path file, long debounceMillis) {
+        ScheduledExecutorService current = executor;
+        if (current == null) {
+            return;
+        }
+        // Every new event restarts the quiet period, so a burst of writes ends in a single reload
+        pending.compute(file, (path, scheduled) -> {
+            if (scheduled != null) {
+                scheduled.cancel(false);
+            }
+            return current.schedule(() -> reload(path), debounceMillis, TimeUnit.MILLISECONDS);
+        });
+    }
+
+    private static void reload(Path file) {
+        pending.remove(file);
+        String name = file.getFileName().toString().toLowerCase();
+        if (name.endsWith(".properties")) {
+            ConfigSnapshot.reload(file);
+        } else if (name.endsWith(".json")) {
+            JsonDataCache.reload(file);
+        } else {
+            log.warn("Hot reload doesn't know how to parse '{}'.", file);
+        }
+    }
+}
@@ -0,0 +1,278 @@
+package datadriven;
+
+import com.google.gson.*;
+import com.google.gson.annotations.SerializedName;
+import com.google.gson.reflect.TypeToken;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.lang.reflect.RecordComponent;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.lang.invoke.MethodHandles.lookup;
+
+/**
+ * JsonDataCache parses each JSON data file once per JVM and shares the result, as an immutable
+ * structure, with every thread and every {@link JsonFileManager} instance.
+ *
+ * <p>Key Features:
+ * <ul>
+ *   <li>Keyed by the file's absolute path, last-modified time and size, so an edited file is parsed again.</li>
+ *   <li>Parses a file at most once even when many threads ask for it at the same time.</li>
+ *   <li>Returns deeply unmodifiable maps and lists, so no thread can change another thread's data.</li>
+ *   <li>Builds the key and value {@link SearchIndex} once per file version, for {@link JsonFileManager}'s searches.</li>
+ *   <li>Binds a test case to a Java record once per file version, through Gson type adapters cached per record type.</li>
+ *   <li>Validates a binding when it's made: unknown fields and values that can't be converted fail the load.</li>
+ * </ul>
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ *   Map<String, Object> data = JsonDataCache.get("src/test/resources/jsonNewData.json");
+ *   PaymentCase testData = JsonDataCache.bind("src/test/resources/jsonNewData.json", "TC1_userCanPayByNorthCoast", PaymentCase.class);
+ * }</pre>
+ *
+ * @author Hossam Atef
+ * @version 1.0
+ */
+public final class JsonDataCache {
+
+    private static final Logger log = LogManager.getLogger(lookup().lookupClass());
+    private static final Type MAP_TYPE = new TypeToken<LinkedHashMap<String, Object>>() {
+    }.getType();
+    private static final Gson gson = new Gson();
+    private static final Map<Path, Entry> cache = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, Binding<?>> bindings = new ConcurrentHashMap<>();
+
+    /**
+     * A parsed file with the attributes it was parsed at, its keys and values by position with their search indexes,
+     * and the records already bound from it.
+     */
+    record Entry(long lastModified, long size, Map<String, Object> data, List<String> keys, List<Object> values,
+                 SearchIndex keyIndex, SearchIndex valueIndex, Map<String, Object> bound) {
+
+        boolean isCurrent(BasicFileAttributes attributes) {
+            return lastModified == attributes.lastModifiedTime().toMillis() && size == attributes.size();
+        }
+    }
+
+    /**
+     * The cached type adapter of a record type, with the JSON names of its components.
+     */
+    private record Binding<T extends Record>(TypeAdapter<T> adapter, Map<String, RecordComponent> components) {
+
+        static <T extends Record> Binding<T> of(Class<T> type) {
+            Map<String, RecordComponent> components = new LinkedHashMap<>();
+            for (RecordComponent component : type.getRecordComponents()) {
+                components.put(component.getName(), component);
+                try {
+                    SerializedName serializedName = type.getDeclaredField(component.getName()).getAnnotation(SerializedName.class);
+                    if (serializedName != null) {
+                        components.remove(component.getName());
+                        components.put(serializedName.value(), component);
+                        for (String alternate : serializedName.alternate()) {
+                            components.put(alternate, component);
+                        }
+                    }
+                } catch (NoSuchFieldException e) {
+                    throw new IllegalStateException("Record component without a field: " + component.getName(), e);
+                }
+            }
+            return new Binding<>(gson.getAdapter(type), Collections.unmodifiableMap(components));
+        }
+    }
+
+    private JsonDataCache() {
+    }
+
+    /**
+     * Returns the parsed content of a JSON object file, parsing it only if it wasn't parsed yet or changed since.
+     *
+     * @param jsonPath the path to the JSON file.
+     * @return the immutable top-level map of the file, in file order.
+     * @throws UncheckedIOException if the file can't be read.
+     * @throws com.google.gson.JsonParseException if the file isn't a valid JSON object.
+     */
+    public static Map<String, Object> get(String jsonPath) {
+        return entry(jsonPath).data();
+    }
+
+    /**
+     * Binds the JSON object stored under a key to a record, once per file version and record type.
+     * <br>Fields starting with an underscore (e.g. {@code _description}, {@code _NationalityComment}) are comments,
+     * They're skipped unless the record declares them.
+     *
+     * @param jsonPath the path to the JSON file.
+     * @param key      the key of the JSON object, e.g. the test case name.
+     * @param type     the record type to bind to.
+     * @return the bound record, shared by all callers.
+     * @throws IllegalArgumentException if the key isn't in the file, or its value isn't a JSON object.
+     * @throws JsonParseException       if the object has a field the record doesn't declare, or a value that
+     *                                  can't be converted, or the record's constructor rejects the values.
+     */
+    public static <T extends Record> T bind(String jsonPath, String key, Class<T> type) {
+        return bind(entry(jsonPath), key, type);
+    }
+
+    /**
+     * Binds the JSON object stored under a key of a given file version, e.g. the one a {@link JsonFileManager}
+     * was created with, even if the file changed since.
+     *
+     * @see #bind(String, String, Class)
+     */
+    static <T extends Record> T bind(Entry entry, String key, Class<T> type) {
+        Object bound = entry.bound().computeIfAbsent(type.getName() + "#" + key, ignored -> {
+            Object value = entry.data().get(key);
+            if (!(value instanceof Map<?, ?> object)) {
+                throw new IllegalArgumentException(value == null
+                        ? "Key '" + key + "' not found in JSON data."
+                        : "Value under key '" + key + "' is not a JSON object.");
+            }
+            T record = convert(key, object, type);
+            log.info("Test data '{}' bound to '{}'.", key, type.getSimpleName());
+            return record;
+        });
+        return type.cast(bound);
+    }
+
+    /**
+     * Returns the current cache entry of a file, parsing it only if it wasn't parsed yet or changed since.
+     */
+    static Entry entry(String jsonPath) {
+        Path path = Paths.get(jsonPath).toAbsolutePath().normalize();
+        BasicFileAttributes attributes = readAttributes(path);
+        Entry entry = cache.get(path);
+        if (entry != null && entry.isCurrent(attributes)) {
+            log.debug("JSON data served from cache: '{}'", path);
+            return entry;
+        }
+        // compute() runs once per key at a time, so concurrent callers wait for a single parse
+        return cache.compute(path, (key, current) -> {
+            BasicFileAttributes latest = readAttributes(key);
+            return current != null && current.isCurrent(latest) ? current : parse(key, latest);
+        });
+    }
+
+    /**
+     * Parses a cached file again and swaps the new data in, logging the added, removed and changed keys.
+     * <br>Holders of the previous data keep reading it; if the file isn't valid JSON yet, the previous data stays.
+     *
+     * @param path the absolute, normalized path of the JSON file.
+     */
+    static void reload(Path path) {
+        Entry current = cache.get(path);
+        if (current == null) {
+            return;
+        }
+        Entry reloaded;
+        try {
+            reloaded = parse(path, readAttributes(path));
+        } catch (Exception e) {
+            log.warn("Failed to reload '{}', Keeping the previous data: {}", path, e.getMessage());
+            return;
+        }
+        cache.put(path, reloaded);
+        List<String> added = new ArrayList<>();
+        List<String> changed = new ArrayList<>();
+        reloaded.data().forEach((key, value) -> {
+            if (!current.data().containsKey(key)) {
+                added.add(key);
+            } else if (!Objects.equals(current.data().get(key), value)) {
+                changed.add(key);
+            }
+        });
+        List<String> removed = current.keys().stream().filter(key -> !reloaded.data().containsKey(key)).toList();
+        log.info("JSON data '{}' reloaded, Added: {}, Removed: {}, Changed: {}", path, added, removed, changed);
+    }
+
+    /**
+     * Drops every cached file, so the next access parses them again.
+     */
+    public static void invalidateAll() {
+        cache.clear();
+    }
+
+    private static Entry parse(Path path, BasicFileAttributes attributes) {
+        try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            Map<String, Object> parsed = gson.fromJson(reader, MAP_TYPE);
+            @SuppressWarnings("unchecked")
+            Map<String, Object> data = parsed == null ? Map.of() : (Map<String, Object>) freeze(parsed);
+            List<String> keys = List.copyOf(data.keySet());
+            List<Object> values = Collections.unmodifiableList(new ArrayList<>(data.values()));
+            SearchIndex keyIndex = new SearchIndex(keys);
+            SearchIndex valueIndex = new SearchIndex(values.stream().map(value -> value == null ? null : value.toString()).toList());
+            log.info("JSON data parsed, indexed and cached from: '{}'", path);
+            return new Entry(attributes.lastModifiedTime().toMillis(), attributes.size(), data, keys, values,
+                    keyIndex, valueIndex, new ConcurrentHashMap<>());
+        } catch (IOException e) {
+            log.error("Failed to read JSON data from: '{}'.", path);
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static BasicFileAttributes readAttributes(Path path) {
+        try {
+            return Files.readAttributes(path, BasicFileAttributes.class);
+        } catch (IOException e) {
+            log.error("Failed to read the attributes of JSON file: '{}'.", path);
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Binds a parsed JSON object to a record, rejecting unknown fields and values that can't be converted.
+     */
+    @SuppressWarnings("unchecked")
+    static <T extends Record> T convert(String key, Map<?, ?> object, Class<T> type) {
+        Binding<T> binding = (Binding<T>) bindings.computeIfAbsent(type, ignored -> Binding.of(type));
+        for (Object field : object.keySet()) {
+            String name = String.valueOf(field);
+            if (!name.startsWith("_") && !binding.components().containsKey(name)) {
+                throw new JsonParseException("Field '" + name + "' of '" + key + "' isn't declared by '" + type.getSimpleName() + "'.");
+            }
+        }
+        T record = binding.adapter().fromJsonTree(gson.toJsonTree(object));
+        // Gson yields null for values it can't map, like an unknown enum constant, so a given value must bind to one
+        for (Map.Entry<String, RecordComponent> component : binding.components().entrySet()) {
+            if (object.get(component.getKey()) != null && readComponent(record, component.getValue()) == null) {
+                throw new JsonParseException("Field '" + component.getKey() + "' of '" + key + "' has an invalid value: '"
+                        + object.get(component.getKey()) + "'.");
+            }
+        }
+        return record;
+    }
+
+    private static Object readComponent(Record record, RecordComponent component) {
+        try {
+            return component.getAccessor().invoke(record);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Failed to read record component: " + component.getName(), e);
+        }
+    }
+
+    /**
+     * Copies maps and lists into unmodifiable ones, recursively, keeping the map order.
+     */
+    private static Object freeze(Object value) {
+        if (value instanceof Map<?, ?> map) {
+            Map<String, Object> copy = new LinkedHashMap<>();
+            map.forEach((key, nested) -> copy.put(String.valueOf(key), freeze(nested)));
+            return Collections.unmodifiableMap(copy);
+        }
+        if (value instanceof List<?> list) {
+            List<Object> copy = new ArrayList<>(list.size());
+            list.forEach(nested -> copy.add(freeze(nested)));
+            return Collections.unmodifiableList(copy);
+        }
+        return value;
+    }
+}
@@ -1,12 +1,8 @@
 package datadriven;
 
-import com.google.gson.Gson;
-import com.google.gson.reflect.TypeToken;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import java.io.FileReader;
-import java.lang.reflect.Type;
 import java.util.*;
 
 import static java.lang.invoke.MethodHandles.lookup;
@@ -18,9 +14,11 @@ import static java.lang.invoke.MethodHandles.lookup;
  *
  * <p>Key Features:
  * <ul>
- *   <li>Loads a JSON file into memory as a map structure.</li>
+ *   <li>Loads a JSON file into memory as a map structure, parsed once and shared through {@link JsonDataCache}.</li>
+ *   <li>Thread-safe: every instance reads the same immutable data.</li>
  *   <li>Supports retrieval of values as single objects, maps, or lists.</li>
- *   <li>Allows prefix-based filtering of keys or values.</li>
+ *   <li>Binds a JSON object to a Java record once, with typed and validated fields.</li>
+ *   <li>Allows contains-based and true prefix-based filtering of keys or values, served from indexes built at load.</li>
  *   <li>Optional flag-based behavior to throw exceptions or log warnings when data is missing.</li>
  *   <li>Provides built-in null data checking via {@code checkNullData()} utility.</li>
  *   <li>Integrated logging using Log4j for diagnostics and traceability.</li>
@@ -31,6 +29,7 @@ import static java.lang.invoke.MethodHandles.lookup;
  *   JsonFileManager jsonManager = new JsonFileManager("data.json");
  *   Object value = jsonManager.getValueByKey("username");
  *   List<String> items = jsonManager.getValueListByKey("roles");
+ *   PaymentCase testData = jsonManager.getAs("TC1_userCanPayByNorthCoast", PaymentCase.class);
  * }</pre>
  *
  * @author Hossam Atef
@@ -38,20 +37,22 @@ import static java.lang.invoke.MethodHandles.lookup;
  */
 public class JsonFileManager {
 
-    private static LinkedHashMap<String, Object> data;
-    private Type type;
+    private final Map<String, Object> data;
+    private final JsonDataCache.Entry entry;
     private static final Logger log = LogManager.getLogger(lookup().lookupClass());
 
     /**
-     * Initializes the JSON file manager and loads data from the specified JSON file.
+     * Initializes the JSON file manager with the data of the specified JSON file.
+     * <br>The file is parsed once per JVM (and again only if it changes) through {@link JsonDataCache},
+     * and the immutable result is shared by all instances and threads.
      *
      * @param jsonPath the path to the JSON file.
      * @throws Exception if an error occurs during file reading or deserialization.
      */
     public JsonFileManager(String jsonPath) throws Exception {
-        initialization();
         try {
-            data = new Gson().fromJson(new FileReader(jsonPath), type);
+            entry = JsonDataCache.entry(jsonPath);
+            data = entry.data();
             log.info("JSON data loaded successfully from: '{}'", jsonPath);
         } catch (Exception e) {
             log.error("Failed to load JSON data from: '{}'.", jsonPath);
@@ -150,6 +151,27 @@ public class JsonFileManager {
         return null;
     }
 
+    /**
+     * Retrieves the JSON object stored under a key as a record.
+     * <br>The record is bound from the file version this manager was created with, and validated on first access,
+     * then shared, so it is cheaper than repeated {@link #getKeyAndValueByKey(String, boolean...)} calls and needs
+     * no string parsing.
+     *
+     * @param key  the key of the JSON object, e.g. the test case name.
+     * @param type the record type whose components mirror the JSON fields.
+     * @return the bound record.
+     * @throws IllegalArgumentException if the key is not found or its value is not a JSON object.
+     * @throws com.google.gson.JsonParseException if a field is unknown to the record or has an invalid value.
+     */
+    public <T extends Record> T getAs(String key, Class<T> type) {
+        try {
+            return JsonDataCache.bind(entry, key, type);
+        } catch (Exception e) {
+            log.error("Failed to bind key '{}' to '{}': {}", key, type.getSimpleName(), e.getMessage());
+            throw e;
+        }
+    }
+
     /**
      * Retrieves a list of string values by key.
      *
@@ -223,6 +245,7 @@ public class JsonFileManager {
 
     /**
      * Retrieves all keys that contain the specified prefix.
+     * <br>Served from the key index built at load, so it doesn't scan the keys.
      *
      * @param keyPrefix the string to match against keys (case-insensitive, whitespace ignored).
      * @param flag      optional flag:
@@ -246,13 +269,7 @@ public class JsonFileManager {
         }
         boolean checkNullData = checkNullData(flagValue);
         if (!checkNullData) {
-            List<String> keys = new ArrayList<>();
-            for (String key : data.keySet()) {
-                if (key.toLowerCase().replaceAll("\\s+", "")
-                        .contains(keyPrefix.toLowerCase().replaceAll("\\s+", ""))) {
-                    keys.add(key);
-                }
-            }
+            List<String> keys = select(entry.keys(), entry.keyIndex().containing(SearchIndex.normalize(keyPrefix)));
             if (!keys.isEmpty()) {
                 log.info("Matching keys for prefix '{}': {}", keyPrefix, keys);
                 return keys;
@@ -271,6 +288,7 @@ public class JsonFileManager {
 
     /**
      * Retrieves all values that contain the specified prefix.
+     * <br>Served from the value index built at load, so it doesn't scan the values.
      *
      * @param valuePrefix the value substring to match (case-insensitive, whitespace ignored).
      * @param flag        optional flag:
@@ -295,13 +313,7 @@ public class JsonFileManager {
 
         boolean checkNullData = checkNullData(flagValue);
         if (!checkNullData) {
-            List<Object> values = new ArrayList<>();
-            for (Object value : data.values()) {
-                if (value != null && value.toString().toLowerCase().replaceAll("\\s+", "")
-                        .contains(valuePrefix.toLowerCase().replaceAll("\\s+", ""))) {
-                    values.add(value);
-                }
-            }
+            List<Object> values = select(entry.values(), entry.valueIndex().containing(SearchIndex.normalize(valuePrefix)));
 
             if (!values.isEmpty()) {
                 log.info("Matching values for prefix '{}': {}", valuePrefix, values);
@@ -318,6 +330,85 @@ public class JsonFileManager {
         return null;
     }
 
+    /**
+     * Retrieves all keys that start with the specified prefix.
+     *
+     * @param keyPrefix the prefix to match against keys (case-insensitive, whitespace ignored).
+     * @param flag      optional flag:
+     *                  <ul>
+     *                    <li>If true, throws an exception if no matching keys are found.</li>
+     *                    <li>If false or not provided, logs a warning and returns null.</li>
+     *                  </ul>
+     * @return a list of matching keys in file order, or null if none found.
+     * @throws IllegalArgumentException if no key matches or key prefix is null/empty and flag is true.
+     */
+    public List<String> getKeysStartingWith(String keyPrefix, boolean... flag) {
+        boolean flagValue = flag.length > 0 && flag[0];
+
+        if (keyPrefix == null || keyPrefix.isEmpty()) {
+            if (flagValue) {
+                log.error("The provided keyPrefix is null or empty.");
+                throw new IllegalArgumentException("The provided keyPrefix is null or empty." + keyPrefix);
+            }
+            log.warn("The provided keyPrefix is null or empty.");
+            return null;
+        }
+        boolean checkNullData = checkNullData(flagValue);
+        if (!checkNullData) {
+            List<String> keys = select(entry.keys(), entry.keyIndex().startingWith(SearchIndex.normalize(keyPrefix)));
+            if (!keys.isEmpty()) {
+                log.info("Keys starting with '{}': {}", keyPrefix, keys);
+                return keys;
+            }
+            if (flagValue) {
+                log.error("No keys start with '{}'.", keyPrefix);
+                throw new IllegalArgumentException("No keys start with: " + keyPrefix);
+            }
+            log.warn("No keys start with '{}'.", keyPrefix);
+        }
+        return null;
+    }
+
+    /**
+     * Retrieves all values that start with the specified prefix.
+     * <br>A map or list value is compared by its string form, e.g. <code>{Village=...}</code>.
+     *
+     * @param valuePrefix the prefix to match against values (case-insensitive, whitespace ignored).
+     * @param flag        optional flag:
+     *                    <ul>
+     *                      <li>If true, throws an exception if no matching values are found.</li>
+     *                      <li>If false or not provided, logs a warning and returns null.</li>
+     *                    </ul>
+     * @return a list of matching values in file order, or null if none found.
+     * @throws IllegalArgumentException if no value matches or value prefix is null/empty and flag is true.
+     */
+    public List<Object> getValuesStartingWith(String valuePrefix, boolean... flag) {
+        boolean flagValue = flag.length > 0 && flag[0];
+
+        if (valuePrefix == null || valuePrefix.isEmpty()) {
+            if (flagValue) {
+                log.error("The provided valuePrefix is null or empty.");
+                throw new IllegalArgumentException("The provided valuePrefix is null or empty." + valuePrefix);
+            }
+            log.warn("The provided valuePrefix is null or empty.");
+            return null;
+        }
+        boolean checkNullData = checkNullData(flagValue);
+        if (!checkNullData) {
+            List<Object> values = select(entry.values(), entry.valueIndex().startingWith(SearchIndex.normalize(valuePrefix)));
+            if (!values.isEmpty()) {
+                log.info("Values starting with '{}': {}", valuePrefix, values);
+                return values;
+            }
+            if (flagValue) {
+                log.error("No values start with '{}'.", valuePrefix);
+                throw new IllegalArgumentException("No values start with: " + valuePrefix);
+            }
+            log.warn("No values start with '{}'.", valuePrefix);
+        }
+        return null;
+    }
+
     /**
      * Retrieves all values from the JSON data.
      *
@@ -340,16 +431,6 @@ public class JsonFileManager {
         return null;
     }
 
-    /**
-     * Resets the internal data map and sets the expected type for JSON deserialization.
-     */
-    private void initialization() {
-        data = null;
-        type = new TypeToken<LinkedHashMap<String, Object>>() {
-        }.getType();
-        log.debug("Initialized type structure for JSON mapping.");
-    }
-
     /**
      * Validates whether the internal JSON data map is initialized and not empty.
      * @param flagValue determines the behavior on null/empty data:
@@ -360,7 +441,7 @@ public class JsonFileManager {
      * @return true if data is null or empty; false otherwise.
      * @throws NullPointerException if data is null or empty and flagValue is true.
      */
-    private static boolean checkNullData(boolean flagValue) {
+    private boolean checkNullData(boolean flagValue) {
         if (data == null || data.isEmpty()) {
             if (flagValue) {
                 log.error("JSON data is empty or not initialized '{}'.", data);
@@ -372,5 +453,14 @@ public class JsonFileManager {
         return false;
     }
 
-
-}
\ No newline at end of file
+    /**
+     * Picks the elements at the given positions, keeping their order.
+     */
+    private static <T> List<T> select(List<T> elements, int[] positions) {
+        List<T> selected = new ArrayList<>(positions.length);
+        for (int position : positions) {
+            selected.add(elements.get(position));
+        }
+        return selected;
+    }
+}
@@ -0,0 +1,76 @@
+package datadriven;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.google.gson.reflect.TypeToken;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.BufferedReader;
+import java.lang.reflect.Type;
+import java.util.LinkedHashMap;
+
+import static java.lang.invoke.MethodHandles.lookup;
+
+/**
+ * JsonLinesDataSource streams test data rows from a JSON Lines file, one JSON object per line, in constant memory.
+ *
+ * <p>Key Features:
+ * <ul>
+ *   <li>Parses a line only when its row is pulled; blank lines are skipped.</li>
+ *   <li>Values keep their JSON types: nested objects and lists, numbers, booleans and {@code null}.</li>
+ *   <li>The optional <code>_key</code> field names the case and the optional <code>_tags</code> list tags it.</li>
+ * </ul>
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ *   // {"_key": "northCoast_0001", "_tags": ["volume"], "Nationality": "US", "MobileNo": "01000000001"}
+ *   try (Stream<DataSource.Row> rows = new JsonLinesDataSource("src/test/resources/paymentMatrix.jsonl").rows()) {
+ *       rows.map(row -> row.as(PaymentCase.class)).forEach(...);
+ *   }
+ * }</pre>
+ *
+ * @author Hossam Atef
+ * @version 1.0
+ */
+public final class JsonLinesDataSource extends BufferedDataSource {
+
+    private static final Logger log = LogManager.getLogger(lookup().lookupClass());
+    private static final Type MAP_TYPE = new TypeToken<LinkedHashMap<String, Object>>() {
+    }.getType();
+    private static final Gson gson = new Gson();
+
+    /**
+     * @param jsonLinesPath the path to the JSON Lines file; it's opened by every {@link #rows()} call.
+     */
+    public JsonLinesDataSource(String jsonLinesPath) {
+        super(jsonLinesPath);
+    }
+
+    @Override
+    RowReader reader(BufferedReader input) {
+        long[] number = {0};
+        return () -> {
+            String line;
+            do {
+                line = input.readLine();
+            } while (line != null && line.isBlank());
+            if (line == null) {
+                return null;
+            }
+            long rowNumber = ++number[0];
+            LinkedHashMap<String, Object> values;
+            try {
+                values = gson.fromJson(line, MAP_TYPE);
+                if (values == null) {
+                    // Gson maps a literal null line to null rather than failing
+                    throw new JsonParseException("Row '" + rowNumber + "' is null.");
+                }
+            } catch (JsonParseException e) {
+                log.error("Row '{}' of '{}' isn't a JSON object: {}", rowNumber, path, e.getMessage());
+                throw e;
+            }
+            return new Row(rowNumber, key(values.get("_key"), rowNumber), values);
+        };
+    }
+}
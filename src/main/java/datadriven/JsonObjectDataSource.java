@@ -0,0 +1,99 @@
+package datadriven;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * JsonObjectDataSource streams the test cases of a JSON object file, like jsonNewData.json, as rows keyed by
+ * their top-level key; values that aren't JSON objects are skipped.
+ *
+ * <p>Key Features:
+ * <ul>
+ *   <li>Either reads the shared, parsed file from {@link JsonDataCache}, or, for files too large to load,
+ *       parses each case only when its row is pulled, through {@link JsonStreamingSource}.</li>
+ *   <li>Row numbers are the positions of the keys in the file, so shards don't change with the key prefix.</li>
+ * </ul>
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ *   DataSource source = new JsonObjectDataSource("src/test/resources/jsonNewData.json", false);
+ *   try (Stream<DataSource.Row> rows = source.rows("TC1_")) { ... }
+ * }</pre>
+ *
+ * @author Hossam Atef
+ * @version 1.0
+ */
+public final class JsonObjectDataSource implements DataSource {
+
+    private final String jsonPath;
+    private final boolean streaming;
+
+    /**
+     * @param jsonPath  the path to the JSON file.
+     * @param streaming {@code true} to index the file and parse the cases as they're pulled, instead of loading it.
+     */
+    public JsonObjectDataSource(String jsonPath, boolean streaming) {
+        this.jsonPath = jsonPath;
+        this.streaming = streaming;
+    }
+
+    @Override
+    public String getName() {
+        return jsonPath;
+    }
+
+    @Override
+    public Stream<Row> rows() {
+        return rows("", DataSlice.all());
+    }
+
+    @Override
+    public Stream<Row> rows(String keyPrefix) {
+        return rows(keyPrefix, DataSlice.all());
+    }
+
+    @Override
+    public Stream<Row> rows(String keyPrefix, DataSlice slice) {
+        return rows(keyPrefix, slice, row -> true);
+    }
+
+    /**
+     * Streams the rows of the slice whose key starts with the prefix and that pass the filter; keys, shards and
+     * samples are checked before a case is read, so a streamed file only parses the cases of the slice.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public Stream<Row> rows(String keyPrefix, DataSlice slice, Predicate<Row> filter) {
+        String prefix = SearchIndex.normalize(keyPrefix);
+        List<String> keys;
+        IntFunction<Object> reader;
+        if (streaming) {
+            JsonStreamingSource source = JsonStreamingSource.open(jsonPath);
+            keys = source.getKeys();
+            reader = i -> {
+                try {
+                    return source.getKeyAndValueByKey(keys.get(i));
+                } catch (IllegalArgumentException notAnObject) {
+                    return null;
+                }
+            };
+        } else {
+            JsonDataCache.Entry entry = JsonDataCache.entry(jsonPath);
+            keys = entry.keys();
+            reader = entry.values()::get;
+        }
+        Stream<Row> rows = IntStream.range(0, keys.size())
+                .filter(i -> prefix.isEmpty() || SearchIndex.normalize(keys.get(i)).startsWith(prefix))
+                .filter(i -> slice.includes(new Row(i + 1, keys.get(i), Map.of())))
+                .mapToObj(i -> reader.apply(i) instanceof Map<?, ?> testCase
+                        ? new Row(i + 1, keys.get(i), (Map<String, Object>) testCase) : null)
+                .filter(Objects::nonNull)
+                .filter(filter);
+        return slice.limit(rows);
+    }
+}
@@ -0,0 +1,360 @@
+package datadriven;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.*;
+import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.lang.invoke.MethodHandles.lookup;
+
+/**
+ * JsonStreamingSource reads large JSON data files, with tens of thousands of test cases, without loading them.
+ * <br>It indexes the byte range of every top-level value in one pass and parses a case only when it's requested,
+ * so the heap holds the index and the cases in use, whatever the size of the file.
+ *
+ * <p>Key Features:
+ * <ul>
+ *   <li>Builds a lightweight offset index of the top-level keys in a single sequential scan.</li>
+ *   <li>Memory-maps files up to 2 GB; larger files are read with positional reads.</li>
+ *   <li>Materializes a case with Gson's {@link JsonReader} over just its bytes, on the requesting thread.</li>
+ *   <li>Binds cases to records with the same validation as {@link JsonFileManager#getAs(String, Class)}.</li>
+ *   <li>Indexes are shared by all threads and rebuilt when the file changes.</li>
+ * </ul>
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ *   JsonStreamingSource source = JsonStreamingSource.open("src/test/resources/volumeData.json");
+ *   for (String key : source.getKeys()) {
+ *       PaymentCase testData = source.getAs(key, PaymentCase.class);
+ *   }
+ * }</pre>
+ *
+ * @author Hossam Atef
+ * @version 1.0
+ */
+public final class JsonStreamingSource {
+
+    private static final Logger log = LogManager.getLogger(lookup().lookupClass());
+    private static final Type MAP_TYPE = new TypeToken<LinkedHashMap<String, Object>>() {
+    }.getType();
+    private static final Gson gson = new Gson();
+    private static final int SCAN_BUFFER_SIZE = 64 * 1024;
+    private static final Map<Path, JsonStreamingSource> sources = new ConcurrentHashMap<>();
+
+    private final Path path;
+    private final long lastModified;
+    private final long size;
+    private final MappedByteBuffer mapped;
+    private final Map<String, Slice> index;
+
+    /**
+     * The byte range of a top-level value.
+     */
+    private record Slice(long offset, int length) {
+    }
+
+    private JsonStreamingSource(Path path, BasicFileAttributes attributes) throws IOException {
+        this.path = path;
+        this.lastModified = attributes.lastModifiedTime().toMillis();
+        this.size = attributes.size();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            // The mapping stays valid after the channel is closed
+            this.mapped = size <= Integer.MAX_VALUE ? channel.map(FileChannel.MapMode.READ_ONLY, 0, size) : null;
+            Indexer indexer = new Indexer(path);
+            if (mapped != null) {
+                indexer.scan(mapped.duplicate(), 0);
+            } else {
+                ByteBuffer buffer = ByteBuffer.allocateDirect(SCAN_BUFFER_SIZE);
+                long offset = 0;
+                while (channel.read(buffer) > 0) {
+                    buffer.flip();
+                    int read = buffer.remaining();
+                    indexer.scan(buffer, offset);
+                    offset += read;
+                    buffer.clear();
+                }
+            }
+            this.index = Collections.unmodifiableMap(indexer.finish());
+        }
+    }
+
+    /**
+     * Returns the shared source of a JSON object file, indexing it only if it wasn't indexed yet or changed since.
+     *
+     * @param jsonPath the path to the JSON file.
+     * @return the source of the file.
+     * @throws UncheckedIOException if the file can't be read.
+     * @throws JsonParseException   if the file isn't a JSON object.
+     */
+    public static JsonStreamingSource open(String jsonPath) {
+        Path path = Paths.get(jsonPath).toAbsolutePath().normalize();
+        return sources.compute(path, (key, current) -> {
+            try {
+                BasicFileAttributes attributes = Files.readAttributes(key, BasicFileAttributes.class);
+                if (current != null && current.lastModified == attributes.lastModifiedTime().toMillis()
+                        && current.size == attributes.size()) {
+                    return current;
+                }
+                long startNanos = System.nanoTime();
+                JsonStreamingSource source = new JsonStreamingSource(key, attributes);
+                log.info("Indexed '{}' top-level keys of '{}' ({} bytes) in '{}' ms.", source.index.size(), key,
+                        attributes.size(), (System.nanoTime() - startNanos) / 1_000_000);
+                return source;
+            } catch (IOException e) {
+                log.error("Failed to index JSON data file: '{}'.", key);
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    /**
+     * @return the number of top-level keys in the file.
+     */
+    public int size() {
+        return index.size();
+    }
+
+    /**
+     * @return the top-level keys, in file order.
+     */
+    public List<String> getKeys() {
+        return List.copyOf(index.keySet());
+    }
+
+    /**
+     * @param key the key to look up.
+     * @return {@code true} if the file has this top-level key.
+     */
+    public boolean containsKey(String key) {
+        return index.containsKey(key);
+    }
+
+    /**
+     * Parses the JSON object stored under a key into a new map.
+     *
+     * @param key the key of the JSON object, e.g. the test case name.
+     * @return a new mutable map, in file order.
+     * @throws IllegalArgumentException if the key isn't in the file, or its value isn't a JSON object.
+     */
+    public LinkedHashMap<String, Object> getKeyAndValueByKey(String key) {
+        Slice slice = slice(key);
+        try (JsonReader reader = new JsonReader(new InputStreamReader(new ByteArrayInputStream(read(slice)), StandardCharsets.UTF_8))) {
+            if (reader.peek() != JsonToken.BEGIN_OBJECT) {
+                log.error("Value under key '{}' is not a JSON object.", key);
+                throw new IllegalArgumentException("Value under key '" + key + "' is not a JSON object.");
+            }
+            return gson.fromJson(reader, MAP_TYPE);
+        } catch (IOException e) {
+            log.error("Failed to read key '{}' from: '{}'.", key, path);
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Parses the JSON object stored under a key and binds it to a record.
+     * <br>The record isn't kept, so every call parses the case again; keep the result for as long as it's needed.
+     *
+     * @param key  the key of the JSON object, e.g. the test case name.
+     * @param type the record type whose components mirror the JSON fields.
+     * @return the bound record.
+     * @throws IllegalArgumentException if the key isn't in the file, or its value isn't a JSON object.
+     * @throws JsonParseException       if a field is unknown to the record or has an invalid value.
+     */
+    public <T extends Record> T getAs(String key, Class<T> type) {
+        return JsonDataCache.convert(key, getKeyAndValueByKey(key), type);
+    }
+
+    private Slice slice(String key) {
+        Slice slice = index.get(key);
+        if (slice == null) {
+            log.error("Key '{}' not found in JSON data.", key);
+            throw new IllegalArgumentException("Key '" + key + "' not found in JSON data.");
+        }
+        return slice;
+    }
+
+    private byte[] read(Slice slice) throws IOException {
+        byte[] bytes = new byte[slice.length()];
+        if (mapped != null) {
+            // Absolute bulk get leaves the shared buffer's position untouched, so threads can read concurrently
+            mapped.get((int) slice.offset(), bytes);
+            return bytes;
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, slice.offset() + buffer.position()) < 0) {
+                    throw new EOFException("JSON data file '" + path + "' changed while reading it.");
+                }
+            }
+            return bytes;
+        }
+    }
+
+    /**
+     * Byte-level scanner that records where each top-level value starts and ends.
+     * <br>It only tracks strings and nesting; the values themselves are parsed by Gson when they're requested.
+     */
+    private static final class Indexer {
+
+        private enum Phase {BEFORE_OBJECT, KEY, COLON, VALUE_START, IN_VALUE, AFTER_OBJECT}
+
+        private final Path path;
+        private final Map<String, Slice> index = new LinkedHashMap<>();
+        private final ByteArrayOutputStream keyBytes = new ByteArrayOutputStream();
+        private Phase phase = Phase.BEFORE_OBJECT;
+        private int depth;
+        private boolean inString;
+        private boolean escaped;
+        private boolean readingKey;
+        private boolean keyHasEscapes;
+        private String key;
+        private long valueStart;
+        private long lastValueByte;
+
+        private Indexer(Path path) {
+            this.path = path;
+        }
+
+        private void scan(ByteBuffer buffer, long baseOffset) {
+            for (int i = buffer.position(); i < buffer.limit(); i++) {
+                accept(buffer.get(i), baseOffset + i);
+            }
+        }
+
+        private void accept(byte b, long offset) {
+            if (inString) {
+                if (escaped) {
+                    escaped = false;
+                } else if (b == '\\') {
+                    escaped = true;
+                    keyHasEscapes |= readingKey;
+                } else if (b == '"') {
+                    inString = false;
+                    if (readingKey) {
+                        readingKey = false;
+                        key = decodeKey();
+                        phase = Phase.COLON;
+                        return;
+                    }
+                }
+                if (readingKey) {
+                    keyBytes.write(b);
+                } else {
+                    lastValueByte = offset;
+                }
+                return;
+            }
+            if (b == ' ' || b == '\n' || b == '\r' || b == '\t') {
+                return;
+            }
+            switch (phase) {
+                case BEFORE_OBJECT -> {
+                    if (offset < 3 && (b == (byte) 0xEF || b == (byte) 0xBB || b == (byte) 0xBF)) {
+                        return; // UTF-8 byte order mark
+                    }
+                    if (b != '{') {
+                        fail(offset, "the file must be a JSON object");
+                    }
+                    depth = 1;
+                    phase = Phase.KEY;
+                }
+                case KEY -> {
+                    if (b == '"') {
+                        inString = true;
+                        readingKey = true;
+                        keyHasEscapes = false;
+                        keyBytes.reset();
+                    } else if (b == '}' && index.isEmpty()) {
+                        depth = 0;
+                        phase = Phase.AFTER_OBJECT;
+                    } else {
+                        fail(offset, "expected a key");
+                    }
+                }
+                case COLON -> {
+                    if (b != ':') {
+                        fail(offset, "expected ':'");
+                    }
+                    phase = Phase.VALUE_START;
+                }
+                case VALUE_START -> {
+                    valueStart = offset;
+                    phase = Phase.IN_VALUE;
+                    inValue(b, offset);
+                }
+                case IN_VALUE -> inValue(b, offset);
+                case AFTER_OBJECT -> fail(offset, "unexpected content after the top-level object");
+            }
+        }
+
+        private void inValue(byte b, long offset) {
+            if (depth == 1 && (b == ',' || b == '}')) {
+                long length = lastValueByte - valueStart + 1;
+                if (length > Integer.MAX_VALUE) {
+                    fail(valueStart, "the value of '" + key + "' is larger than 2 GB");
+                }
+                if (index.put(key, new Slice(valueStart, (int) length)) != null) {
+                    log.warn("Duplicate key '{}' in '{}', The last value is used.", key, path);
+                }
+                if (b == ',') {
+                    phase = Phase.KEY;
+                } else {
+                    depth = 0;
+                    phase = Phase.AFTER_OBJECT;
+                }
+                return;
+            }
+            if (b == '"') {
+                inString = true;
+            } else if (b == '{' || b == '[') {
+                depth++;
+            } else if (b == '}' || b == ']') {
+                depth--;
+            }
+            lastValueByte = offset;
+        }
+
+        private String decodeKey() {
+            String raw = keyBytes.toString(StandardCharsets.UTF_8);
+            if (!keyHasEscapes) {
+                return raw;
+            }
+            try (JsonReader reader = new JsonReader(new StringReader("\"" + raw + "\""))) {
+                return reader.nextString();
+            } catch (IOException e) {
+                throw new JsonParseException("Invalid key '" + raw + "' in '" + path + "'.", e);
+            }
+        }
+
+        private Map<String, Slice> finish() {
+            if (phase != Phase.AFTER_OBJECT) {
+                log.error("JSON data file '{}' ends before its top-level object is closed.", path);
+                throw new JsonParseException("JSON data file '" + path + "' ends before its top-level object is closed.");
+            }
+            return index;
+        }
+
+        private void fail(long offset, String reason) {
+            log.error("Malformed JSON data file '{}' at byte '{}': {}.", path, offset, reason);
+            throw new JsonParseException("Malformed JSON data file '" + path + "' at byte " + offset + ": " + reason + ".");
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package datadriven;
+
+import java.util.*;
+
+/**
+ * SearchIndex answers contains and prefix queries over a fixed list of strings without scanning them all.
+ * <br>Strings are normalized once (lowercase, whitespace removed), the same way {@link JsonFileManager} compares them.
+ *
+ * <p>Key Features:
+ * <ul>
+ *   <li>Sorted array of the normalized strings for true prefix queries by binary search.</li>
+ *   <li>Inverted index from each three-character token to the entries containing it; a contains query
+ *       only verifies the entries listed under its rarest token.</li>
+ *   <li>Returns entry positions in their original order, so results keep the file order.</li>
+ * </ul>
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ *   SearchIndex index = new SearchIndex(List.of("TC1_userCanPayByNorthCoast", "TC9_userEntersWrongDataAtNorthCoastTab"));
+ *   int[] matches = index.containing(SearchIndex.normalize("North Coast"));   // [0, 1]
+ *   int[] prefixed = index.startingWith(SearchIndex.normalize("tc9"));       // [1]
+ * }</pre>
+ *
+ * @author Hossam Atef
+ * @version 1.0
+ */
+final class SearchIndex {
+
+    private static final int TOKEN_LENGTH = 3;
+    private static final int[] NONE = new int[0];
+
+    private final String[] normalized;
+    private final String[] sorted;
+    private final int[] sortedPositions;
+    private final Map<Long, int[]> postings;
+
+    /**
+     * Builds the index.
+     *
+     * @param entries the strings to index, {@code null} entries never match.
+     */
+    SearchIndex(List<String> entries) {
+        int size = entries.size();
+        normalized = new String[size];
+        Integer[] order = new Integer[size];
+        Map<Long, List<Integer>> tokens = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            String entry = entries.get(i);
+            normalized[i] = entry == null ? null : normalize(entry);
+            order[i] = i;
+            if (normalized[i] == null) {
+                continue;
+            }
+            Set<Long> seen = new HashSet<>();
+            for (int start = 0; start + TOKEN_LENGTH <= normalized[i].length(); start++) {
+                long token = token(normalized[i], start);
+                if (seen.add(token)) {
+                    tokens.computeIfAbsent(token, ignored -> new ArrayList<>()).add(i);
+                }
+            }
+        }
+        Arrays.sort(order, Comparator.comparing((Integer i) -> normalized[i], Comparator.nullsFirst(Comparator.naturalOrder())));
+        sorted = new String[size];
+        sortedPositions = new int[size];
+        for (int i = 0; i < size; i++) {
+            sortedPositions[i] = order[i];
+            sorted[i] = normalized[order[i]];
+        }
+        postings = new HashMap<>(tokens.size() * 2);
+        tokens.forEach((token, positions) -> postings.put(token, positions.stream().mapToInt(Integer::intValue).toArray()));
+    }
+
+    /**
+     * Normalizes a string for indexing and querying: lowercase with all whitespace removed.
+     *
+     * @param value the string to normalize.
+     * @return the normalized string.
+     */
+    static String normalize(String value) {
+        return value.toLowerCase().replaceAll("\\s+", "");
+    }
+
+    /**
+     * Finds the entries whose normalized form contains the query.
+     *
+     * @param query the normalized query.
+     * @return the positions of the matching entries, ascending.
+     */
+    int[] containing(String query) {
+        if (query.length() < TOKEN_LENGTH) {
+            return scan(query);
+        }
+        int[] candidates = null;
+        for (int start = 0; start + TOKEN_LENGTH <= query.length(); start++) {
+            int[] positions = postings.get(token(query, start));
+            if (positions == null) {
+                return NONE;
+            }
+            if (candidates == null || positions.length < candidates.length) {
+                candidates = positions;
+            }
+        }
+        int count = 0;
+        int[] matches = new int[candidates.length];
+        for (int position : candidates) {
+            if (normalized[position].contains(query)) {
+                matches[count++] = position;
+            }
+        }
+        return Arrays.copyOf(matches, count);
+    }
+
+    /**
+     * Finds the entries whose normalized form starts with the query.
+     *
+     * @param query the normalized query.
+     * @return the positions of the matching entries, ascending.
+     */
+    int[] startingWith(String query) {
+        int low = 0;
+        int high = sorted.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (sorted[middle] == null || sorted[middle].compareTo(query) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        int end = low;
+        while (end < sorted.length && sorted[end].startsWith(query)) {
+            end++;
+        }
+        int[] matches = Arrays.copyOfRange(sortedPositions, low, end);
+        Arrays.sort(matches);
+        return matches;
+    }
+
+    private int[] scan(String query) {
+        int count = 0;
+        int[] matches = new int[normalized.length];
+        for (int i = 0; i < normalized.length; i++) {
+            if (normalized[i] != null && normalized[i].contains(query)) {
+                matches[count++] = i;
+            }
+        }
+        return Arrays.copyOf(matches, count);
+    }
+
+    private static long token(String value, int start) {
+        return ((long) value.charAt(start) << 32) | ((long) value.charAt(start + 1) << 16) | value.charAt(start + 2);
+    }
+}
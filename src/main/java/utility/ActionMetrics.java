@@ -0,0 +1,246 @@
+package utility;
+
+import com.google.gson.GsonBuilder;
+import io.qameta.allure.Allure;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.lang.invoke.MethodHandles.lookup;
+
+/**
+ * ActionMetrics records the wall-clock latency of every UI and browser action, broken down by
+ * locator type and wait condition, and exports p50/p95/p99 per action at the end of the run.
+ *
+ * <p>Key Features:
+ * <ul>
+ *   <li>Keeps one set of {@link LatencyHistogram}s per thread, so recording needs no locking.</li>
+ *   <li>Only records the outermost action of a thread, so an action calling other timed actions, e.g. a click
+ *       locating its element, isn't counted twice.</li>
+ *   <li>Allocates only the first time an action/locator/condition combination is seen on a thread.</li>
+ *   <li>Merges all threads on export and writes a JSON report sorted by total time, hot spots first.</li>
+ *   <li>Attaches the same JSON report to Allure.</li>
+ *   <li>Counts step-level retries of transient failures (stale elements, intercepted clicks) per action.</li>
+ *   <li>Can be turned off with {@code -DactionMetrics=false}.</li>
+ * </ul>
+ *
+ * <p>Every {@link #start()} must be paired with a {@link #record(String, long)} in a {@code finally} block.
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ *   long startNanos = ActionMetrics.start();
+ *   try {
+ *       element.click();
+ *   } finally {
+ *       ActionMetrics.record("UIActions.click", locator, condition, startNanos);
+ *   }
+ *   ActionMetrics.export(Path.of("target/metrics/action-latency.json"));
+ * }</pre>
+ *
+ * @author Hossam Atef
+ * @version 1.0
+ */
+public class ActionMetrics {
+
+    private static final Logger log = LogManager.getLogger(lookup().lookupClass());
+    private static final boolean enabled = Boolean.parseBoolean(System.getProperty("actionMetrics", "true"));
+
+    /**
+     * Slots per dimension; slot 0 is "no locator" / "no condition", so enums up to 15 constants fit.
+     */
+    private static final int DIMENSION_SLOTS = 16;
+
+    private static final Map<String, LongAdder> stepRetries = new ConcurrentHashMap<>();
+    private static final Queue<Map<String, Series>> allRecorders = new ConcurrentLinkedQueue<>();
+    private static final ThreadLocal<Map<String, Series>> recorder = ThreadLocal.withInitial(() -> {
+        Map<String, Series> series = new HashMap<>();
+        allRecorders.add(series);
+        return series;
+    });
+    private static final ThreadLocal<int[]> depth = ThreadLocal.withInitial(() -> new int[1]);
+
+    /**
+     * The histograms of one action, indexed by locator and condition slot.
+     */
+    private static final class Series {
+        private final LatencyHistogram[] histograms = new LatencyHistogram[DIMENSION_SLOTS * DIMENSION_SLOTS];
+        private final String[] locators = new String[DIMENSION_SLOTS * DIMENSION_SLOTS];
+        private final String[] conditions = new String[DIMENSION_SLOTS * DIMENSION_SLOTS];
+    }
+
+    /**
+     * Returns the start timestamp of an action, and enters it on the current thread.
+     *
+     * @return the current {@link System#nanoTime()}, or 0 when metrics are turned off.
+     */
+    public static long start() {
+        if (!enabled) {
+            return 0;
+        }
+        depth.get()[0]++;
+        return System.nanoTime();
+    }
+
+    /**
+     * Records an action that isn't tied to a locator or a wait condition.
+     *
+     * @param action     the action name (e.g., "BrowserActions.navigateToPage"), a constant string.
+     * @param startNanos the timestamp returned by {@link #start()}.
+     */
+    public static void record(String action, long startNanos) {
+        record(action, null, null, startNanos);
+    }
+
+    /**
+     * Records an action with its locator type and wait condition, unless it ran inside another action
+     * of the same thread, whose time already includes it.
+     *
+     * @param action     the action name (e.g., "UIActions.click"), a constant string.
+     * @param locator    the locator type, or {@code null} for actions on an existing element.
+     * @param condition  the wait condition, or {@code null} if none applies.
+     * @param startNanos the timestamp returned by {@link #start()}.
+     */
+    public static void record(String action, Enum<?> locator, Enum<?> condition, long startNanos) {
+        if (!enabled) {
+            return;
+        }
+        long elapsed = System.nanoTime() - startNanos;
+        int[] nesting = depth.get();
+        if (nesting[0] > 0 && --nesting[0] > 0) {
+            return;
+        }
+        Series series = recorder.get().computeIfAbsent(action, key -> new Series());
+        int slot = slotOf(locator) * DIMENSION_SLOTS + slotOf(condition);
+        LatencyHistogram histogram = series.histograms[slot];
+        if (histogram == null) {
+            histogram = new LatencyHistogram();
+            series.histograms[slot] = histogram;
+            series.locators[slot] = locator == null ? "element" : locator.name();
+            series.conditions[slot] = condition == null ? "none" : condition.name();
+        }
+        histogram.recordNanos(elapsed);
+    }
+
+    /**
+     * Counts a step-level retry of an action, keyed by action and exception type.
+     *
+     * @param action the action name (e.g., "UIActions.click").
+     * @param cause  the transient exception that triggered the retry.
+     */
+    public static void countStepRetry(String action, Throwable cause) {
+        stepRetries.computeIfAbsent(action + ":" + cause.getClass().getSimpleName(), key -> new LongAdder()).increment();
+    }
+
+    /**
+     * Returns the step-level retry counts so far.
+     *
+     * @return the counts keyed by {@code action:exception}, sorted by key.
+     */
+    public static Map<String, Long> getStepRetries() {
+        Map<String, Long> counts = new TreeMap<>();
+        stepRetries.forEach((key, count) -> counts.put(key, count.sum()));
+        return counts;
+    }
+
+    /**
+     * Merges the histograms of all threads and builds the report.
+     * <br>Call it once recording is over (e.g., after the suite), as threads are read without locking.
+     *
+     * @return the report with an {@code actions} entry per action and a {@code breakdown} entry
+     * per action, locator type and wait condition, both sorted by total time, and the {@code stepRetries} counts.
+     */
+    public static Map<String, Object> snapshot() {
+        Map<String, LatencyHistogram> byAction = new TreeMap<>();
+        Map<String, LatencyHistogram> byBreakdown = new TreeMap<>();
+        Map<String, String[]> labels = new HashMap<>();
+
+        for (Map<String, Series> threadSeries : allRecorders) {
+            for (Map.Entry<String, Series> entry : threadSeries.entrySet()) {
+                Series series = entry.getValue();
+                for (int slot = 0; slot < series.histograms.length; slot++) {
+                    LatencyHistogram histogram = series.histograms[slot];
+                    if (histogram == null) {
+                        continue;
+                    }
+                    String key = entry.getKey() + "|" + series.locators[slot] + "|" + series.conditions[slot];
+                    byAction.computeIfAbsent(entry.getKey(), k -> new LatencyHistogram()).merge(histogram);
+                    byBreakdown.computeIfAbsent(key, k -> new LatencyHistogram()).merge(histogram);
+                    labels.putIfAbsent(key, new String[]{entry.getKey(), series.locators[slot], series.conditions[slot]});
+                }
+            }
+        }
+
+        List<Map<String, Object>> actions = new ArrayList<>();
+        byAction.forEach((action, histogram) -> actions.add(row(new String[]{action}, histogram)));
+        List<Map<String, Object>> breakdown = new ArrayList<>();
+        byBreakdown.forEach((key, histogram) -> breakdown.add(row(labels.get(key), histogram)));
+        Comparator<Map<String, Object>> byTotal = Comparator.comparingDouble(row -> -(double) row.get("totalMs"));
+        actions.sort(byTotal);
+        breakdown.sort(byTotal);
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("generatedAt", Instant.now().toString());
+        report.put("actions", actions);
+        report.put("breakdown", breakdown);
+        report.put("stepRetries", getStepRetries());
+        return report;
+    }
+
+    /**
+     * Writes the merged report as JSON to the given file and attaches it to Allure.
+     *
+     * @param jsonFile the file to write, parent directories are created if missing.
+     */
+    public static void export(Path jsonFile) {
+        if (!enabled) {
+            return;
+        }
+        String json = new GsonBuilder().setPrettyPrinting().create().toJson(snapshot());
+        try {
+            if (jsonFile.getParent() != null) {
+                Files.createDirectories(jsonFile.getParent());
+            }
+            Files.writeString(jsonFile, json, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            log.error("Failed to write the action latency report to '{}'.", jsonFile);
+            throw new UncheckedIOException(e);
+        }
+        Allure.addAttachment("Action Latency", "application/json", json, ".json");
+        log.info("Action latency report written to '{}'.", jsonFile);
+    }
+
+    private static int slotOf(Enum<?> value) {
+        return value == null ? 0 : Math.min(value.ordinal() + 1, DIMENSION_SLOTS - 1);
+    }
+
+    private static Map<String, Object> row(String[] labels, LatencyHistogram histogram) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("action", labels[0]);
+        if (labels.length > 1) {
+            row.put("locator", labels[1]);
+            row.put("condition", labels[2]);
+        }
+        row.put("count", histogram.getCount());
+        row.put("totalMs", round(histogram.getTotalMillis()));
+        row.put("meanMs", round(histogram.getMeanMillis()));
+        row.put("p50Ms", round(histogram.percentileMillis(50)));
+        row.put("p95Ms", round(histogram.percentileMillis(95)));
+        row.put("p99Ms", round(histogram.percentileMillis(99)));
+        row.put("maxMs", round(histogram.getMaxMillis()));
+        return row;
+    }
+
+    private static double round(double millis) {
+        return Math.round(millis * 100) / 100.0;
+    }
+}
@@ -0,0 +1,217 @@
+package utility;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.net.URI;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+import static java.lang.invoke.MethodHandles.lookup;
+
+/**
+ * AuthStateCache keeps the authenticated state of each account after its first UI login, and restores it
+ * into new browser sessions of the same account, so tests skip the login form.
+ *
+ * <p>Key Features:
+ * <ul>
+ *   <li>Captures the cookies, local storage and session storage of the logged-in page, and the page's URL.</li>
+ *   <li>Restores them into a new session and opens the captured page directly.</li>
+ *   <li>Checks every restore with a caller-supplied validity check; an invalid or expired state is dropped,
+ *       the session is cleaned, and the caller falls back to the UI login.</li>
+ *   <li>States expire after a time to live, shorter than the application's session timeout.</li>
+ *   <li>Counts hits, misses and rejected restores.</li>
+ *   <li>Can be turned off, e.g. with {@code -DauthStateCache=false}, to log in through the UI every time.</li>
+ * </ul>
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ *   if (!AuthStateCache.restore(driver, userId, ignored -> paymentPage.isDisplayed())) {
+ *       loginPage.enterId(userId);
+ *       loginPage.enterPassword(password);
+ *       loginPage.clickLoginButton();
+ *       AuthStateCache.capture(driver, userId);
+ *   }
+ * }</pre>
+ *
+ * @author Hossam Atef
+ * @version 1.0
+ */
+public class AuthStateCache {
+
+    private static final Logger log = LogManager.getLogger(lookup().lookupClass());
+    private static final ThreadLocal<Settings> settings = ThreadLocal.withInitial(() -> new Settings(true, 15 * 60 * 1000));
+    private static final Map<String, AuthState> states = new ConcurrentHashMap<>();
+    private static final LongAdder hits = new LongAdder();
+    private static final LongAdder misses = new LongAdder();
+    private static final LongAdder rejected = new LongAdder();
+
+    private static final String READ_STORAGE = "var storage = window[arguments[0]], copy = {};"
+            + "for (var i = 0; i < storage.length; i++) { var key = storage.key(i); copy[key] = storage.getItem(key); }"
+            + "return copy;";
+    private static final String WRITE_STORAGE = "var storage = window[arguments[0]], items = arguments[1];"
+            + "storage.clear(); for (var key in items) { storage.setItem(key, items[key]); }";
+
+    /**
+     * The authenticated state of one account.
+     */
+    private record AuthState(Set<Cookie> cookies, Map<String, String> localStorage, Map<String, String> sessionStorage,
+                             String landingUrl, long capturedAt) {
+    }
+
+    /**
+     * Whether the cache is used, and for how long a state is reused, on one thread.
+     */
+    private record Settings(boolean enabled, long ttlMillis) {
+    }
+
+    /**
+     * Applies to the current thread only, so a test keeps the settings it started with.
+     *
+     * @param enable    {@code false} to always log in through the UI.
+     * @param ttlMillis how long a captured state is reused, keep it below the application's session timeout.
+     */
+    public static void configure(boolean enable, long ttlMillis) {
+        settings.set(new Settings(enable, ttlMillis));
+    }
+
+    /**
+     * Captures the authenticated state of the current page, right after a successful UI login.
+     * <br>Never fails the test: if the state can't be read, the next session logs in through the UI again.
+     *
+     * @param driver  the logged-in session.
+     * @param account the account that logged in.
+     */
+    public static void capture(WebDriver driver, String account) {
+        if (!settings.get().enabled()) {
+            return;
+        }
+        try {
+            AuthState state = new AuthState(Set.copyOf(driver.manage().getCookies()), readStorage(driver, "localStorage"),
+                    readStorage(driver, "sessionStorage"), driver.getCurrentUrl(), System.currentTimeMillis());
+            states.put(account, state);
+            log.info("Auth state of account '{}' captured: '{}' cookies, '{}' local and '{}' session storage items, Landing page: '{}'",
+                    account, state.cookies().size(), state.localStorage().size(), state.sessionStorage().size(), state.landingUrl());
+        } catch (Exception e) {
+            log.warn("Failed to capture the auth state of account '{}': {}", account, e.getMessage());
+        }
+    }
+
+    /**
+     * Restores the captured state of an account into the session and opens the captured landing page.
+     * <br>If there's no usable state, or the validity check fails, the session is left logged out on its
+     * current page and {@code false} is returned, so the caller logs in through the UI.
+     *
+     * @param driver     a new session, already on the application's site.
+     * @param account    the account to restore.
+     * @param isLoggedIn checks that the restored session is logged in, e.g. that the landing page is displayed.
+     * @return {@code true} if the session is logged in as the account.
+     */
+    public static boolean restore(WebDriver driver, String account, Predicate<WebDriver> isLoggedIn) {
+        Settings current = settings.get();
+        if (!current.enabled()) {
+            return false;
+        }
+        AuthState state = states.get(account);
+        if (state == null || System.currentTimeMillis() - state.capturedAt() > current.ttlMillis()) {
+            if (state != null) {
+                states.remove(account, state);
+                log.info("Auth state of account '{}' expired, Logging in through the UI.", account);
+            }
+            misses.increment();
+            return false;
+        }
+        String startUrl = driver.getCurrentUrl();
+        try {
+            if (!sameOrigin(startUrl, state.landingUrl())) {
+                driver.navigate().to(state.landingUrl());
+            }
+            driver.manage().deleteAllCookies();
+            for (Cookie cookie : state.cookies()) {
+                try {
+                    driver.manage().addCookie(cookie);
+                } catch (Exception e) {
+                    log.debug("Cookie '{}' of domain '{}' not restored: {}", cookie.getName(), cookie.getDomain(), e.getMessage());
+                }
+            }
+            writeStorage(driver, "localStorage", state.localStorage());
+            writeStorage(driver, "sessionStorage", state.sessionStorage());
+            driver.navigate().to(state.landingUrl());
+            if (isLoggedIn.test(driver)) {
+                hits.increment();
+                log.info("Auth state of account '{}' restored, UI login skipped.", account);
+                return true;
+            }
+            log.warn("Restored auth state of account '{}' isn't logged in, Logging in through the UI.", account);
+        } catch (Exception e) {
+            log.warn("Failed to restore the auth state of account '{}', Logging in through the UI: {}", account, e.getMessage());
+        }
+        rejected.increment();
+        states.remove(account, state);
+        reset(driver, startUrl);
+        return false;
+    }
+
+    /**
+     * Drops the captured state of an account, e.g. after its password changed or it logged out.
+     *
+     * @param account the account to forget.
+     */
+    public static void invalidate(String account) {
+        states.remove(account);
+    }
+
+    /**
+     * @return the restore counts so far: {@code hits}, {@code misses} (no usable state) and {@code rejected}
+     * (restored but not logged in).
+     */
+    public static Map<String, Long> getStats() {
+        Map<String, Long> stats = new LinkedHashMap<>();
+        stats.put("hits", hits.sum());
+        stats.put("misses", misses.sum());
+        stats.put("rejected", rejected.sum());
+        return stats;
+    }
+
+    private static Map<String, String> readStorage(WebDriver driver, String storage) {
+        Object items = ((JavascriptExecutor) driver).executeScript(READ_STORAGE, storage);
+        Map<String, String> copy = new LinkedHashMap<>();
+        if (items instanceof Map<?, ?> map) {
+            map.forEach((key, value) -> copy.put(String.valueOf(key), value == null ? null : String.valueOf(value)));
+        }
+        return Collections.unmodifiableMap(copy);
+    }
+
+    private static void writeStorage(WebDriver driver, String storage, Map<String, String> items) {
+        ((JavascriptExecutor) driver).executeScript(WRITE_STORAGE, storage, items);
+    }
+
+    /**
+     * Logs the session out of the rejected state and goes back to where it started, ready for a UI login.
+     */
+    private static void reset(WebDriver driver, String startUrl) {
+        try {
+            driver.manage().deleteAllCookies();
+            writeStorage(driver, "localStorage", Map.of());
+            writeStorage(driver, "sessionStorage", Map.of());
+            driver.navigate().to(startUrl);
+        } catch (Exception e) {
+            log.warn("Failed to reset the session after a rejected auth state: {}", e.getMessage());
+        }
+    }
+
+    private static boolean sameOrigin(String first, String second) {
+        try {
+            URI a = URI.create(first);
+            URI b = URI.create(second);
+            return Objects.equals(a.getScheme(), b.getScheme()) && Objects.equals(a.getHost(), b.getHost()) && a.getPort() == b.getPort();
+        } catch (Exception e) {
+            return false;
+        }
+    }
+}
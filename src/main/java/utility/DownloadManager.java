@@ -0,0 +1,246 @@
+package utility;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.TimeoutException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static java.lang.invoke.MethodHandles.lookup;
+import static java.nio.file.StandardWatchEventKinds.*;
+
+/**
+ * DownloadManager gives every browser session its own download directory and detects
+ * completed downloads through a {@link WatchService} instead of polling the directory listing.
+ *
+ * <p>Key Features:
+ * <ul>
+ *   <li>Creates a unique per-thread download directory under the configured base directory,
+ *       so parallel sessions never see each other's files.</li>
+ *   <li>Ignores in-progress files ({@code .crdownload}, {@code .part}, {@code .tmp}, {@code .download}).</li>
+ *   <li>Reports a download as complete only once its size has stayed the same for a short stability window.</li>
+ *   <li>Deletes the whole session directory in one call once the session ends.</li>
+ * </ul>
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ *   String downloadDir = DownloadManager.createSessionDirectory(config.getValue("downloadDirectory")).toString();
+ *   List<Path> pdfFiles = DownloadManager.waitForDownloads(2, ".pdf", 10);
+ *   DownloadManager.removeSessionDirectory();
+ * }</pre>
+ *
+ * @author Hossam Atef
+ * @version 1.0
+ */
+public class DownloadManager {
+
+    private static final Logger log = LogManager.getLogger(lookup().lookupClass());
+    private static final ThreadLocal<Path> sessionDirectory = new ThreadLocal<>();
+    private static final List<String> PARTIAL_EXTENSIONS = List.of(".crdownload", ".part", ".tmp", ".download");
+    private static final long STABILITY_WINDOW_MILLIS = 500;
+
+    /**
+     * Creates a new download directory for the current thread under the given base directory.
+     * <br>Any previous session directory of this thread is removed first.
+     *
+     * @param baseDirectory the configured download directory.
+     * @return the absolute path of the created session directory.
+     */
+    public static Path createSessionDirectory(String baseDirectory) {
+        removeSessionDirectory();
+        String name = "session_" + Thread.currentThread().threadId() + "_" + UUID.randomUUID().toString().substring(0, 8);
+        Path directory = Paths.get(baseDirectory, name).toAbsolutePath();
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            log.error("Failed to create the session download directory '{}'.", directory);
+            throw new UncheckedIOException(e);
+        }
+        sessionDirectory.set(directory);
+        log.info("Session download directory created at: '{}'.", directory);
+        return directory;
+    }
+
+    /**
+     * Returns the download directory of the current thread's session.
+     *
+     * @return the session directory.
+     * @throws IllegalStateException if no session directory has been created for this thread.
+     */
+    public static Path getSessionDirectory() {
+        Path directory = sessionDirectory.get();
+        if (directory == null) {
+            log.error("No session download directory has been created for this thread.");
+            throw new IllegalStateException("No session download directory has been created for this thread.");
+        }
+        return directory;
+    }
+
+    /**
+     * Waits until at least the expected number of completed files are in the current session directory.
+     *
+     * @param expectedCount the minimum number of completed files.
+     * @param extension     the required file extension (e.g., ".pdf"), or {@code null} to accept any file.
+     * @param timeoutSec    the maximum number of seconds to wait.
+     * @return the completed files.
+     * @throws TimeoutException if the files aren't completed within the timeout.
+     */
+    public static List<Path> waitForDownloads(int expectedCount, String extension, int timeoutSec) {
+        return waitForDownloads(getSessionDirectory(), expectedCount, extension, timeoutSec);
+    }
+
+    /**
+     * Waits until at least the expected number of completed files are in the given directory.
+     * <p>
+     * The directory is registered with a {@link WatchService}, so the check runs only when a file is
+     * created, modified or deleted, plus once more after the stability window. A download is complete when
+     * no in-progress file is left and the sizes of the matching files are non-zero and unchanged over the window.
+     * </p>
+     *
+     * @param directory     the directory the files are downloaded to.
+     * @param expectedCount the minimum number of completed files.
+     * @param extension     the required file extension (e.g., ".pdf"), or {@code null} to accept any file.
+     * @param timeoutSec    the maximum number of seconds to wait.
+     * @return the completed files.
+     * @throws TimeoutException if the files aren't completed within the timeout.
+     */
+    public static List<Path> waitForDownloads(Path directory, int expectedCount, String extension, int timeoutSec) {
+        return waitForDownloads(directory, expectedCount, false, extension, timeoutSec);
+    }
+
+    /**
+     * Waits until the expected number of completed files are in the given directory, exactly or at least.
+     * <br>With an exact count, extra matching files keep it waiting, so an unexpected file ends in a timeout.
+     *
+     * @param directory     the directory the files are downloaded to.
+     * @param expectedCount the number of completed files.
+     * @param exactCount    {@code true} to require exactly the expected number of files, {@code false} for at least.
+     * @param extension     the required file extension (e.g., ".pdf"), or {@code null} to accept any file.
+     * @param timeoutSec    the maximum number of seconds to wait.
+     * @return the completed files.
+     * @throws TimeoutException if the files aren't completed within the timeout.
+     * @see #waitForDownloads(Path, int, String, int)
+     */
+    public static List<Path> waitForDownloads(Path directory, int expectedCount, boolean exactCount, String extension, int timeoutSec) {
+        long deadline = System.currentTimeMillis() + timeoutSec * 1000L;
+        try (WatchService watcher = directory.getFileSystem().newWatchService()) {
+            directory.register(watcher, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE);
+            Map<Path, Long> lastSizes = null;
+            long stableSince = 0;
+
+            while (true) {
+                long now = System.currentTimeMillis();
+                Map<Path, Long> sizes = completedFiles(directory, extension);
+                long waitMillis = deadline - now;
+
+                if (sizes != null && (exactCount ? sizes.size() == expectedCount : sizes.size() >= expectedCount)) {
+                    if (sizes.equals(lastSizes)) {
+                        if (now - stableSince >= STABILITY_WINDOW_MILLIS) {
+                            List<Path> files = new ArrayList<>(sizes.keySet());
+                            log.info("'{}' file(s) have successfully downloaded to '{}': '{}'.", files.size(), directory, files);
+                            return files;
+                        }
+                    } else {
+                        lastSizes = sizes;
+                        stableSince = now;
+                    }
+                    waitMillis = Math.min(waitMillis, STABILITY_WINDOW_MILLIS - (now - stableSince));
+                } else {
+                    lastSizes = null;
+                }
+
+                if (deadline - now <= 0) {
+                    log.error("Files haven't successfully downloaded to '{}' within '{}' seconds.", directory, timeoutSec);
+                    throw new TimeoutException("Expected " + (exactCount ? "exactly" : "at least") + " '" + expectedCount + "' downloaded file(s) in '" + directory + "' within " + timeoutSec + " seconds.");
+                }
+                WatchKey key = watcher.poll(Math.max(waitMillis, 1), TimeUnit.MILLISECONDS);
+                if (key != null) {
+                    key.pollEvents();
+                    key.reset();
+                }
+            }
+        } catch (IOException e) {
+            log.error("Failed to watch the download directory '{}'.", directory);
+            throw new UncheckedIOException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("Interrupted while waiting for downloads in '{}'.", directory);
+            throw new IllegalStateException("Interrupted while waiting for downloads in '" + directory + "'.", e);
+        }
+    }
+
+    /**
+     * Deletes every file inside the current session directory, keeping the directory itself.
+     */
+    public static void cleanSessionDirectory() {
+        Path directory = sessionDirectory.get();
+        if (directory != null) {
+            deleteTree(directory, false);
+            log.info("Session download directory cleared: '{}'.", directory);
+        }
+    }
+
+    /**
+     * Deletes the current session directory with all its files and forgets it.
+     */
+    public static void removeSessionDirectory() {
+        Path directory = sessionDirectory.get();
+        if (directory != null) {
+            deleteTree(directory, true);
+            sessionDirectory.remove();
+            log.info("Session download directory removed: '{}'.", directory);
+        }
+    }
+
+    /**
+     * Lists the completed files matching the extension with their sizes.
+     *
+     * @return the files and their sizes, or {@code null} while any download is still in progress or empty.
+     */
+    private static Map<Path, Long> completedFiles(Path directory, String extension) throws IOException {
+        Map<Path, Long> sizes = new TreeMap<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                String name = file.getFileName().toString().toLowerCase();
+                if (PARTIAL_EXTENSIONS.stream().anyMatch(name::endsWith)) {
+                    return null;
+                }
+                if (extension != null && !name.endsWith(extension.toLowerCase())) {
+                    continue;
+                }
+                long size = Files.size(file);
+                if (size == 0) {
+                    return null;
+                }
+                sizes.put(file, size);
+            }
+        } catch (NoSuchFileException e) {
+            return null;  // A file was renamed between listing and sizing, check again on the next event
+        }
+        return sizes;
+    }
+
+    private static void deleteTree(Path directory, boolean includeRoot) {
+        if (!Files.exists(directory)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder())
+                    .filter(path -> includeRoot || !path.equals(directory))
+                    .forEach(path -> {
+                        try {
+                            Files.deleteIfExists(path);
+                        } catch (IOException e) {
+                            log.warn("Failed to delete '{}'.", path);
+                        }
+                    });
+        } catch (IOException e) {
+            log.warn("Failed to clean the download directory '{}'.", directory);
+        }
+    }
+}
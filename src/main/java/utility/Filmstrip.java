@@ -0,0 +1,164 @@
+package utility;
+
+import io.qameta.allure.Allure;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+import webdriverfactory.CommandCounter;
+
+import java.io.ByteArrayInputStream;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+
+import static java.lang.invoke.MethodHandles.lookup;
+
+/**
+ * Filmstrip keeps the last few viewport captures of each browser session in memory,
+ * so the states leading to a failure can be attached to the report without screenshotting every step.
+ *
+ * <p>Key Features:
+ * <ul>
+ *   <li>Bounded ring buffer per thread holding the last N captures (PNG bytes), with the URL and step name.</li>
+ *   <li>Captures at cheap points (after clicks and navigation, once the action is timed) and at most once per
+ *       capture interval; its round trips are left out of the command budget.</li>
+ *   <li>Downscales and re-encodes the frames when they're attached, e.g. to half size JPEG.</li>
+ *   <li>Never fails the action that triggered the capture.</li>
+ *   <li>Attaches the frames to Allure, oldest first, only when the test fails.</li>
+ *   <li>Can be turned off by setting the size to 0.</li>
+ * </ul>
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ *   Filmstrip.configure(5, 3000, 0.5, "jpg");
+ *   Filmstrip.capture(driver, "UIActions.click", "[id: 'pay_now_button']");
+ *   Filmstrip.flushToAllure();   // on failure
+ *   Filmstrip.clear();           // once the session ends
+ * }</pre>
+ *
+ * @author Hossam Atef
+ * @version 1.0
+ */
+public class Filmstrip {
+
+    private static final Logger log = LogManager.getLogger(lookup().lookupClass());
+    private static final ThreadLocal<Settings> settings = ThreadLocal.withInitial(() -> new Settings(5, 3000, 0.5, "jpg"));
+    private static final ThreadLocal<Reel> reel = new ThreadLocal<>();
+
+    /**
+     * The filmstrip settings of one thread.
+     */
+    private record Settings(int size, long minIntervalMillis, double scale, String format) {
+    }
+
+    /**
+     * One capture of the viewport.
+     */
+    private record Frame(byte[] png, String url, String step, long capturedAt) {
+    }
+
+    /**
+     * The ring buffer of one session.
+     */
+    private static final class Reel {
+        private final Frame[] frames;
+        private final double scale;
+        private final String format;
+        private int next;
+        private int count;
+        private long lastCaptureMillis;
+
+        private Reel(Settings settings) {
+            this.frames = new Frame[settings.size()];
+            this.scale = settings.scale();
+            this.format = settings.format();
+        }
+    }
+
+    /**
+     * Sets the number of frames kept per session, the minimum time between two captures, and how the frames
+     * are encoded when attached.
+     * <br>Applies to the current thread only and takes effect for its next session; a size of 0 turns the filmstrip off.
+     *
+     * @param frames            the number of frames kept per session.
+     * @param intervalMillis    the minimum number of milliseconds between two captures.
+     * @param scale             the scale factor of the attached frames, between 0.1 and 1.
+     * @param format            the format of the attached frames, <code>png</code> or <code>jpg</code>.
+     */
+    public static void configure(int frames, long intervalMillis, double scale, String format) {
+        settings.set(new Settings(Math.max(frames, 0), Math.max(intervalMillis, 0), Math.min(Math.max(scale, 0.1), 1.0),
+                ImageEncoder.normalizeFormat(format)));
+    }
+
+    /**
+     * Captures the viewport after a step, unless the last capture is more recent than the capture interval.
+     *
+     * @param driver the driver of the current session.
+     * @param action the action that just ran (e.g., "UIActions.click").
+     * @param target a description of the action target (e.g., the locator), or {@code null}.
+     */
+    public static void capture(WebDriver driver, String action, Object target) {
+        Settings config = settings.get();
+        if (config.size() == 0 || driver == null) {
+            return;
+        }
+        Reel current = reel.get();
+        long now = System.currentTimeMillis();
+        if (current != null && now - current.lastCaptureMillis < config.minIntervalMillis()) {
+            return;
+        }
+        if (current == null || current.frames.length != config.size()) {
+            current = new Reel(config);
+            reel.set(current);
+        }
+        current.lastCaptureMillis = now;
+        try {
+            Frame frame = CommandCounter.uncounted(() -> new Frame(((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES),
+                    driver.getCurrentUrl(), target == null ? action : action + " " + target, now));
+            current.frames[current.next] = frame;
+            current.next = (current.next + 1) % current.frames.length;
+            current.count = Math.min(current.count + 1, current.frames.length);
+        } catch (Exception e) {
+            log.debug("Filmstrip capture after '{}' skipped: {}", action, e.getMessage());
+        }
+    }
+
+    /**
+     * Attaches the frames of the current session to the Allure report, oldest first, and empties the buffer.
+     * <br>Frames are downscaled and re-encoded here, so only failed tests pay for it; a frame that can't be
+     * re-encoded is attached as captured.
+     * <br>Call it from the test thread of a failed test, where Allure knows the running test.
+     */
+    public static void flushToAllure() {
+        Reel current = reel.get();
+        if (current == null || current.count == 0) {
+            return;
+        }
+        SimpleDateFormat timeFormat = new SimpleDateFormat("HH:mm:ss.SSS");
+        int first = (current.next - current.count + current.frames.length) % current.frames.length;
+        for (int i = 0; i < current.count; i++) {
+            Frame frame = current.frames[(first + i) % current.frames.length];
+            String name = "Filmstrip " + (i + 1) + "/" + current.count + " - " + timeFormat.format(new Date(frame.capturedAt()))
+                    + " - " + frame.step() + " @ " + frame.url();
+            byte[] image = frame.png();
+            String format = "png";
+            try {
+                image = ImageEncoder.encode(frame.png(), current.scale, current.format);
+                format = current.format;
+            } catch (Exception e) {
+                log.debug("Filmstrip frame '{}' attached as captured: {}", i + 1, e.getMessage());
+            }
+            Allure.addAttachment(name, ImageEncoder.mimeType(format), new ByteArrayInputStream(image), format);
+        }
+        log.info("Filmstrip of '{}' frames added to the Allure report.", current.count);
+        reel.remove();
+    }
+
+    /**
+     * Drops the frames of the current session.
+     */
+    public static void clear() {
+        reel.remove();
+    }
+}
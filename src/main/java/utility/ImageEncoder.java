@@ -0,0 +1,83 @@
+package utility;
+
+import javax.imageio.ImageIO;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+/**
+ * ImageEncoder downscales and re-encodes browser screenshots, so report attachments stay small.
+ *
+ * <p>Key Features:
+ * <ul>
+ *   <li>Scales the image by a factor between 0.1 and 1, with bilinear interpolation.</li>
+ *   <li>Re-encodes it as <code>png</code> or <code>jpg</code>.</li>
+ *   <li>Returns the original bytes untouched when neither a smaller size nor JPEG is asked for.</li>
+ * </ul>
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ *   byte[] jpg = ImageEncoder.encode(png, 0.5, "jpg");
+ * }</pre>
+ *
+ * @author Hossam Atef
+ * @version 1.0
+ */
+final class ImageEncoder {
+
+    private ImageEncoder() {
+    }
+
+    /**
+     * @param format a format name, e.g. from the configuration.
+     * @return {@code jpg} for <code>jpg</code> or <code>jpeg</code>, {@code png} for anything else.
+     */
+    static String normalizeFormat(String format) {
+        return "jpg".equalsIgnoreCase(format) || "jpeg".equalsIgnoreCase(format) ? "jpg" : "png";
+    }
+
+    /**
+     * @param format {@code png} or {@code jpg}.
+     * @return the MIME type of the format.
+     */
+    static String mimeType(String format) {
+        return "jpg".equals(format) ? "image/jpeg" : "image/png";
+    }
+
+    /**
+     * Downscales and re-encodes a screenshot.
+     *
+     * @param png    the screenshot as captured.
+     * @param scale  the scale factor, clamped between 0.1 and 1.
+     * @param format {@code png} or {@code jpg}.
+     * @return the PNG as is if no change is asked for, otherwise the re-encoded image.
+     * @throws IOException if the screenshot can't be decoded, or there's no writer for the format.
+     */
+    static byte[] encode(byte[] png, double scale, String format) throws IOException {
+        double factor = Math.min(Math.max(scale, 0.1), 1.0);
+        if (factor >= 1.0 && "png".equals(format)) {
+            return png;
+        }
+        BufferedImage original = ImageIO.read(new ByteArrayInputStream(png));
+        if (original == null) {
+            throw new IOException("The screenshot isn't a readable image.");
+        }
+        int width = Math.max(1, (int) (original.getWidth() * factor));
+        int height = Math.max(1, (int) (original.getHeight() * factor));
+        BufferedImage scaled = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = scaled.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.drawImage(original, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        if (!ImageIO.write(scaled, format, output)) {
+            throw new IOException("No image writer found for format: " + format);
+        }
+        return output.toByteArray();
+    }
+}
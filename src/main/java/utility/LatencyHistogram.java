@@ -0,0 +1,136 @@
+package utility;
+
+/**
+ * LatencyHistogram is a fixed-bucket latency histogram backed by a primitive array,
+ * so recording a value never allocates.
+ *
+ * <p>Key Features:
+ * <ul>
+ *   <li>Records latencies in microseconds with log-linear buckets (8 sub-buckets per power of two, ~12% precision).</li>
+ *   <li>Covers values from 0 to about 12 days; larger values fall into the last bucket.</li>
+ *   <li>Estimates any percentile and keeps the exact count, sum and maximum.</li>
+ *   <li>Merges with other histograms, so per-thread histograms can be combined at the end of a run.</li>
+ * </ul>
+ *
+ * <p>Instances aren't thread-safe; keep one per thread and merge them once recording is over.
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ *   LatencyHistogram histogram = new LatencyHistogram();
+ *   histogram.recordNanos(System.nanoTime() - start);
+ *   double p95Millis = histogram.percentileMillis(95);
+ * }</pre>
+ *
+ * @author Hossam Atef
+ * @version 1.0
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_EXPONENT = 40;
+    private static final int BUCKET_COUNT = SUB_BUCKETS + (MAX_EXPONENT - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+
+    private final long[] counts = new long[BUCKET_COUNT];
+    private long count;
+    private long sumMicros;
+    private long maxMicros;
+
+    /**
+     * Records a latency given in nanoseconds.
+     *
+     * @param nanos the latency in nanoseconds, negative values are recorded as zero.
+     */
+    public void recordNanos(long nanos) {
+        recordMicros(nanos / 1_000);
+    }
+
+    /**
+     * Records a latency given in microseconds.
+     *
+     * @param micros the latency in microseconds, negative values are recorded as zero.
+     */
+    public void recordMicros(long micros) {
+        long value = Math.max(micros, 0);
+        counts[bucketOf(value)]++;
+        count++;
+        sumMicros += value;
+        if (value > maxMicros) {
+            maxMicros = value;
+        }
+    }
+
+    /**
+     * Adds all values recorded by another histogram to this one.
+     *
+     * @param other the histogram to merge.
+     */
+    public void merge(LatencyHistogram other) {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] += other.counts[i];
+        }
+        count += other.count;
+        sumMicros += other.sumMicros;
+        maxMicros = Math.max(maxMicros, other.maxMicros);
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getTotalMillis() {
+        return sumMicros / 1_000.0;
+    }
+
+    public double getMeanMillis() {
+        return count == 0 ? 0 : sumMicros / 1_000.0 / count;
+    }
+
+    public double getMaxMillis() {
+        return maxMicros / 1_000.0;
+    }
+
+    /**
+     * Estimates the value below which the given percentage of the recorded latencies fall.
+     *
+     * @param percentile the percentile between 0 and 100 (e.g., 95).
+     * @return the estimated latency in milliseconds, or 0 if nothing was recorded.
+     */
+    public double percentileMillis(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * count));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                long lower = lowerBoundOf(i);
+                long upper = lowerBoundOf(i + 1);
+                return Math.min((lower + upper) / 2.0, maxMicros) / 1_000.0;
+            }
+        }
+        return getMaxMillis();
+    }
+
+    private static int bucketOf(long micros) {
+        if (micros < SUB_BUCKETS) {
+            return (int) micros;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(micros);
+        if (exponent > MAX_EXPONENT) {
+            return BUCKET_COUNT - 1;
+        }
+        int subBucket = (int) (micros >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return SUB_BUCKETS + (exponent - SUB_BUCKET_BITS) * SUB_BUCKETS + subBucket;
+    }
+
+    private static long lowerBoundOf(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int exponent = (bucket - SUB_BUCKETS) / SUB_BUCKETS + SUB_BUCKET_BITS;
+        int subBucket = (bucket - SUB_BUCKETS) % SUB_BUCKETS;
+        return (long) (SUB_BUCKETS + subBucket) << (exponent - SUB_BUCKET_BITS);
+    }
+}
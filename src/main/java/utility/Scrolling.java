@@ -2,22 +2,40 @@ package utility;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
-import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.*;
+import org.openqa.selenium.interactions.Actions;
 import webdriverfactory.GetWebDriver;
 
-import java.awt.*;
-import java.awt.event.KeyEvent;
+import java.util.List;
+import java.util.function.Function;
 
 import static java.lang.invoke.MethodHandles.lookup;
 
 /**
- * Utility class that provides system-level scrolling operations using {@link Robot} and
- * viewport-level scrolling using {@link JavascriptExecutor}.
+ * Utility class that provides WebDriver-native scrolling, using wheel actions and scripted scrolling
+ * through {@link JavascriptExecutor}.
  * <p>
- * This class is designed to offer simple programmatic scrolling support for UI test automation.
- * <br>Thread-safe for parallel execution by using a {@link ThreadLocal} Robot instance.
+ * Nothing is sent to the operating system, so it works headless and display-less, and parallel
+ * sessions never interfere with each other.
  * </p>
  *
+ * <p>Key Features:
+ * <ul>
+ *   <li>Scrolls to the top or bottom of the page, by a page step, or by a pixel offset.</li>
+ *   <li>Scrolls with the mouse wheel, by an amount or to an element, for pages that react to wheel events.</li>
+ *   <li>Each page step resolves on the browser's {@code scrollend} event (and any content it loads)
+ *       instead of a fixed sleep, and reports whether the page moved.</li>
+ *   <li>Scroll-until-visible and scroll-until-condition helpers, bounded by a number of steps,
+ *       that stop early once the end of the page is reached.</li>
+ * </ul>
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ *   Scrolling.scrollBottom();
+ *   WebElement row = Scrolling.scrollUntilVisible(By.id("row_50"), 20);
+ *   Boolean loaded = Scrolling.scrollUntil(driver -> driver.findElements(By.cssSelector(".row")).size() >= 100, 30);
+ * }</pre>
+ *
  * @author Hossam Atef
  * @version 1.0
  */
@@ -26,23 +44,45 @@ public class Scrolling {
     private static final Logger log = LogManager.getLogger(lookup().lookupClass());
 
     /**
-     * Thread-local Robot instance.
+     * Scrolls one page step (80% of the viewport) in the given direction and resolves once scrolling ended
+     * and the page stopped changing, with {@code true} if the page moved or grew.
      */
-    private static final ThreadLocal<Robot> robot = ThreadLocal.withInitial(() -> {
-        try {
-            return new Robot();
-        } catch (AWTException e) {
-            log.error("Failed to initialize Robot instance for thread {}", Thread.currentThread().getName());
-            throw new RuntimeException("Failed to initialize Robot instance");
+    private static final String STEP_AND_SETTLE_SCRIPT =
+            "var direction = arguments[0], done = arguments[arguments.length - 1];" +
+            "var root = document.scrollingElement || document.documentElement;" +
+            "var before = root.scrollTop, height = root.scrollHeight;" +
+            "if ((direction > 0 && before + root.clientHeight >= height - 1) || (direction < 0 && before <= 0)) { done(false); return; }" +
+            "var finished = false, settleTimer, fallbackTimer;" +
+            "var observer = new MutationObserver(settle);" +
+            "function finish() {" +
+            "  if (finished) return;" +
+            "  finished = true;" +
+            "  observer.disconnect();" +
+            "  window.removeEventListener('scrollend', settle);" +
+            "  clearTimeout(settleTimer); clearTimeout(fallbackTimer);" +
+            "  done(root.scrollTop !== before || root.scrollHeight !== height);" +
+            "}" +
+            "function settle() { clearTimeout(settleTimer); settleTimer = setTimeout(finish, 100); }" +
+            "window.addEventListener('scrollend', settle);" +
+            "observer.observe(document.body, {childList: true, subtree: true});" +
+            "window.scrollBy(0, direction * Math.round(window.innerHeight * 0.8));" +
+            "fallbackTimer = setTimeout(finish, 1000);";
+
+    private static WebDriver driver() {
+        WebDriver driver = GetWebDriver.getLocalDriver();
+        if (driver == null) {
+            log.error("WebDriver instance is null. WebDriver must be initialized before scrolling.");
+            throw new IllegalStateException("WebDriver has not been initialized.");
         }
-    });
+        return driver;
+    }
 
     /**
      * Scrolls to the bottom of the page.
      */
     public static void scrollBottom() {
-        robot.get().keyPress(KeyEvent.VK_END);
-        robot.get().keyRelease(KeyEvent.VK_END);
+        ((JavascriptExecutor) driver()).executeScript(
+                "var root = document.scrollingElement || document.documentElement; window.scrollTo(root.scrollLeft, root.scrollHeight);");
         log.info("Scrolled to the bottom of the page.");
     }
 
@@ -50,27 +90,30 @@ public class Scrolling {
      * Scrolls to the top of the page.
      */
     public static void scrollTop() {
-        robot.get().keyPress(KeyEvent.VK_HOME);
-        robot.get().keyRelease(KeyEvent.VK_HOME);
+        ((JavascriptExecutor) driver()).executeScript("window.scrollTo(window.scrollX, 0);");
         log.info("Scrolled to the top of the page.");
     }
 
     /**
-     * Scrolls upward by one small unit (line or step).
+     * Scrolls upward by one page step and waits for scrolling to end.
+     *
+     * @return {@code true} if the page moved, {@code false} if it was already at the top.
      */
-    public static void scrollUp() {
-        robot.get().keyPress(KeyEvent.VK_PAGE_UP);
-        robot.get().keyRelease(KeyEvent.VK_PAGE_UP);
-        log.info("Scrolled a step up.");
+    public static boolean scrollUp() {
+        boolean moved = step(-1);
+        log.info("Scrolled a step up, Page moved: '{}'.", moved);
+        return moved;
     }
 
     /**
-     * Scrolls downward by one small unit (line or step).
+     * Scrolls downward by one page step and waits for scrolling to end and any loaded content to settle.
+     *
+     * @return {@code true} if the page moved or grew, {@code false} if it was already at the bottom.
      */
-    public static void scrollDown() {
-        robot.get().keyPress(KeyEvent.VK_PAGE_DOWN);
-        robot.get().keyRelease(KeyEvent.VK_PAGE_DOWN);
-        log.info("Scrolled a step down.");
+    public static boolean scrollDown() {
+        boolean moved = step(1);
+        log.info("Scrolled a step down, Page moved: '{}'.", moved);
+        return moved;
     }
 
     /**
@@ -80,8 +123,81 @@ public class Scrolling {
      * @param y the number of pixels to scroll vertically (positive is down, negative is up)
      */
     public static void scrollByOffset(int x, int y) {
-        JavascriptExecutor js = (JavascriptExecutor) GetWebDriver.getLocalDriver();
+        JavascriptExecutor js = (JavascriptExecutor) driver();
         js.executeScript("window.scrollBy(arguments[0], arguments[1]);", x, y);
         log.info("Scrolled vertically & horizontally by x: '{}', y: '{}'.", x, y);
     }
-}
\ No newline at end of file
+
+    /**
+     * Scrolls with the mouse wheel by the specified amounts, firing real wheel events.
+     *
+     * @param deltaX the number of pixels to scroll horizontally (positive is right, negative is left)
+     * @param deltaY the number of pixels to scroll vertically (positive is down, negative is up)
+     */
+    public static void wheel(int deltaX, int deltaY) {
+        new Actions(driver()).scrollByAmount(deltaX, deltaY).perform();
+        log.info("Scrolled with the wheel by x: '{}', y: '{}'.", deltaX, deltaY);
+    }
+
+    /**
+     * Scrolls with the mouse wheel until the element is in the viewport.
+     *
+     * @param element the element to bring into view.
+     */
+    public static void scrollToElement(WebElement element) {
+        new Actions(driver()).scrollToElement(element).perform();
+        log.info("Scrolled with the wheel to the element.");
+    }
+
+    /**
+     * Scrolls down page by page until an element matching the locator exists, then scrolls it to the
+     * middle of the viewport.
+     *
+     * @param locator  the locator of the element.
+     * @param maxSteps the maximum number of page steps.
+     * @return the element, now in view.
+     * @throws TimeoutException if the element isn't found within the steps or before the end of the page.
+     */
+    public static WebElement scrollUntilVisible(By locator, int maxSteps) {
+        WebElement element = scrollUntil(driver -> {
+            List<WebElement> elements = driver.findElements(locator);
+            return elements.isEmpty() ? null : elements.get(0);
+        }, maxSteps);
+        ((JavascriptExecutor) driver()).executeScript("arguments[0].scrollIntoView({block: 'center'});", element);
+        log.info("Scrolled element located by '{}' into view.", locator);
+        return element;
+    }
+
+    /**
+     * Scrolls down page by page until the condition returns a value other than {@code null} or {@code false}.
+     * <br>The condition is checked before the first step and after each step has settled.
+     *
+     * @param condition the condition to check, e.g. an {@link org.openqa.selenium.support.ui.ExpectedCondition}.
+     * @param maxSteps  the maximum number of page steps.
+     * @return the condition's value.
+     * @throws TimeoutException if the condition isn't met within the steps or before the end of the page.
+     */
+    public static <T> T scrollUntil(Function<WebDriver, T> condition, int maxSteps) {
+        WebDriver driver = driver();
+        for (int steps = 0; ; steps++) {
+            T value = condition.apply(driver);
+            if (value != null && !Boolean.FALSE.equals(value)) {
+                log.info("Scroll condition met after '{}' step(s).", steps);
+                return value;
+            }
+            if (steps >= maxSteps) {
+                log.error("Scroll condition isn't met within '{}' step(s).", maxSteps);
+                throw new TimeoutException("Scroll condition isn't met within " + maxSteps + " step(s).");
+            }
+            if (!step(1)) {
+                log.error("Reached the end of the page after '{}' step(s) without meeting the scroll condition.", steps);
+                throw new TimeoutException("Reached the end of the page without meeting the scroll condition.");
+            }
+        }
+    }
+
+    private static boolean step(int direction) {
+        Object moved = ((JavascriptExecutor) driver()).executeAsyncScript(STEP_AND_SETTLE_SCRIPT, direction);
+        return Boolean.TRUE.equals(moved);
+    }
+}
@@ -0,0 +1,217 @@
+package webdriverfactory;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.HasCapabilities;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WrapsDriver;
+import org.openqa.selenium.WrapsElement;
+import org.openqa.selenium.interactions.Locatable;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.RemoteWebElement;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.*;
+import java.util.function.Supplier;
+
+import static java.lang.invoke.MethodHandles.lookup;
+
+/**
+ * CommandCounter is a {@link WebDriverListener} that counts and times every WebDriver round trip
+ * made through the decorated driver of the current thread, broken down by command type.
+ *
+ * <p>Key Features:
+ * <ul>
+ *   <li>Wraps the driver with Selenium's {@link EventFiringDecorator}, so page objects and actions need no change.</li>
+ *   <li>Counts calls on the driver, its elements, navigation, alerts and frames (findElement, getText, executeScript, ...).</li>
+ *   <li>Skips local accessors that don't reach the browser (e.g., {@code switchTo()}, {@code manage()}).</li>
+ *   <li>Records the total time spent per command type.</li>
+ *   <li>Checks the count against a per-test command budget.</li>
+ *   <li>Leaves diagnostics out of the budget: calls made inside {@link #uncounted(Supplier)} are only counted as excluded.</li>
+ * </ul>
+ *
+ * <p>Each driver session gets its own counter. As a session is created per test,
+ * the counts of {@link #current()} are the counts of the running test.
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ *   WebDriver driver = CommandCounter.decorate(new ChromeDriver(options));
+ *   CommandCounter counter = CommandCounter.current();
+ *   if (counter.isOverBudget(150)) {
+ *       log.warn(counter.getSummary());
+ *   }
+ * }</pre>
+ *
+ * @author Hossam Atef
+ * @version 1.0
+ */
+public class CommandCounter implements WebDriverListener {
+
+    private static final Logger log = LogManager.getLogger(lookup().lookupClass());
+    private static final ThreadLocal<CommandCounter> currentCounter = new ThreadLocal<>();
+
+    /**
+     * Methods that return a local helper object or metadata without reaching the browser, by declaring type;
+     * names alone aren't enough, e.g. {@code Options.window()} is local but {@code TargetLocator.window(handle)} isn't.
+     */
+    private static final Map<Class<?>, Set<String>> LOCAL_METHODS = Map.of(
+            WebDriver.class, Set.of("switchTo", "manage", "navigate"),
+            WebDriver.Options.class, Set.of("timeouts", "window", "logs"),
+            WrapsDriver.class, Set.of("getWrappedDriver"),
+            WrapsElement.class, Set.of("getWrappedElement"),
+            Locatable.class, Set.of("getCoordinates"),
+            HasCapabilities.class, Set.of("getCapabilities"),
+            RemoteWebDriver.class, Set.of("getSessionId", "getCapabilities", "getCommandExecutor"),
+            RemoteWebElement.class, Set.of("getId", "getWrappedDriver", "getCoordinates"),
+            Object.class, Set.of("toString", "hashCode", "equals"));
+
+    private final Map<String, long[]> commands = new TreeMap<>();
+    private final long[] startTimes = new long[16];
+    private int depth;
+    private int uncountedDepth;
+    private int excluded;
+    private int total;
+    private long totalNanos;
+
+    private CommandCounter() {
+    }
+
+    /**
+     * Wraps the given driver with a new counter and makes it the current thread's counter.
+     *
+     * @param driver the driver to decorate.
+     * @return the decorated driver, to be used instead of the original one.
+     */
+    public static WebDriver decorate(WebDriver driver) {
+        CommandCounter counter = new CommandCounter();
+        currentCounter.set(counter);
+        return new EventFiringDecorator<>(counter).decorate(driver);
+    }
+
+    /**
+     * Returns the counter of the current thread's driver session.
+     *
+     * @return the counter, or {@code null} if no decorated driver was created on this thread.
+     */
+    public static CommandCounter current() {
+        return currentCounter.get();
+    }
+
+    /**
+     * Forgets the current thread's counter, called once its driver session ends.
+     */
+    public static void clear() {
+        currentCounter.remove();
+    }
+
+    /**
+     * Runs the given calls without counting them in the current thread's budget or timings, e.g. report captures
+     * that aren't part of the test's own work; they're only added to the {@code excluded} count.
+     *
+     * @param calls the driver calls to run.
+     * @return the result of the calls.
+     */
+    public static <T> T uncounted(Supplier<T> calls) {
+        CommandCounter counter = currentCounter.get();
+        if (counter == null) {
+            return calls.get();
+        }
+        counter.uncountedDepth++;
+        try {
+            return calls.get();
+        } finally {
+            counter.uncountedDepth--;
+        }
+    }
+
+    @Override
+    public void beforeAnyCall(Object target, Method method, Object[] args) {
+        if (isLocal(method) || uncountedDepth > 0) {
+            return;
+        }
+        if (depth < startTimes.length) {
+            startTimes[depth] = System.nanoTime();
+        }
+        depth++;
+    }
+
+    @Override
+    public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+        recordCall(method);
+    }
+
+    @Override
+    public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+        recordCall(method);
+    }
+
+    private void recordCall(Method method) {
+        if (isLocal(method)) {
+            return;
+        }
+        if (uncountedDepth > 0) {
+            excluded++;
+            return;
+        }
+        if (depth == 0) {
+            return;
+        }
+        depth--;
+        long elapsed = depth < startTimes.length ? System.nanoTime() - startTimes[depth] : 0;
+        long[] stats = commands.computeIfAbsent(method.getName(), name -> new long[2]);
+        stats[0]++;
+        stats[1] += elapsed;
+        total++;
+        totalNanos += elapsed;
+    }
+
+    private static boolean isLocal(Method method) {
+        return LOCAL_METHODS.getOrDefault(method.getDeclaringClass(), Set.of()).contains(method.getName());
+    }
+
+    /**
+     * Returns the number of round trips made so far in this session.
+     */
+    public int getTotal() {
+        return total;
+    }
+
+    /**
+     * Checks whether this session made more round trips than the given budget.
+     *
+     * @param budget the maximum number of round trips, 0 or less means no budget.
+     * @return {@code true} if the budget is set and exceeded.
+     */
+    public boolean isOverBudget(int budget) {
+        return budget > 0 && total > budget;
+    }
+
+    /**
+     * Builds a summary of this session's round trips, command types sorted by count.
+     *
+     * @return a map with {@code total}, {@code totalMs}, the {@code excluded} count and a {@code commands} list of
+     * {@code command}, {@code count} and {@code totalMs} entries.
+     */
+    public Map<String, Object> getSummary() {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        commands.forEach((command, stats) -> {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("command", command);
+            row.put("count", stats[0]);
+            row.put("totalMs", Math.round(stats[1] / 10_000.0) / 100.0);
+            rows.add(row);
+        });
+        rows.sort(Comparator.comparingLong(row -> -(long) row.get("count")));
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("total", total);
+        summary.put("totalMs", Math.round(totalNanos / 10_000.0) / 100.0);
+        summary.put("excluded", excluded);
+        summary.put("commands", rows);
+        log.info("WebDriver round trips in this session: '{}'.", total);
+        return summary;
+    }
+}
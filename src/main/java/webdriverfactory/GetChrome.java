@@ -5,6 +5,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.chrome.ChromeOptions;
 import org.openqa.selenium.devtools.DevTools;
+import utility.DownloadManager;
 
 import java.util.HashMap;
 import java.util.HashSet;
@@ -82,7 +83,7 @@ class GetChrome {
         //Set the preferences
         Map<String, Object> chromePrefs = new HashMap<>();
         chromePrefs.put("profile.default_content_setting_values.automatic_downloads", 1); // allow multiple downloads
-        chromePrefs.put("download.default_directory",config.getValue("downloadDirectory"));
+        chromePrefs.put("download.default_directory", DownloadManager.createSessionDirectory(config.getValue("downloadDirectory")).toString()); // per-session directory
         options.setExperimentalOption("prefs", chromePrefs);
         return options;
     }
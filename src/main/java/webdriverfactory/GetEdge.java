@@ -5,6 +5,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.chrome.ChromeOptions;
 import org.openqa.selenium.edge.EdgeOptions;
+import utility.DownloadManager;
 
 import java.util.HashMap;
 import java.util.HashSet;
@@ -83,7 +84,7 @@ class GetEdge {
         System.setProperty("webdriver.edge.driver", config.getValue("edgeExe"));
         Map<String, Object> edgePrefs = new HashMap<>();
         edgePrefs.put("profile.default_content_setting_values.automatic_downloads", 1);
-        edgePrefs.put("download.default_directory",config.getValue("downloadDirectory"));
+        edgePrefs.put("download.default_directory", DownloadManager.createSessionDirectory(config.getValue("downloadDirectory")).toString());
         options.setExperimentalOption("prefs", edgePrefs);
         return options;
     }
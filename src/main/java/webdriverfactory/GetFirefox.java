@@ -4,6 +4,7 @@ import datadriven.ConfigLoader;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.firefox.FirefoxOptions;
+import utility.DownloadManager;
 
 import java.util.HashSet;
 import java.util.Set;
@@ -51,7 +52,7 @@ class GetFirefox {
         FirefoxOptions options = new FirefoxOptions();
         ConfigLoader config = new ConfigLoader("src/test/resources/Config.properties");
         options.addPreference("browser.download.folderList", 2);
-        options.addPreference("browser.download.dir", config.getValue("downloadDirectory"));
+        options.addPreference("browser.download.dir", DownloadManager.createSessionDirectory(config.getValue("downloadDirectory")).toString()); // per-session directory
         options.addPreference("browser.download.useDownloadDir", true);
         options.addPreference("browser.helperApps.neverAsk.saveToDisk", "application/pdf"); // adjust MIME types as needed
         options.addPreference("pdfjs.disabled", true); // disable built-in PDF viewer
@@ -1,11 +1,14 @@
 package webdriverfactory;
 
+import actions.FrameContext;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.edge.EdgeDriver;
 import org.openqa.selenium.firefox.FirefoxDriver;
+import utility.DownloadManager;
+import utility.Filmstrip;
 
 import java.util.Map;
 
@@ -25,6 +28,7 @@ import static java.lang.invoke.MethodHandles.lookup;
  *   <li>Integrated Log4j-based logging for tracking driver lifecycle events.</li>
  *   <li>Prevents duplicate WebDriver creation for the same thread.</li>
  *   <li>Graceful shutdown and cleanup of driver instances.</li>
+ *   <li>Counts the WebDriver round trips of each session through {@link CommandCounter}.</li>
  * </ul>
  *
  * <p>Example usage:
@@ -118,7 +122,7 @@ public class GetWebDriver {
         };
 
         log.info("Driver instance is Launched successfully with '{}' browser.", normalizedBrowserName);  // Log the successful browser launch
-        setLocalDriver(driver);
+        setLocalDriver(CommandCounter.decorate(driver));  // Count every round trip of this session
         getLocalDriver();
     }
 
@@ -167,9 +171,13 @@ public class GetWebDriver {
             } catch (Exception e) {
                 log.warn("Last driver session might already be closed or unreachable. Proceeding with quitting the current driver.");
             } finally {
-                // Always clean up thread-local variables
+                // Always clean up thread-local variables and the session's downloads
                 localDrivers.remove();
                 getWebDriver.remove();
+                CommandCounter.clear();
+                Filmstrip.clear();
+                FrameContext.markDefaultContent();
+                DownloadManager.removeSessionDirectory();
             }
         } else {
             log.warn("Driver instance isn't initiated yet! Please get an instance first " +
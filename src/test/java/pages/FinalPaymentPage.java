@@ -4,12 +4,7 @@ import actions.UIActions;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.WebElement;
-import org.openqa.selenium.support.ui.ExpectedCondition;
-import org.openqa.selenium.support.ui.WebDriverWait;
 import org.testng.Assert;
-import webdriverfactory.GetWebDriver;
-
-import java.time.Duration;
 
 import static java.lang.invoke.MethodHandles.lookup;
 
@@ -33,35 +28,11 @@ public class FinalPaymentPage {
     }
 
     public void clickPayNow() {
-
-        WebDriverWait customWait = new WebDriverWait(GetWebDriver.getLocalDriver(), Duration.ofSeconds(20));
-        customWait.pollingEvery(Duration.ofMillis(500));
-
-            customWait.until((ExpectedCondition<Boolean>)
-
-                    driver -> {
-                        try {
-                            WebElement cardsLabelElement = uiActions.tryFindElement(UIActions.LocatorType.id, "cardsLabel", UIActions.ExplicitWaitCondition.none);
-
-                            if (cardsLabelElement != null && uiActions.isElementDisplayed(cardsLabelElement)) {
-                                log.info("cardsLabel field appeared. Navigation successful.");
-                                return true;
-                            }
-
-                            WebElement payNowButton = uiActions.tryFindElement(UIActions.LocatorType.id, "pay_now_button", UIActions.ExplicitWaitCondition.none);
-
-                            if (payNowButton != null && payNowButton.isEnabled()) {
-                                uiActions.click(payNowButton);
-                                log.info("Clicked Pay Now button. Waiting for next page...");
-                            }
-
-                            return false;
-
-                        } catch (Exception e) {
-                            log.error("Timeout: cardsLabel did not appear after clicking Pay Now.");
-                            throw e;
-                        }
-                    });
+        uiActions.clickAndAwait(UIActions.LocatorType.id, "pay_now_button", UIActions.ExplicitWaitCondition.elementToBeClickable,
+                UIActions.Transition.anyOf(
+                        UIActions.Outcome.of("cardsLabel", UIActions.LocatorType.id, "cardsLabel", UIActions.ExplicitWaitCondition.visibilityOfElement)
+                ).within(20));
+        log.info("cardsLabel field appeared. Navigation successful.");
     }
 
 
@@ -26,7 +26,9 @@ public class LoginPage extends BasePage {
     }
 
     public void clickLoginButton() {
-        uiActions.click(UIActions.LocatorType.id, "login_button", UIActions.ExplicitWaitCondition.elementToBeClickable);
+        uiActions.clickAndAwait(UIActions.LocatorType.id, "login_button", UIActions.ExplicitWaitCondition.elementToBeClickable,
+                UIActions.Transition.anyOf(
+                        UIActions.Outcome.of("paymentPage", UIActions.LocatorType.id, "pay_new_bill", UIActions.ExplicitWaitCondition.visibilityOfElement)));
         waitLoadingScreenRemoved();
     }
 }
@@ -1,9 +1,9 @@
 package pages;
 
+import actions.ComboBox;
 import actions.UIActions;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
-import org.openqa.selenium.Keys;
 import org.openqa.selenium.WebElement;
 import org.testng.Assert;
 
@@ -15,21 +15,19 @@ import static java.lang.invoke.MethodHandles.lookup;
 public class PaymentDetailsPage {
 
     UIActions uiActions;
+    ComboBox comboBox;
     private static final Logger log = LogManager.getLogger(lookup().lookupClass());
 
 
     public PaymentDetailsPage(int wait) throws Exception {
         log.info("Initializing PaymentDetailsPage object.");
         uiActions = new UIActions(wait);
+        comboBox = new ComboBox(uiActions, 10);
     }
 
     public void selectVillage(String villageName) {
-        WebElement villageList = uiActions.findWebElement(UIActions.LocatorType.id, "place_id_north_input", UIActions.ExplicitWaitCondition.elementToBeClickable);
-        uiActions.sendKeys(villageList, villageName);
-        uiActions.waitForAttributeContainsValueOrFail(villageList, "aria-activedescendant", "react", 10);
-        uiActions.enterKeyCombination(Keys.ENTER);
         try {
-            uiActions.findWebElement(UIActions.LocatorType.xPath, "//*[contains(text(),'" + villageName + "')]", UIActions.ExplicitWaitCondition.visibilityOfElement);
+            comboBox.select("place_id_north_input", "place_id", villageName, ComboBox.TextMatch.contains);
             log.info("Village '{}' selected successfully.", villageName);
         } catch (Exception e) {
             log.error("Unable to select village '{}'. It may not exist in the list or was selected incorrectly.", villageName);
@@ -38,19 +36,8 @@ public class PaymentDetailsPage {
     }
 
     public void selectBuildingId(String buildingId, boolean NorthCoast) {
-        WebElement buildingList;
-        if (NorthCoast) {
-            buildingList = uiActions.findWebElement(UIActions.LocatorType.id, "build_id_north_input", UIActions.ExplicitWaitCondition.elementToBeClickable);
-        } else {
-            buildingList = uiActions.findWebElement(UIActions.LocatorType.id, "build_id_input", UIActions.ExplicitWaitCondition.elementToBeClickable);
-
-        }
-        uiActions.sendKeys(buildingList, buildingId);
-        uiActions.waitForAttributeContainsValueOrFail(buildingList, "aria-activedescendant", "react", 10);
-        uiActions.enterKeyCombination(Keys.ENTER);
-
         try {
-            uiActions.findWebElement(UIActions.LocatorType.xPath, "//div[@id='build_id']//div[normalize-space(text())='" + buildingId + "']", UIActions.ExplicitWaitCondition.visibilityOfElement);
+            comboBox.select(NorthCoast ? "build_id_north_input" : "build_id_input", "build_id", buildingId);
             log.info("Building ID '{}' selected successfully.", buildingId);
         } catch (Exception e) {
             log.error("Unable to select Building ID '{}'. It may not exist in the list or was selected incorrectly.", buildingId);
@@ -59,19 +46,8 @@ public class PaymentDetailsPage {
     }
 
     public void selectFloorId(String floorId, boolean northCoast) {
-        WebElement floorList;
-        if (northCoast) {
-            floorList = uiActions.findWebElement(UIActions.LocatorType.id, "part_id_north_input", UIActions.ExplicitWaitCondition.elementToBeClickable);
-        } else {
-            floorList = uiActions.findWebElement(UIActions.LocatorType.id, "part_id_input", UIActions.ExplicitWaitCondition.elementToBeClickable);
-
-        }
-        uiActions.sendKeys(floorList, floorId);
-        uiActions.waitForAttributeContainsValueOrFail(floorList, "aria-activedescendant", "react", 10);
-        uiActions.enterKeyCombination(Keys.ENTER);
-
         try {
-            uiActions.findWebElement(UIActions.LocatorType.xPath, "//div[@id='part_id']//div[normalize-space(text())='" + floorId + "']", UIActions.ExplicitWaitCondition.visibilityOfElement);
+            comboBox.select(northCoast ? "part_id_north_input" : "part_id_input", "part_id", floorId);
             log.info("Floor ID '{}' selected successfully.", floorId);
         } catch (Exception e) {
             log.error("Unable to select Floor ID '{}'. It may not exist in the list or was selected incorrectly.", floorId);
@@ -80,19 +56,8 @@ public class PaymentDetailsPage {
     }
 
     public void selectUnitId(String unitId, boolean northCoast) {
-        WebElement unitList;
-        if (northCoast) {
-            unitList = uiActions.findWebElement(UIActions.LocatorType.id, "unit_id_north_input", UIActions.ExplicitWaitCondition.elementToBeClickable);
-        } else {
-            unitList = uiActions.findWebElement(UIActions.LocatorType.id, "unit_id_input", UIActions.ExplicitWaitCondition.elementToBeClickable);
-
-        }
-        uiActions.sendKeys(unitList, unitId);
-        uiActions.waitForAttributeContainsValueOrFail(unitList, "aria-activedescendant", "react", 10);
-        uiActions.enterKeyCombination(Keys.ENTER);
-
         try {
-            uiActions.findWebElement(UIActions.LocatorType.xPath, "//div[@id='unit_id']//div[normalize-space(text())='" + unitId + "']", UIActions.ExplicitWaitCondition.visibilityOfElement);
+            comboBox.select(northCoast ? "unit_id_north_input" : "unit_id_input", "unit_id", unitId);
             log.info("Unit ID '{}' selected successfully.", unitId);
         } catch (Exception e) {
             log.error("Unable to select Unit ID '{}'. It may not exist in the list or was selected incorrectly.", unitId);
@@ -102,14 +67,18 @@ public class PaymentDetailsPage {
 
     public void clickSubmitButton() {
         String activeTab = uiActions.getElementAttribute(UIActions.LocatorType.css, "[class='nav-link active']", UIActions.ExplicitWaitCondition.visibilityOfElement, "id");
+        //Submitting either opens the confirmation page or shows an error alert for wrong data
+        UIActions.Transition submitted = UIActions.Transition.anyOf(
+                UIActions.Outcome.of("confirmation", UIActions.LocatorType.id, "data_confirmation_button", UIActions.ExplicitWaitCondition.visibilityOfElement),
+                UIActions.Outcome.of("error", UIActions.LocatorType.css, "[role='alert']", UIActions.ExplicitWaitCondition.visibilityOfElement));
         try {
             switch (activeTab) {
                 case "north_coast_tab" ->
-                        uiActions.click(UIActions.LocatorType.id, "north_coast_form_submit_check", UIActions.ExplicitWaitCondition.visibilityOfElement);
+                        uiActions.clickAndAwait(UIActions.LocatorType.id, "north_coast_form_submit_check", UIActions.ExplicitWaitCondition.visibilityOfElement, submitted);
                 case "address-tab" ->
-                        uiActions.click(UIActions.LocatorType.id, "address_form_submit", UIActions.ExplicitWaitCondition.visibilityOfElement);
+                        uiActions.clickAndAwait(UIActions.LocatorType.id, "address_form_submit", UIActions.ExplicitWaitCondition.visibilityOfElement, submitted);
                 case "access_key_tab" ->
-                        uiActions.click(UIActions.LocatorType.id, "access_key_form_submit", UIActions.ExplicitWaitCondition.visibilityOfElement);
+                        uiActions.clickAndAwait(UIActions.LocatorType.id, "access_key_form_submit", UIActions.ExplicitWaitCondition.visibilityOfElement, submitted);
             }
         } catch (Exception e) {
             log.error("The Submit Button isn't clickable");
@@ -157,13 +126,8 @@ public class PaymentDetailsPage {
     }
 
     public void selectGovernorateId(String governorateId) {
-        WebElement unitList = uiActions.findWebElement(UIActions.LocatorType.id, "governorate_id_input", UIActions.ExplicitWaitCondition.elementToBeClickable);
-        uiActions.sendKeys(unitList, governorateId);
-        uiActions.waitForAttributeContainsValueOrFail(unitList, "aria-activedescendant", "react", 10);
-        uiActions.enterKeyCombination(Keys.ENTER);
-
         try {
-            uiActions.findWebElement(UIActions.LocatorType.xPath, "//div[@id='governorate_id']//div[normalize-space(text())='" + governorateId + "']", UIActions.ExplicitWaitCondition.visibilityOfElement);
+            comboBox.select("governorate_id_input", "governorate_id", governorateId);
             log.info("Governorate ID '{}' was successfully selected.", governorateId);
         } catch (Exception e) {
             log.error("Failed to select Governorate ID '{}'. It may not exist in the list or was selected incorrectly.", governorateId);
@@ -172,13 +136,8 @@ public class PaymentDetailsPage {
     }
 
     public void selectDistrictId(String districtId) {
-        WebElement unitList = uiActions.findWebElement(UIActions.LocatorType.id, "district_id_input", UIActions.ExplicitWaitCondition.elementToBeClickable);
-        uiActions.sendKeys(unitList, districtId);
-        uiActions.waitForAttributeContainsValueOrFail(unitList, "aria-activedescendant", "react", 10);
-        uiActions.enterKeyCombination(Keys.ENTER);
-
         try {
-            uiActions.findWebElement(UIActions.LocatorType.xPath, "//div[@id='district_id']//div[normalize-space(text())='" + districtId + "']", UIActions.ExplicitWaitCondition.visibilityOfElement);
+            comboBox.select("district_id_input", "district_id", districtId);
             log.info("District ID '{}' was successfully selected.", districtId);
         } catch (Exception e) {
             log.error("Failed to select District ID '{}'. It may not exist in the list or was selected incorrectly.", districtId);
@@ -187,13 +146,8 @@ public class PaymentDetailsPage {
     }
 
     public void selectSubdistrictId(String subdistrictId) {
-        WebElement unitList = uiActions.findWebElement(UIActions.LocatorType.id, "village_id_input", UIActions.ExplicitWaitCondition.elementToBeClickable);
-        uiActions.sendKeys(unitList, subdistrictId);
-        uiActions.waitForAttributeContainsValueOrFail(unitList, "aria-activedescendant", "react", 10);
-        uiActions.enterKeyCombination(Keys.ENTER);
-
         try {
-            uiActions.findWebElement(UIActions.LocatorType.xPath, "//div[@id='village_id']//div[normalize-space(text())='" + subdistrictId + "']", UIActions.ExplicitWaitCondition.visibilityOfElement);
+            comboBox.select("village_id_input", "village_id", subdistrictId);
             log.info("Subdistrict ID '{}' was successfully selected.", subdistrictId);
         } catch (Exception e) {
             log.error("Failed to select Subdistrict ID '{}'. It may not exist in the list or was selected incorrectly.", subdistrictId);
@@ -202,13 +156,8 @@ public class PaymentDetailsPage {
     }
 
     public void selectStreetId(String streetId) {
-        WebElement unitList = uiActions.findWebElement(UIActions.LocatorType.id, "street_id_input", UIActions.ExplicitWaitCondition.elementToBeClickable);
-        uiActions.sendKeys(unitList, streetId);
-        uiActions.waitForAttributeContainsValueOrFail(unitList, "aria-activedescendant", "react", 10);
-        uiActions.enterKeyCombination(Keys.ENTER);
-
         try {
-            uiActions.findWebElement(UIActions.LocatorType.xPath, "//div[@id='street_id']//div[normalize-space(text())='" + streetId + "']", UIActions.ExplicitWaitCondition.visibilityOfElement);
+            comboBox.select("street_id_input", "street_id", streetId);
             log.info("Street ID '{}' was successfully selected.", streetId);
         } catch (Exception e) {
             log.error("Failed to select Street ID '{}'. It may not exist in the list or was selected incorrectly.", streetId);
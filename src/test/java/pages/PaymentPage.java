@@ -6,13 +6,9 @@ import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.By;
 import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebElement;
-import org.openqa.selenium.support.ui.ExpectedCondition;
-import org.openqa.selenium.support.ui.WebDriverWait;
 import org.testng.Assert;
 import org.testng.asserts.SoftAssert;
-import webdriverfactory.GetWebDriver;
 
-import java.time.Duration;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
@@ -31,6 +27,10 @@ public class PaymentPage extends BasePage{
         log.info("Initializing PaymentPage object.");
     }
 
+    public boolean isDisplayed() {
+        return uiActions.tryFindElement(UIActions.LocatorType.id, "pay_new_bill", UIActions.ExplicitWaitCondition.visibilityOfElement) != null;
+    }
+
     public void clickPayNewInvoiceButton() {
         uiActions.click(UIActions.LocatorType.id, "pay_new_bill", UIActions.ExplicitWaitCondition.elementToBeClickable);
     }
@@ -97,8 +97,8 @@ public class PaymentPage extends BasePage{
 
     public void assertMessageShownAsPaymentDoneSuccessfully(SoftAssert softAssert) {
         try {
-            WebElement resultElement = getResultElement();
-            String resultText = uiActions.getElementText(resultElement);
+            UIActions.WaitResult result = getPaymentResult();
+            String resultText = result.text();
             if (resultText.contains("تمت عملية الدفع بنجاح")) {
                 softAssert.assertTrue(true);
                 log.info("\nAssertion Passed, Payment confirmation message displayed: '{}'.\n", resultText);
@@ -176,39 +176,10 @@ public class PaymentPage extends BasePage{
         }
     }
 
-    private WebElement getResultElement() {
-        WebDriverWait customWait = new WebDriverWait(GetWebDriver.getLocalDriver(), Duration.ofSeconds(30));
-
-        return customWait.until((ExpectedCondition<WebElement>) driver -> {
-            try {
-                WebElement errorElement = uiActions.tryFindElement(
-                        UIActions.LocatorType.id,
-                        "lbl_error_msg1",
-                        UIActions.ExplicitWaitCondition.none
-                );
-                String errorText = uiActions.getElementText(errorElement);
-                if (errorText != null && !errorText.trim().isEmpty()) {
-                    log.info("Detected error message: '{}'", errorText);
-                    return errorElement;
-                }
-            } catch (Exception ignored) {
-            }
-
-            try {
-                WebElement successElement = uiActions.tryFindElement(
-                        UIActions.LocatorType.xPath,
-                        "//div[contains(text(),'تمت عملية الدفع بنجاح')]",
-                        UIActions.ExplicitWaitCondition.none
-                );
-
-                if (successElement.isDisplayed()) {
-                    return successElement;
-                }
-            } catch (Exception ignored) {
-            }
-
-            return null;
-        });
+    private UIActions.WaitResult getPaymentResult() {
+        return uiActions.waitForAny(30,
+                UIActions.Outcome.of("error", UIActions.LocatorType.id, "lbl_error_msg1", UIActions.ExplicitWaitCondition.visibilityOfElement).withText(),
+                UIActions.Outcome.of("success", UIActions.LocatorType.xPath, "//div[contains(text(),'تمت عملية الدفع بنجاح')]", UIActions.ExplicitWaitCondition.visibilityOfElement));
     }
 
     public void assertPaymentRecordAddedToList(SoftAssert softAssert, String payerName, String paymentMoney) {
@@ -1,18 +1,30 @@
 package tests;
 
 import actions.BrowserActions;
+import actions.UIActions;
 import datadriven.ConfigLoader;
+import datadriven.ConfigSnapshot;
+import datadriven.HotReload;
 import datadriven.JsonFileManager;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.ThreadContext;
+import org.testng.ITestResult;
+import org.testng.Reporter;
 import org.testng.annotations.*;
 import org.testng.asserts.SoftAssert;
 import pages.*;
-import utility.UsersManager;
+import utility.AccountAffinityInterceptor;
+import utility.AccountPool;
+import utility.ActionMetrics;
+import utility.AuthStateCache;
+import utility.RetryAnalyzer;
+import utility.Filmstrip;
+import utility.Screenshot;
 import webdriverfactory.GetWebDriver;
 
 import java.lang.reflect.Method;
+import java.nio.file.Path;
 
 import static java.lang.invoke.MethodHandles.lookup;
 
@@ -35,12 +47,11 @@ public class BaseTest {
     protected ThreadLocal<eFinancePaymentPage> eFinancePaymentPage = new ThreadLocal<>();
     protected ThreadLocal<SpecificPaymentDetails> specificPaymentDetails = new ThreadLocal<>();
     protected ThreadLocal<PaymentPrintPage> paymentPrintPage = new ThreadLocal<>();
-    protected ThreadLocal<String> acquiredUserId = new ThreadLocal<>();
-    protected static UsersManager userManager ;
-    private static boolean usersInitialized = false;
+    protected ThreadLocal<AccountPool.Lease> accountLease = new ThreadLocal<>();
+    private static volatile AccountPool accountPool;
 
     @BeforeMethod
-    public void setup(Method method) throws Exception {
+    public void setup(Method method, ITestResult result) throws Exception {
         ThreadContext.put("TestName", "setup_" + method.getName());
         methodName.set(method.getName());
         log.info("************ Starting method: setup ************");
@@ -48,11 +59,13 @@ public class BaseTest {
         configurationLoader.set(new ConfigLoader("src/test/resources/Config.properties"));
         jsonFileManager.set(new JsonFileManager("src/test/resources/jsonNewData.json"));
 
-        if (!usersInitialized) {
-            userManager = new UsersManager();
-            userManager.initialize(configurationLoader.get().getArrayValue("nationalId/Passport"));
-            usersInitialized = true;
-        }
+        // Seeded per thread from the test's snapshot, so a config reload only affects the tests set up after it
+        ConfigSnapshot config = configurationLoader.get().getSnapshot();
+        result.setAttribute(RetryAnalyzer.CONFIG_ATTRIBUTE, config);
+        UIActions.setMaxStepRetries(config.getInt("maxStepRetries", 2));
+        AuthStateCache.configure(config.getBoolean("authStateCache", true), config.getLong("authStateTtlMs", 900_000));
+        Filmstrip.configure(config.getInt("filmstripSize", 5), config.getLong("filmstripIntervalMs", 3000),
+                config.getDouble("filmstripScale", 0.5), config.getString("filmstripFormat", "jpg"));
 
         GetWebDriver.getInstance(
                 configurationLoader.get().getValue("browserName"),
@@ -72,19 +85,97 @@ public class BaseTest {
     }
 
 
+    @BeforeSuite
+    public void createAccountPool() {
+        ThreadContext.put("TestName", "createAccountPool");
+        log.info("************ Starting method: createAccountPool ************");
+        accountPool = AccountPool.fromConfig(ConfigSnapshot.of("src/test/resources/Config.properties"));
+    }
+
+
+    @BeforeSuite
+    public void startHotReload() throws Exception {
+        ThreadContext.put("TestName", "startHotReload");
+        log.info("************ Starting method: startHotReload ************");
+        ConfigSnapshot config = ConfigSnapshot.of("src/test/resources/Config.properties");
+        if (config.getBoolean("hotReload", false)) {
+            HotReload.start(config.getLong("hotReloadDebounceMs", 1000),
+                    "src/test/resources/Config.properties",
+                    "src/test/resources/jsonNewData.json",
+                    "src/test/resources/jsonVolumeData.json");
+        }
+    }
+
+
+    @AfterSuite(alwaysRun = true)
+    public void exportActionMetrics() {
+        ThreadContext.put("TestName", "exportActionMetrics");
+        log.info("************ Starting method: exportActionMetrics ************");
+        HotReload.stop();
+        ActionMetrics.export(Path.of("target/metrics/action-latency.json"));
+        log.info("Auth state cache: {}", AuthStateCache.getStats());
+        RetryAnalyzer.export(Path.of("target/metrics/retry-cost.json"));
+        if (accountPool != null) {
+            accountPool.export(Path.of("target/metrics/account-pool.json"));
+            accountPool.close();
+        }
+        Screenshot.awaitPendingWrites(30);
+    }
+
+
     @AfterMethod
     public void quitDriver() {
         ThreadContext.put("TestName", "quitDriver_" + methodName.get());
         log.info("************ Starting method: 'quitDriver' ************");
-        String userId = acquiredUserId.get();
-        if (userId != null) {
-            userManager.releaseUser(userId);
+        AccountPool.Lease lease = accountLease.get();
+        if (lease != null) {
+            lease.close();
         }
         GetWebDriver.quitDriver();
         clearThreadLocals();
     }
 
+    /**
+     * Leases a test account for the current test, preferring the account of its affinity lane, whose session is
+     * more likely to be warm; it's released by {@link #quitDriver()}.
+     *
+     * @return the leased account id.
+     * @throws java.util.concurrent.TimeoutException if no account was freed within the acquire timeout.
+     */
+    protected String acquireUser() throws Exception {
+        String preferred = AccountAffinityInterceptor.preferredAccount(Reporter.getCurrentTestResult().getMethod());
+        AccountPool.Lease lease = accountPool.acquire(preferred);
+        accountLease.set(lease);
+        return lease.account();
+    }
+
+    /**
+     * Logs the account in, restoring its cached auth state when there's a valid one, or through the login form
+     * otherwise; either way the session ends up on the payments page.
+     *
+     * @param userId the leased account id.
+     */
+    protected void login(String userId) throws Exception {
+        paymentPage.set(new PaymentPage(5));
+        if (AuthStateCache.restore(GetWebDriver.getLocalDriver(), userId, ignored -> paymentPage.get().isDisplayed())) {
+            return;
+        }
+        homePage.set(new HomePage(20));
+        homePage.get().selectPage("الدفع الإلكترونى");
+
+        loginPage.set(new LoginPage(20));
+        loginPage.get().enterId(userId);
+        loginPage.get().enterPassword(configurationLoader.get().getValue("password"));
+        loginPage.get().clickLoginButton();
+        if (!paymentPage.get().isDisplayed()) {
+            log.warn("Account '{}' isn't on the payments page after logging in, Its auth state isn't captured.", userId);
+            return;
+        }
+        AuthStateCache.capture(GetWebDriver.getLocalDriver(), userId);
+    }
+
     private void clearThreadLocals() {
+        accountLease.remove();
         softAssert.remove();
         methodName.remove();
         configurationLoader.remove();
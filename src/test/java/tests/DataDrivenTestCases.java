@@ -0,0 +1,78 @@
+package tests;
+
+import io.qameta.allure.Description;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Severity;
+import io.qameta.allure.SeverityLevel;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.ThreadContext;
+import org.testng.annotations.Listeners;
+import org.testng.annotations.Test;
+import pages.*;
+import utility.AllureLog4jListener;
+import utility.AnnotationTransformer;
+import utility.JsonCases;
+import utility.JsonDataProvider;
+
+import static java.lang.invoke.MethodHandles.lookup;
+
+@Listeners({AllureLog4jListener.class, AnnotationTransformer.class})
+public class DataDrivenTestCases extends BaseTest {
+
+
+    private static final Logger log = LogManager.getLogger(lookup().lookupClass());
+
+
+    @Description("This testcase runs the NorthCoast payment flow once per case of jsonVolumeData.json tagged 'volume', " +
+            "and checks each record is created and successfully added to the list with the submitted entered data.")
+    @Feature("DataDrivenScenarios")
+    @Severity(SeverityLevel.CRITICAL)
+    @JsonCases(file = "src/test/resources/jsonVolumeData.json", keyPrefix = "northCoastPayment_", tag = "volume", type = PaymentCase.class)
+    @Test(dataProvider = "jsonCases", dataProviderClass = JsonDataProvider.class)
+    public void userCanPayByNorthCoast(String caseKey, PaymentCase testData) throws Exception {
+        ThreadContext.put("TestName", methodName.get());
+        log.info("************ Starting method: '{}', Case: '{}' ************", methodName.get(), caseKey);
+        String userId = acquireUser();
+        login(userId);
+
+        paymentPage.set(new PaymentPage(20));
+        paymentPage.get().clickPayNewInvoiceButton();
+
+        paymentDetailsPage.set(new PaymentDetailsPage(20));
+        paymentDetailsPage.get().selectVillage(testData.village());
+        paymentDetailsPage.get().selectBuildingId(testData.buildingId(), true);
+        paymentDetailsPage.get().selectFloorId(testData.floorId(), true);
+        paymentDetailsPage.get().selectUnitId(testData.unitId(), true);
+        paymentDetailsPage.get().clickSubmitButton();
+
+        confirmationPage.set(new UserConfirmationPage(20));
+        confirmationPage.get().clickConfirm();
+
+        finalConfirmationPage.set(new FinalConfirmationPage(20));
+        finalConfirmationPage.get().selectNationality(testData.nationality());
+        finalConfirmationPage.get().enterPassportOrNationalId(testData.nationality(), testData.passportNationalId());
+        finalConfirmationPage.get().enterMobileNo(testData.mobileNo());
+        finalConfirmationPage.get().clickSubmitButton();
+
+        finalPaymentPage.set(new FinalPaymentPage(20));
+        finalPaymentPage.get().enterPayerName(testData.payerName());
+        finalPaymentPage.get().enterAmount(testData.amount());
+        finalPaymentPage.get().clickPayNow();
+
+        eFinancePaymentPage.set(new eFinancePaymentPage(30));
+        eFinancePaymentPage.get().selectPaymentWay(pages.eFinancePaymentPage.paymentWay.cardsLabel);
+        eFinancePaymentPage.get().enterCardNo(testData.cardNo());
+        eFinancePaymentPage.get().enterSecurityCode(testData.securityCode());
+        eFinancePaymentPage.get().selectExpiryMonth(testData.expiryMonth());
+        eFinancePaymentPage.get().selectExpiryYear(testData.expiryYear());
+        eFinancePaymentPage.get().clickPayButton();
+
+        paymentPage.get().assertMessageShownAsPaymentDoneSuccessfully(softAssert.get());
+        paymentPage.get().assertPaymentRecordAddedToList(
+                softAssert.get(),
+                testData.payerName(),
+                testData.amount());
+        softAssert.get().assertAll();
+    }
+}
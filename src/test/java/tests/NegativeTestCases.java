@@ -29,24 +29,18 @@ public class NegativeTestCases extends BaseTest {
 
         ThreadContext.put("TestName", methodName.get());
         log.info("************ Starting method: '{}' ************", methodName.get());
-        String userId = userManager.acquireUser();
-        acquiredUserId.set(userId);
-        homePage.set(new HomePage(10));
-        homePage.get().selectPage("الدفع الإلكترونى");
-
-        loginPage.set(new LoginPage(10));
-        loginPage.get().enterId(userId);
-        loginPage.get().enterPassword(configurationLoader.get().getValue("password"));
-        loginPage.get().clickLoginButton();
+        PaymentCase testData = jsonFileManager.get().getAs("TC9_userEntersWrongDataAtNorthCoastTab", PaymentCase.class);
+        String userId = acquireUser();
+        login(userId);
 
         paymentPage.set(new PaymentPage(10));
         paymentPage.get().clickPayNewInvoiceButton();
 
         paymentDetailsPage.set(new PaymentDetailsPage(10));
-        paymentDetailsPage.get().selectVillage(jsonFileManager.get().getKeyAndValueByKey("TC9_userEntersWrongDataAtNorthCoastTab").get("Village").toString());
-        paymentDetailsPage.get().selectBuildingId(jsonFileManager.get().getKeyAndValueByKey("TC9_userEntersWrongDataAtNorthCoastTab").get("BuildingId").toString(), true);
-        paymentDetailsPage.get().selectFloorId(jsonFileManager.get().getKeyAndValueByKey("TC9_userEntersWrongDataAtNorthCoastTab").get("selectFloorId").toString(), true);
-        paymentDetailsPage.get().selectUnitId(jsonFileManager.get().getKeyAndValueByKey("TC9_userEntersWrongDataAtNorthCoastTab").get("UnitId").toString(), true);
+        paymentDetailsPage.get().selectVillage(testData.village());
+        paymentDetailsPage.get().selectBuildingId(testData.buildingId(), true);
+        paymentDetailsPage.get().selectFloorId(testData.floorId(), true);
+        paymentDetailsPage.get().selectUnitId(testData.unitId(), true);
         paymentDetailsPage.get().clickSubmitButton();
         paymentDetailsPage.get().assertErrorMessageAppear();
     }
@@ -60,22 +54,17 @@ public class NegativeTestCases extends BaseTest {
 
         ThreadContext.put("TestName", methodName.get());
         log.info("************ Starting method: '{}' ************", methodName.get());
+        PaymentCase testData = jsonFileManager.get().getAs("TC10_userEntersWrongDataAtAccessKeyTab", PaymentCase.class);
 
-        homePage.set(new HomePage(10));
-        homePage.get().selectPage("الدفع الإلكترونى");
-        String userId = userManager.acquireUser();
-        acquiredUserId.set(userId);
-        loginPage.set(new LoginPage(10));
-        loginPage.get().enterId(userId);
-        loginPage.get().enterPassword(configurationLoader.get().getValue("password"));
-        loginPage.get().clickLoginButton();
+        String userId = acquireUser();
+        login(userId);
 
         paymentPage.set(new PaymentPage(10));
         paymentPage.get().clickPayNewInvoiceButton();
 
         paymentDetailsPage.set(new PaymentDetailsPage(10));
         paymentDetailsPage.get().selectTab(PaymentDetailsPage.tabs.accessKeyTab);
-        paymentDetailsPage.get().enterAccessKey(jsonFileManager.get().getKeyAndValueByKey("TC10_userEntersWrongDataAtAccessKeyTab").get("AccessKey").toString());
+        paymentDetailsPage.get().enterAccessKey(testData.accessKey());
         paymentDetailsPage.get().clickSubmitButton();
         paymentDetailsPage.get().assertErrorMessageAppear();
     }
@@ -89,28 +78,22 @@ public class NegativeTestCases extends BaseTest {
 
         ThreadContext.put("TestName", methodName.get());
         log.info("************ Starting method: '{}' ************", methodName.get());
-        String userId = userManager.acquireUser();
-        acquiredUserId.set(userId);
-        homePage.set(new HomePage(10));
-        homePage.get().selectPage("الدفع الإلكترونى");
-
-        loginPage.set(new LoginPage(10));
-        loginPage.get().enterId(userId);
-        loginPage.get().enterPassword(configurationLoader.get().getValue("password"));
-        loginPage.get().clickLoginButton();
+        PaymentCase testData = jsonFileManager.get().getAs("TC11_userEntersWrongDataAtAddressTab", PaymentCase.class);
+        String userId = acquireUser();
+        login(userId);
 
         paymentPage.set(new PaymentPage(10));
         paymentPage.get().clickPayNewInvoiceButton();
 
         paymentDetailsPage.set(new PaymentDetailsPage(10));
         paymentDetailsPage.get().selectTab(PaymentDetailsPage.tabs.addressTab);
-        paymentDetailsPage.get().selectGovernorateId(jsonFileManager.get().getKeyAndValueByKey("TC11_userEntersWrongDataAtAddressTab").get("GovernorateId").toString());
-        paymentDetailsPage.get().selectDistrictId(jsonFileManager.get().getKeyAndValueByKey("TC11_userEntersWrongDataAtAddressTab").get("DistrictId").toString());
-        paymentDetailsPage.get().selectSubdistrictId(jsonFileManager.get().getKeyAndValueByKey("TC11_userEntersWrongDataAtAddressTab").get("SubdistrictId").toString());
-        paymentDetailsPage.get().selectStreetId(jsonFileManager.get().getKeyAndValueByKey("TC11_userEntersWrongDataAtAddressTab").get("StreetId").toString());
-        paymentDetailsPage.get().selectBuildingId(jsonFileManager.get().getKeyAndValueByKey("TC11_userEntersWrongDataAtAddressTab").get("BuildingId").toString(), false);
-        paymentDetailsPage.get().selectFloorId(jsonFileManager.get().getKeyAndValueByKey("TC11_userEntersWrongDataAtAddressTab").get("selectFloorId").toString(), false);
-        paymentDetailsPage.get().selectUnitId(jsonFileManager.get().getKeyAndValueByKey("TC11_userEntersWrongDataAtAddressTab").get("UnitId").toString(), false);
+        paymentDetailsPage.get().selectGovernorateId(testData.governorateId());
+        paymentDetailsPage.get().selectDistrictId(testData.districtId());
+        paymentDetailsPage.get().selectSubdistrictId(testData.subdistrictId());
+        paymentDetailsPage.get().selectStreetId(testData.streetId());
+        paymentDetailsPage.get().selectBuildingId(testData.buildingId(), false);
+        paymentDetailsPage.get().selectFloorId(testData.floorId(), false);
+        paymentDetailsPage.get().selectUnitId(testData.unitId(), false);
         paymentDetailsPage.get().clickSubmitButton();
         paymentDetailsPage.get().assertErrorMessageAppear();
     }
@@ -124,18 +107,13 @@ public class NegativeTestCases extends BaseTest {
 
         ThreadContext.put("TestName", methodName.get());
         log.info("************ Starting method: '{}' ************", methodName.get());
+        PaymentCase testData = jsonFileManager.get().getAs("TC12_userCanSearchWithWrongUnitIdInSearchBar", PaymentCase.class);
 
-        homePage.set(new HomePage(10));
-        homePage.get().selectPage("الدفع الإلكترونى");
-        String userId = userManager.acquireUser();
-        acquiredUserId.set(userId);
-        loginPage.set(new LoginPage(10));
-        loginPage.get().enterId(userId);
-        loginPage.get().enterPassword(configurationLoader.get().getValue("password"));
-        loginPage.get().clickLoginButton();
+        String userId = acquireUser();
+        login(userId);
 
         paymentPage.set(new PaymentPage(10));
-        paymentPage.get().enterUnitCode(jsonFileManager.get().getKeyAndValueByKey("TC12_userCanSearchWithWrongUnitIdInSearchBar").get("AccessKey").toString());
+        paymentPage.get().enterUnitCode(testData.accessKey());
         paymentPage.get().clickSearchButton();
         Thread.sleep(2000); //Can't be changed.
         paymentPage.get().assertNoPaymentsShown();
@@ -0,0 +1,62 @@
+package tests;
+
+import com.google.gson.annotations.SerializedName;
+import pages.FinalConfirmationPage;
+
+/**
+ * PaymentCase is the typed form of one test case in {@code jsonNewData.json}.
+ * <br>It is bound once through {@code JsonFileManager.getAs(...)}, so tests read typed values
+ * instead of copying, logging and parsing the raw map on every access.
+ *
+ * <p>Fields a test case doesn't define are {@code null}. Values are validated when the case is bound:
+ * <ul>
+ *   <li><code>Nationality</code>: EG or US only.</li>
+ *   <li><code>MobileNo</code>: 11 digits starting with 0.</li>
+ *   <li><code>ExpiryMonth</code>: between 1 and 12.</li>
+ *   <li><code>selectedRowNo</code>: 1 or more.</li>
+ * </ul>
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ *   PaymentCase testData = jsonFileManager.get().getAs("TC1_userCanPayByNorthCoast", PaymentCase.class);
+ *   eFinancePaymentPage.get().selectExpiryMonth(testData.expiryMonth());
+ * }</pre>
+ *
+ * @author Hossam Atef
+ * @version 1.0
+ */
+public record PaymentCase(
+        @SerializedName("_description") String description,
+        @SerializedName("Village") String village,
+        @SerializedName("GovernorateId") String governorateId,
+        @SerializedName("DistrictId") String districtId,
+        @SerializedName("SubdistrictId") String subdistrictId,
+        @SerializedName("StreetId") String streetId,
+        @SerializedName("BuildingId") String buildingId,
+        @SerializedName("selectFloorId") String floorId,
+        @SerializedName("UnitId") String unitId,
+        @SerializedName("AccessKey") String accessKey,
+        @SerializedName("Nationality") FinalConfirmationPage.Nationality nationality,
+        @SerializedName("PassportNationalId") String passportNationalId,
+        @SerializedName("MobileNo") String mobileNo,
+        @SerializedName("PayerName") String payerName,
+        @SerializedName("Amount") String amount,
+        @SerializedName("CardNo") String cardNo,
+        @SerializedName("SecurityCode") String securityCode,
+        @SerializedName("ExpiryMonth") Integer expiryMonth,
+        @SerializedName("ExpiryYear") Integer expiryYear,
+        @SerializedName("selectedRowNo") Integer selectedRowNo,
+        @SerializedName("actionButton") String actionButton) {
+
+    public PaymentCase {
+        if (mobileNo != null && !mobileNo.matches("0\\d{10}")) {
+            throw new IllegalArgumentException("MobileNo must be 11 digits starting with 0: '" + mobileNo + "'.");
+        }
+        if (expiryMonth != null && (expiryMonth < 1 || expiryMonth > 12)) {
+            throw new IllegalArgumentException("ExpiryMonth must be between 1 and 12: '" + expiryMonth + "'.");
+        }
+        if (selectedRowNo != null && selectedRowNo < 1) {
+            throw new IllegalArgumentException("selectedRowNo must be 1 or more: '" + selectedRowNo + "'.");
+        }
+    }
+}
@@ -13,7 +13,7 @@ import org.testng.asserts.SoftAssert;
 import pages.*;
 import utility.AllureLog4jListener;
 import utility.AnnotationTransformer;
-import utility.UsersManager;
+import utility.DownloadManager;
 
 import static java.lang.invoke.MethodHandles.lookup;
 
@@ -32,55 +32,47 @@ public class PositiveTestCases extends BaseTest {
     public void TC1_userCanPayByNorthCoast() throws Exception {
         ThreadContext.put("TestName", methodName.get());
         log.info("************ Starting method: '{}' ************", methodName.get());
-        String userId = userManager.acquireUser();
-        acquiredUserId.set(userId);
-        homePage.set(new HomePage(20));
-        homePage.get().selectPage("الدفع الإلكترونى");
-
-        loginPage.set(new LoginPage(20));
-        loginPage.get().enterId(userId);
-        loginPage.get().enterPassword(configurationLoader.get().getValue("password"));
-        loginPage.get().clickLoginButton();
+        PaymentCase testData = jsonFileManager.get().getAs("TC1_userCanPayByNorthCoast", PaymentCase.class);
+        String userId = acquireUser();
+        login(userId);
 
         paymentPage.set(new PaymentPage(20));
         paymentPage.get().clickPayNewInvoiceButton();
 
         paymentDetailsPage.set(new PaymentDetailsPage(20));
-        paymentDetailsPage.get().selectVillage(jsonFileManager.get().getKeyAndValueByKey("TC1_userCanPayByNorthCoast").get("Village").toString());
-        paymentDetailsPage.get().selectBuildingId(jsonFileManager.get().getKeyAndValueByKey("TC1_userCanPayByNorthCoast").get("BuildingId").toString(), true);
-        paymentDetailsPage.get().selectFloorId(jsonFileManager.get().getKeyAndValueByKey("TC1_userCanPayByNorthCoast").get("selectFloorId").toString(), true);
-        paymentDetailsPage.get().selectUnitId(jsonFileManager.get().getKeyAndValueByKey("TC1_userCanPayByNorthCoast").get("UnitId").toString(), true);
+        paymentDetailsPage.get().selectVillage(testData.village());
+        paymentDetailsPage.get().selectBuildingId(testData.buildingId(), true);
+        paymentDetailsPage.get().selectFloorId(testData.floorId(), true);
+        paymentDetailsPage.get().selectUnitId(testData.unitId(), true);
         paymentDetailsPage.get().clickSubmitButton();
 
         confirmationPage.set(new UserConfirmationPage(20));
         confirmationPage.get().clickConfirm();
 
         finalConfirmationPage.set(new FinalConfirmationPage(20));
-        String nationalityStr = jsonFileManager.get().getKeyAndValueByKey("TC1_userCanPayByNorthCoast").get("Nationality").toString();
-        finalConfirmationPage.get().selectNationality(FinalConfirmationPage.Nationality.valueOf(nationalityStr));
-        finalConfirmationPage.get().enterPassportOrNationalId(FinalConfirmationPage.Nationality.valueOf(nationalityStr),
-                jsonFileManager.get().getKeyAndValueByKey("TC1_userCanPayByNorthCoast").get("PassportNationalId").toString());
-        finalConfirmationPage.get().enterMobileNo(jsonFileManager.get().getKeyAndValueByKey("TC1_userCanPayByNorthCoast").get("MobileNo").toString());
+        finalConfirmationPage.get().selectNationality(testData.nationality());
+        finalConfirmationPage.get().enterPassportOrNationalId(testData.nationality(), testData.passportNationalId());
+        finalConfirmationPage.get().enterMobileNo(testData.mobileNo());
         finalConfirmationPage.get().clickSubmitButton();
 
         finalPaymentPage.set(new FinalPaymentPage(20));
-        finalPaymentPage.get().enterPayerName(jsonFileManager.get().getKeyAndValueByKey("TC1_userCanPayByNorthCoast").get("PayerName").toString());
-        finalPaymentPage.get().enterAmount(jsonFileManager.get().getKeyAndValueByKey("TC1_userCanPayByNorthCoast").get("Amount").toString());
+        finalPaymentPage.get().enterPayerName(testData.payerName());
+        finalPaymentPage.get().enterAmount(testData.amount());
         finalPaymentPage.get().clickPayNow();
 
         eFinancePaymentPage.set(new eFinancePaymentPage(30));
         eFinancePaymentPage.get().selectPaymentWay(pages.eFinancePaymentPage.paymentWay.cardsLabel);
-        eFinancePaymentPage.get().enterCardNo(jsonFileManager.get().getKeyAndValueByKey("TC1_userCanPayByNorthCoast").get("CardNo").toString());
-        eFinancePaymentPage.get().enterSecurityCode(jsonFileManager.get().getKeyAndValueByKey("TC1_userCanPayByNorthCoast").get("SecurityCode").toString());
-        eFinancePaymentPage.get().selectExpiryMonth((int) Double.parseDouble(jsonFileManager.get().getKeyAndValueByKey("TC1_userCanPayByNorthCoast").get("ExpiryMonth").toString()));
-        eFinancePaymentPage.get().selectExpiryYear((int) Double.parseDouble(jsonFileManager.get().getKeyAndValueByKey("TC1_userCanPayByNorthCoast").get("ExpiryYear").toString()));
+        eFinancePaymentPage.get().enterCardNo(testData.cardNo());
+        eFinancePaymentPage.get().enterSecurityCode(testData.securityCode());
+        eFinancePaymentPage.get().selectExpiryMonth(testData.expiryMonth());
+        eFinancePaymentPage.get().selectExpiryYear(testData.expiryYear());
         eFinancePaymentPage.get().clickPayButton();
 
         paymentPage.get().assertMessageShownAsPaymentDoneSuccessfully(softAssert.get());
         paymentPage.get().assertPaymentRecordAddedToList(
                 softAssert.get(),
-                jsonFileManager.get().getKeyAndValueByKey("TC1_userCanPayByNorthCoast").get("PayerName").toString(),
-                jsonFileManager.get().getKeyAndValueByKey("TC1_userCanPayByNorthCoast").get("Amount").toString());
+                testData.payerName(),
+                testData.amount());
         softAssert.get().assertAll();
     }
 
@@ -94,62 +86,45 @@ public class PositiveTestCases extends BaseTest {
 
         ThreadContext.put("TestName", methodName.get());
         log.info("************ Starting method: '{}' ************", methodName.get());
-        String userId = userManager.acquireUser();
-        acquiredUserId.set(userId);
-        homePage.set(new HomePage(20));
-        homePage.get().selectPage("الدفع الإلكترونى");
-
-        loginPage.set(new LoginPage(20));
-        loginPage.get().enterId(userId);
-        loginPage.get().enterPassword(configurationLoader.get().getValue("password"));
-        loginPage.get().clickLoginButton();
+        PaymentCase testData = jsonFileManager.get().getAs("TC2_userCanPayByAccessKey", PaymentCase.class);
+        String userId = acquireUser();
+        login(userId);
 
         paymentPage.set(new PaymentPage(20));
         paymentPage.get().clickPayNewInvoiceButton();
 
         paymentDetailsPage.set(new PaymentDetailsPage(20));
         paymentDetailsPage.get().selectTab(PaymentDetailsPage.tabs.accessKeyTab);
-        paymentDetailsPage.get().enterAccessKey(
-                jsonFileManager.get().getKeyAndValueByKey("TC2_userCanPayByAccessKey").get("AccessKey").toString());
+        paymentDetailsPage.get().enterAccessKey(testData.accessKey());
         paymentDetailsPage.get().clickSubmitButton();
 
         confirmationPage.set(new UserConfirmationPage(20));
         confirmationPage.get().clickConfirm();
 
         finalConfirmationPage.set(new FinalConfirmationPage(20));
-        String nationalityStr = jsonFileManager.get().getKeyAndValueByKey("TC2_userCanPayByAccessKey").get("Nationality").toString();
-        finalConfirmationPage.get().selectNationality(FinalConfirmationPage.Nationality.valueOf(nationalityStr));
-        finalConfirmationPage.get().enterPassportOrNationalId(
-                FinalConfirmationPage.Nationality.valueOf(nationalityStr),
-                jsonFileManager.get().getKeyAndValueByKey("TC2_userCanPayByAccessKey").get("PassportNationalId").toString());
-        finalConfirmationPage.get().enterMobileNo(
-                jsonFileManager.get().getKeyAndValueByKey("TC2_userCanPayByAccessKey").get("MobileNo").toString());
+        finalConfirmationPage.get().selectNationality(testData.nationality());
+        finalConfirmationPage.get().enterPassportOrNationalId(testData.nationality(), testData.passportNationalId());
+        finalConfirmationPage.get().enterMobileNo(testData.mobileNo());
         finalConfirmationPage.get().clickSubmitButton();
 
         finalPaymentPage.set(new FinalPaymentPage(20));
-        finalPaymentPage.get().enterPayerName(
-                jsonFileManager.get().getKeyAndValueByKey("TC2_userCanPayByAccessKey").get("PayerName").toString());
-        finalPaymentPage.get().enterAmount(
-                jsonFileManager.get().getKeyAndValueByKey("TC2_userCanPayByAccessKey").get("Amount").toString());
+        finalPaymentPage.get().enterPayerName(testData.payerName());
+        finalPaymentPage.get().enterAmount(testData.amount());
         finalPaymentPage.get().clickPayNow();
 
         eFinancePaymentPage.set(new eFinancePaymentPage(30));
         eFinancePaymentPage.get().selectPaymentWay(pages.eFinancePaymentPage.paymentWay.cardsLabel);
-        eFinancePaymentPage.get().enterCardNo(
-                jsonFileManager.get().getKeyAndValueByKey("TC2_userCanPayByAccessKey").get("CardNo").toString());
-        eFinancePaymentPage.get().enterSecurityCode(
-                jsonFileManager.get().getKeyAndValueByKey("TC2_userCanPayByAccessKey").get("SecurityCode").toString());
-        eFinancePaymentPage.get().selectExpiryMonth(
-                (int) Double.parseDouble(jsonFileManager.get().getKeyAndValueByKey("TC2_userCanPayByAccessKey").get("ExpiryMonth").toString()));
-        eFinancePaymentPage.get().selectExpiryYear(
-                (int) Double.parseDouble(jsonFileManager.get().getKeyAndValueByKey("TC2_userCanPayByAccessKey").get("ExpiryYear").toString()));
+        eFinancePaymentPage.get().enterCardNo(testData.cardNo());
+        eFinancePaymentPage.get().enterSecurityCode(testData.securityCode());
+        eFinancePaymentPage.get().selectExpiryMonth(testData.expiryMonth());
+        eFinancePaymentPage.get().selectExpiryYear(testData.expiryYear());
         eFinancePaymentPage.get().clickPayButton();
 
         paymentPage.get().assertMessageShownAsPaymentDoneSuccessfully(softAssert.get());
         paymentPage.get().assertPaymentRecordAddedToList(
                 softAssert.get(),
-                jsonFileManager.get().getKeyAndValueByKey("TC2_userCanPayByAccessKey").get("PayerName").toString(),
-                jsonFileManager.get().getKeyAndValueByKey("TC2_userCanPayByAccessKey").get("Amount").toString());
+                testData.payerName(),
+                testData.amount());
         softAssert.get().assertAll();
     }
 
@@ -163,74 +138,52 @@ public class PositiveTestCases extends BaseTest {
 
         ThreadContext.put("TestName", methodName.get());
         log.info("************ Starting method: '{}' ************", methodName.get());
+        PaymentCase testData = jsonFileManager.get().getAs("TC3_userCanPayThroughAddressTab", PaymentCase.class);
 
-        homePage.set(new HomePage(20));
-        homePage.get().selectPage("الدفع الإلكترونى");
-        String userId = userManager.acquireUser();
-        acquiredUserId.set(userId);
-        loginPage.set(new LoginPage(20));
-        loginPage.get().enterId(userId);
-        loginPage.get().enterPassword(configurationLoader.get().getValue("password"));
-        loginPage.get().clickLoginButton();
+        String userId = acquireUser();
+        login(userId);
 
         paymentPage.set(new PaymentPage(20));
         paymentPage.get().clickPayNewInvoiceButton();
 
         paymentDetailsPage.set(new PaymentDetailsPage(20));
         paymentDetailsPage.get().selectTab(PaymentDetailsPage.tabs.addressTab);
-        paymentDetailsPage.get().selectGovernorateId(
-                jsonFileManager.get().getKeyAndValueByKey("TC3_userCanPayThroughAddressTab").get("GovernorateId").toString());
-        paymentDetailsPage.get().selectDistrictId(
-                jsonFileManager.get().getKeyAndValueByKey("TC3_userCanPayThroughAddressTab").get("DistrictId").toString());
-        paymentDetailsPage.get().selectSubdistrictId(
-                jsonFileManager.get().getKeyAndValueByKey("TC3_userCanPayThroughAddressTab").get("SubdistrictId").toString());
-        paymentDetailsPage.get().selectStreetId(
-                jsonFileManager.get().getKeyAndValueByKey("TC3_userCanPayThroughAddressTab").get("StreetId").toString());
-        paymentDetailsPage.get().selectBuildingId(
-                jsonFileManager.get().getKeyAndValueByKey("TC3_userCanPayThroughAddressTab").get("BuildingId").toString(), false);
-        paymentDetailsPage.get().selectFloorId(
-                jsonFileManager.get().getKeyAndValueByKey("TC3_userCanPayThroughAddressTab").get("selectFloorId").toString(), false);
-        paymentDetailsPage.get().selectUnitId(
-                jsonFileManager.get().getKeyAndValueByKey("TC3_userCanPayThroughAddressTab").get("UnitId").toString(), false);
+        paymentDetailsPage.get().selectGovernorateId(testData.governorateId());
+        paymentDetailsPage.get().selectDistrictId(testData.districtId());
+        paymentDetailsPage.get().selectSubdistrictId(testData.subdistrictId());
+        paymentDetailsPage.get().selectStreetId(testData.streetId());
+        paymentDetailsPage.get().selectBuildingId(testData.buildingId(), false);
+        paymentDetailsPage.get().selectFloorId(testData.floorId(), false);
+        paymentDetailsPage.get().selectUnitId(testData.unitId(), false);
         paymentDetailsPage.get().clickSubmitButton();
 
         confirmationPage.set(new UserConfirmationPage(20));
         confirmationPage.get().clickConfirm();
 
         finalConfirmationPage.set(new FinalConfirmationPage(20));
-        String nationalityStr = jsonFileManager.get().getKeyAndValueByKey("TC3_userCanPayThroughAddressTab").get("Nationality").toString();
-        finalConfirmationPage.get().selectNationality(FinalConfirmationPage.Nationality.valueOf(nationalityStr));
-        finalConfirmationPage.get().enterPassportOrNationalId(
-                FinalConfirmationPage.Nationality.valueOf(nationalityStr),
-                jsonFileManager.get().getKeyAndValueByKey("TC3_userCanPayThroughAddressTab").get("PassportNationalId").toString());
-        finalConfirmationPage.get().enterMobileNo(
-                jsonFileManager.get().getKeyAndValueByKey("TC3_userCanPayThroughAddressTab").get("MobileNo").toString());
+        finalConfirmationPage.get().selectNationality(testData.nationality());
+        finalConfirmationPage.get().enterPassportOrNationalId(testData.nationality(), testData.passportNationalId());
+        finalConfirmationPage.get().enterMobileNo(testData.mobileNo());
         finalConfirmationPage.get().clickSubmitButton();
 
         finalPaymentPage.set(new FinalPaymentPage(20));
-        finalPaymentPage.get().enterPayerName(
-                jsonFileManager.get().getKeyAndValueByKey("TC3_userCanPayThroughAddressTab").get("PayerName").toString());
-        finalPaymentPage.get().enterAmount(
-                jsonFileManager.get().getKeyAndValueByKey("TC3_userCanPayThroughAddressTab").get("Amount").toString());
+        finalPaymentPage.get().enterPayerName(testData.payerName());
+        finalPaymentPage.get().enterAmount(testData.amount());
         finalPaymentPage.get().clickPayNow();
 
         eFinancePaymentPage.set(new eFinancePaymentPage(30));
         eFinancePaymentPage.get().selectPaymentWay(pages.eFinancePaymentPage.paymentWay.cardsLabel);
-        eFinancePaymentPage.get().enterCardNo(
-                jsonFileManager.get().getKeyAndValueByKey("TC3_userCanPayThroughAddressTab").get("CardNo").toString());
-        eFinancePaymentPage.get().enterSecurityCode(
-                jsonFileManager.get().getKeyAndValueByKey("TC3_userCanPayThroughAddressTab").get("SecurityCode").toString());
-        eFinancePaymentPage.get().selectExpiryMonth(
-                (int) Double.parseDouble(jsonFileManager.get().getKeyAndValueByKey("TC3_userCanPayThroughAddressTab").get("ExpiryMonth").toString()));
-        eFinancePaymentPage.get().selectExpiryYear(
-                (int) Double.parseDouble(jsonFileManager.get().getKeyAndValueByKey("TC3_userCanPayThroughAddressTab").get("ExpiryYear").toString()));
+        eFinancePaymentPage.get().enterCardNo(testData.cardNo());
+        eFinancePaymentPage.get().enterSecurityCode(testData.securityCode());
+        eFinancePaymentPage.get().selectExpiryMonth(testData.expiryMonth());
+        eFinancePaymentPage.get().selectExpiryYear(testData.expiryYear());
         eFinancePaymentPage.get().clickPayButton();
 
         paymentPage.get().assertMessageShownAsPaymentDoneSuccessfully(softAssert.get());
         paymentPage.get().assertPaymentRecordAddedToList(
                 softAssert.get(),
-                jsonFileManager.get().getKeyAndValueByKey("TC3_userCanPayThroughAddressTab").get("PayerName").toString(),
-                jsonFileManager.get().getKeyAndValueByKey("TC3_userCanPayThroughAddressTab").get("Amount").toString());
+                testData.payerName(),
+                testData.amount());
 
         softAssert.get().assertAll();
     }
@@ -243,29 +196,19 @@ public class PositiveTestCases extends BaseTest {
 
         ThreadContext.put("TestName", methodName.get());
         log.info("************ Starting method: '{}' ************", methodName.get());
+        PaymentCase testData = jsonFileManager.get().getAs("TC4_userRestAllFieldsOnClickingClearButtonAtNorthCoastTab", PaymentCase.class);
 
-        homePage.set(new HomePage(20));
-        homePage.get().selectPage("الدفع الإلكترونى");
-        String userId = userManager.acquireUser();
-        acquiredUserId.set(userId);
-
-        loginPage.set(new LoginPage(20));
-        loginPage.get().enterId(userId);
-        loginPage.get().enterPassword(configurationLoader.get().getValue("password"));
-        loginPage.get().clickLoginButton();
+        String userId = acquireUser();
+        login(userId);
 
         paymentPage.set(new PaymentPage(20));
         paymentPage.get().clickPayNewInvoiceButton();
 
         paymentDetailsPage.set(new PaymentDetailsPage(20));
-        paymentDetailsPage.get().selectVillage(
-                jsonFileManager.get().getKeyAndValueByKey("TC4_userRestAllFieldsOnClickingClearButtonAtNorthCoastTab").get("Village").toString());
-        paymentDetailsPage.get().selectBuildingId(
-                jsonFileManager.get().getKeyAndValueByKey("TC4_userRestAllFieldsOnClickingClearButtonAtNorthCoastTab").get("BuildingId").toString(), true);
-        paymentDetailsPage.get().selectFloorId(
-                jsonFileManager.get().getKeyAndValueByKey("TC4_userRestAllFieldsOnClickingClearButtonAtNorthCoastTab").get("selectFloorId").toString(), true);
-        paymentDetailsPage.get().selectUnitId(
-                jsonFileManager.get().getKeyAndValueByKey("TC4_userRestAllFieldsOnClickingClearButtonAtNorthCoastTab").get("UnitId").toString(), true);
+        paymentDetailsPage.get().selectVillage(testData.village());
+        paymentDetailsPage.get().selectBuildingId(testData.buildingId(), true);
+        paymentDetailsPage.get().selectFloorId(testData.floorId(), true);
+        paymentDetailsPage.get().selectUnitId(testData.unitId(), true);
         paymentDetailsPage.get().clickClearButton();
         paymentDetailsPage.get().assertClearButtonFunctionality();
     }
@@ -279,35 +222,22 @@ public class PositiveTestCases extends BaseTest {
 
         ThreadContext.put("TestName", methodName.get());
         log.info("************ Starting method: '{}' ************", methodName.get());
-        String userId = userManager.acquireUser();
-        acquiredUserId.set(userId);
-        homePage.set(new HomePage(20));
-        homePage.get().selectPage("الدفع الإلكترونى");
-
-        loginPage.set(new LoginPage(20));
-        loginPage.get().enterId(userId);
-        loginPage.get().enterPassword(configurationLoader.get().getValue("password"));
-        loginPage.get().clickLoginButton();
+        PaymentCase testData = jsonFileManager.get().getAs("TC5_userRestAllFieldsOnClickingClearButtonAtAddressTab", PaymentCase.class);
+        String userId = acquireUser();
+        login(userId);
 
         paymentPage.set(new PaymentPage(20));
         paymentPage.get().clickPayNewInvoiceButton();
 
         paymentDetailsPage.set(new PaymentDetailsPage(20));
         paymentDetailsPage.get().selectTab(PaymentDetailsPage.tabs.addressTab);
-        paymentDetailsPage.get().selectGovernorateId(
-                jsonFileManager.get().getKeyAndValueByKey("TC5_userRestAllFieldsOnClickingClearButtonAtAddressTab").get("GovernorateId").toString());
-        paymentDetailsPage.get().selectDistrictId(
-                jsonFileManager.get().getKeyAndValueByKey("TC5_userRestAllFieldsOnClickingClearButtonAtAddressTab").get("DistrictId").toString());
-        paymentDetailsPage.get().selectSubdistrictId(
-                jsonFileManager.get().getKeyAndValueByKey("TC5_userRestAllFieldsOnClickingClearButtonAtAddressTab").get("SubdistrictId").toString());
-        paymentDetailsPage.get().selectStreetId(
-                jsonFileManager.get().getKeyAndValueByKey("TC5_userRestAllFieldsOnClickingClearButtonAtAddressTab").get("StreetId").toString());
-        paymentDetailsPage.get().selectBuildingId(
-                jsonFileManager.get().getKeyAndValueByKey("TC5_userRestAllFieldsOnClickingClearButtonAtAddressTab").get("BuildingId").toString(), false);
-        paymentDetailsPage.get().selectFloorId(
-                jsonFileManager.get().getKeyAndValueByKey("TC5_userRestAllFieldsOnClickingClearButtonAtAddressTab").get("selectFloorId").toString(), false);
-        paymentDetailsPage.get().selectUnitId(
-                jsonFileManager.get().getKeyAndValueByKey("TC5_userRestAllFieldsOnClickingClearButtonAtAddressTab").get("UnitId").toString(), false);
+        paymentDetailsPage.get().selectGovernorateId(testData.governorateId());
+        paymentDetailsPage.get().selectDistrictId(testData.districtId());
+        paymentDetailsPage.get().selectSubdistrictId(testData.subdistrictId());
+        paymentDetailsPage.get().selectStreetId(testData.streetId());
+        paymentDetailsPage.get().selectBuildingId(testData.buildingId(), false);
+        paymentDetailsPage.get().selectFloorId(testData.floorId(), false);
+        paymentDetailsPage.get().selectUnitId(testData.unitId(), false);
         paymentDetailsPage.get().clickClearButton();
         paymentDetailsPage.get().assertClearButtonFunctionality();
     }
@@ -321,26 +251,19 @@ public class PositiveTestCases extends BaseTest {
 
         ThreadContext.put("TestName", methodName.get());
         log.info("************ Starting method: '{}' ************", methodName.get());
+        PaymentCase testData = jsonFileManager.get().getAs("TC6_userCanSearchForSpecificUnitId", PaymentCase.class);
 
-        homePage.set(new HomePage(20));
-        homePage.get().selectPage("الدفع الإلكترونى");
-        String userId = userManager.acquireUser();
-        acquiredUserId.set(userId);
-
-        loginPage.set(new LoginPage(20));
-        loginPage.get().enterId(userId);
-        loginPage.get().enterPassword(configurationLoader.get().getValue("password"));
-        loginPage.get().clickLoginButton();
+        String userId = acquireUser();
+        login(userId);
 
         paymentPage.set(new PaymentPage(20));
-        paymentPage.get().enterUnitCode(
-                jsonFileManager.get().getKeyAndValueByKey("TC6_userCanSearchForSpecificUnitId").get("AccessKey").toString());
+        paymentPage.get().enterUnitCode(testData.accessKey());
         paymentPage.get().clickSearchButton();
 
         Thread.sleep(2000); //Can't be changed.
         paymentPage.get().assertPaymentCodeShownAsEntered(
                 softAssert.get(),
-                jsonFileManager.get().getKeyAndValueByKey("TC6_userCanSearchForSpecificUnitId").get("AccessKey").toString());
+                testData.accessKey());
         softAssert.get().assertAll();
     }
 
@@ -355,54 +278,41 @@ public class PositiveTestCases extends BaseTest {
 
         ThreadContext.put("TestName", methodName.get());
         log.info("************ Starting method: '{}' ************", methodName.get());
+        PaymentCase testData = jsonFileManager.get().getAs("TC7_userCanSelectPaymentAndPayForTheSameUnit", PaymentCase.class);
 
-        homePage.set(new HomePage(20));
-        homePage.get().selectPage("الدفع الإلكترونى");
-        String userId = userManager.acquireUser();
-        acquiredUserId.set(userId);
-
-        loginPage.set(new LoginPage(20));
-        loginPage.get().enterId(userId);
-        loginPage.get().enterPassword(configurationLoader.get().getValue("password"));
-        loginPage.get().clickLoginButton();
+        String userId = acquireUser();
+        login(userId);
 
         paymentPage.set(new PaymentPage(20));
-        String selectedUnitCode = paymentPage.get().getSelectedUnitCode(
-                Integer.parseInt(jsonFileManager.get().getKeyAndValueByKey("TC7_userCanSelectPaymentAndPayForTheSameUnit").get("selectedRowNo").toString()));
-        String actionButton = jsonFileManager.get().getKeyAndValueByKey("TC7_userCanSelectPaymentAndPayForTheSameUnit").get("actionButton").toString();
+        String selectedUnitCode = paymentPage.get().getSelectedUnitCode(testData.selectedRowNo());
+        String actionButton = testData.actionButton();
         paymentPage.get().clickOnDetailsButton(
                 PaymentPage.Buttons.valueOf(actionButton),
-                Integer.parseInt(jsonFileManager.get().getKeyAndValueByKey("TC7_userCanSelectPaymentAndPayForTheSameUnit").get("selectedRowNo").toString()));
+                testData.selectedRowNo());
 
         specificPaymentDetails.set(new SpecificPaymentDetails(20));
         specificPaymentDetails.get().clickPayForSameUnitButton();
 
         finalPaymentPage.set(new FinalPaymentPage(20));
         finalPaymentPage.get().assertUnitCodeIsSameAsSelected(selectedUnitCode);
-        finalPaymentPage.get().enterPayerName(
-                jsonFileManager.get().getKeyAndValueByKey("TC7_userCanSelectPaymentAndPayForTheSameUnit").get("PayerName").toString());
-        finalPaymentPage.get().enterAmount(
-                jsonFileManager.get().getKeyAndValueByKey("TC7_userCanSelectPaymentAndPayForTheSameUnit").get("Amount").toString());
+        finalPaymentPage.get().enterPayerName(testData.payerName());
+        finalPaymentPage.get().enterAmount(testData.amount());
         finalPaymentPage.get().clickPayNow();
 
         eFinancePaymentPage.set(new eFinancePaymentPage(30));
         eFinancePaymentPage.get().selectPaymentWay(pages.eFinancePaymentPage.paymentWay.cardsLabel);
-        eFinancePaymentPage.get().enterCardNo(
-                jsonFileManager.get().getKeyAndValueByKey("TC7_userCanSelectPaymentAndPayForTheSameUnit").get("CardNo").toString());
-        eFinancePaymentPage.get().enterSecurityCode(
-                jsonFileManager.get().getKeyAndValueByKey("TC7_userCanSelectPaymentAndPayForTheSameUnit").get("SecurityCode").toString());
-        eFinancePaymentPage.get().selectExpiryMonth(
-                (int) Double.parseDouble(jsonFileManager.get().getKeyAndValueByKey("TC7_userCanSelectPaymentAndPayForTheSameUnit").get("ExpiryMonth").toString()));
-        eFinancePaymentPage.get().selectExpiryYear(
-                (int) Double.parseDouble(jsonFileManager.get().getKeyAndValueByKey("TC7_userCanSelectPaymentAndPayForTheSameUnit").get("ExpiryYear").toString()));
+        eFinancePaymentPage.get().enterCardNo(testData.cardNo());
+        eFinancePaymentPage.get().enterSecurityCode(testData.securityCode());
+        eFinancePaymentPage.get().selectExpiryMonth(testData.expiryMonth());
+        eFinancePaymentPage.get().selectExpiryYear(testData.expiryYear());
         eFinancePaymentPage.get().clickPayButton();
 
         softAssert.set(new SoftAssert());
         paymentPage.get().assertMessageShownAsPaymentDoneSuccessfully(softAssert.get());
         paymentPage.get().assertPaymentRecordAddedToList(
                 softAssert.get(),
-                jsonFileManager.get().getKeyAndValueByKey("TC2_userCanPayByAccessKey").get("PayerName").toString(),
-                jsonFileManager.get().getKeyAndValueByKey("TC2_userCanPayByAccessKey").get("Amount").toString());
+                jsonFileManager.get().getAs("TC2_userCanPayByAccessKey", PaymentCase.class).payerName(),
+                jsonFileManager.get().getAs("TC2_userCanPayByAccessKey", PaymentCase.class).amount());
         softAssert.get().assertAll();
 
 
@@ -419,30 +329,24 @@ public class PositiveTestCases extends BaseTest {
 
         ThreadContext.put("TestName", methodName.get());
         log.info("************ Starting method: '{}' ************", methodName.get());
+        PaymentCase testData = jsonFileManager.get().getAs("TC8_userCanSelectPaymentAndDownloadPDF", PaymentCase.class);
 
-        homePage.set(new HomePage(20));
-        homePage.get().selectPage("الدفع الإلكترونى");
-        String userId = userManager.acquireUser();
-        acquiredUserId.set(userId);
-
-        loginPage.set(new LoginPage(20));
-        loginPage.get().enterId(userId);
-        loginPage.get().enterPassword(configurationLoader.get().getValue("password"));
-        loginPage.get().clickLoginButton();
+        String userId = acquireUser();
+        login(userId);
 
         paymentPage.set(new PaymentPage(20));
-        String selectedUnitCode = paymentPage.get().getSelectedUnitCode(
-                Integer.parseInt(jsonFileManager.get().getKeyAndValueByKey("TC8_userCanSelectPaymentAndDownloadPDF").get("selectedRowNo").toString()));
-        String actionButton = jsonFileManager.get().getKeyAndValueByKey("TC8_userCanSelectPaymentAndDownloadPDF").get("actionButton").toString();
+        String selectedUnitCode = paymentPage.get().getSelectedUnitCode(testData.selectedRowNo());
+        String actionButton = testData.actionButton();
         paymentPage.get().clickOnDetailsButton(
                 PaymentPage.Buttons.valueOf(actionButton),
-                Integer.parseInt(jsonFileManager.get().getKeyAndValueByKey("TC8_userCanSelectPaymentAndDownloadPDF").get("selectedRowNo").toString()));
+                testData.selectedRowNo());
 
         paymentPrintPage.set(new PaymentPrintPage(20));
         paymentPrintPage.get().assertUnitCodeIsSameAsSelected(selectedUnitCode);
-        paymentPrintPage.get().clearDownloadDirectory(configurationLoader.get().getValue("downloadDirectory"));
+        String downloadDirectory = DownloadManager.getSessionDirectory().toString();
+        paymentPrintPage.get().clearDownloadDirectory(downloadDirectory);
         paymentPrintPage.get().clickDownloadPDF();
-        paymentPrintPage.get().assertFilesDownloaded(configurationLoader.get().getValue("downloadDirectory"));
+        paymentPrintPage.get().assertFilesDownloaded(downloadDirectory);
 
     }
 
@@ -0,0 +1,130 @@
+package utility;
+
+import datadriven.ConfigSnapshot;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ITestContext;
+import org.testng.ITestNGMethod;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.lang.invoke.MethodHandles.lookup;
+
+/**
+ * AccountAffinityInterceptor groups the test methods of a run into one lane per account, so each account runs
+ * a steady share of the tests and its authenticated session stays warm in {@link AuthStateCache}.
+ *
+ * <p>Key Features:
+ * <ul>
+ *   <li>Splits the methods into as many lanes as can run at once: the smaller of the suite's thread count and
+ *       the number of accounts.</li>
+ *   <li>Balances the lanes by invocation count, heaviest methods first.</li>
+ *   <li>Interleaves the lanes, so the threads pick up one method of each lane in turn and every account works
+ *       in parallel; the methods of a lane keep their original order.</li>
+ *   <li>Gives each lane's methods the lane's account as their preferred account, which {@link AccountPool} leases
+ *       to them when it's free; a busy account is never waited for.</li>
+ * </ul>
+ *
+ * <p>Register it as a listener:
+ * <pre>{@code
+ * <listeners>
+ *     <listener class-name="utility.AccountAffinityInterceptor"/>
+ * </listeners>
+ * }</pre>
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ *   String preferred = AccountAffinityInterceptor.preferredAccount(Reporter.getCurrentTestResult().getMethod());
+ *   AccountPool.Lease lease = accountPool.acquire(preferred);
+ * }</pre>
+ *
+ * @author Hossam Atef
+ * @version 1.0
+ */
+public class AccountAffinityInterceptor implements IMethodInterceptor {
+
+    private static final Logger log = LogManager.getLogger(lookup().lookupClass());
+    private static final Map<String, String> preferredAccounts = new ConcurrentHashMap<>();
+
+    /**
+     * Splits the methods into account lanes and interleaves them.
+     *
+     * @param methods the methods TestNG is about to run, in its order.
+     * @param context the test context.
+     * @return the same methods, lane by lane in turn.
+     */
+    @Override
+    public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+        List<String> accounts;
+        try {
+            accounts = ConfigSnapshot.of("src/test/resources/Config.properties").getList("nationalId/Passport");
+        } catch (Exception e) {
+            log.warn("Failed to read the accounts, Keeping TestNG's method order: {}", e.getMessage());
+            return methods;
+        }
+        if (accounts == null || accounts.isEmpty() || methods.isEmpty()) {
+            return methods;
+        }
+        int threads = context.getSuite().getXmlSuite().getParallel().isParallel()
+                ? context.getSuite().getXmlSuite().getThreadCount() : 1;
+        int laneCount = Math.max(1, Math.min(Math.min(threads, accounts.size()), methods.size()));
+
+        // Heaviest first onto the lightest lane; a stable sort keeps the original order among equal weights
+        List<Integer> byWeight = new ArrayList<>();
+        for (int i = 0; i < methods.size(); i++) {
+            byWeight.add(i);
+        }
+        byWeight.sort(Comparator.comparingInt((Integer i) -> -weight(methods.get(i).getMethod())));
+        int[] laneOf = new int[methods.size()];
+        long[] load = new long[laneCount];
+        for (int i : byWeight) {
+            int lightest = 0;
+            for (int lane = 1; lane < laneCount; lane++) {
+                if (load[lane] < load[lightest]) {
+                    lightest = lane;
+                }
+            }
+            laneOf[i] = lightest;
+            load[lightest] += weight(methods.get(i).getMethod());
+        }
+
+        List<Deque<IMethodInstance>> lanes = new ArrayList<>();
+        for (int lane = 0; lane < laneCount; lane++) {
+            lanes.add(new ArrayDeque<>());
+        }
+        for (int i = 0; i < methods.size(); i++) {
+            IMethodInstance method = methods.get(i);
+            lanes.get(laneOf[i]).add(method);
+            preferredAccounts.put(key(method.getMethod()), accounts.get(laneOf[i]));
+        }
+        List<IMethodInstance> ordered = new ArrayList<>(methods.size());
+        while (ordered.size() < methods.size()) {
+            for (Deque<IMethodInstance> lane : lanes) {
+                if (!lane.isEmpty()) {
+                    ordered.add(lane.poll());
+                }
+            }
+        }
+        log.info("'{}' methods split into '{}' account lanes, Loads: {}", methods.size(), laneCount, Arrays.toString(load));
+        return ordered;
+    }
+
+    /**
+     * @param method the running test method.
+     * @return the account of the method's lane, or {@code null} if the method wasn't intercepted.
+     */
+    public static String preferredAccount(ITestNGMethod method) {
+        return method == null ? null : preferredAccounts.get(key(method));
+    }
+
+    private static int weight(ITestNGMethod method) {
+        return Math.max(method.getInvocationCount(), 1);
+    }
+
+    private static String key(ITestNGMethod method) {
+        return method.getQualifiedName();
+    }
+}
@@ -0,0 +1,360 @@
+package utility;
+
+import com.google.gson.GsonBuilder;
+import datadriven.ConfigSnapshot;
+import io.qameta.allure.Allure;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.lang.invoke.MethodHandles.lookup;
+
+/**
+ * AccountPool leases the test accounts to parallel tests, so no two tests log in with the same account,
+ * and gets every account back even when a test never releases it.
+ *
+ * <p>Key Features:
+ * <ul>
+ *   <li>Fair: tests waiting for an account get one in the order they asked, through a fair {@link Semaphore}.</li>
+ *   <li>No lock on the hot path: free accounts sit in a lock-free queue, the least recently used one is leased first.</li>
+ *   <li>Affinity: a test gets its preferred account, or the one its thread held last, when it's free, so warm
+ *       authenticated sessions are reused (see {@link AccountAffinityInterceptor}).</li>
+ *   <li>Bounded waits: {@link #acquire()} fails with a {@link TimeoutException} instead of hanging the suite.</li>
+ *   <li>Leases expire: an account held past its time to live is reclaimed by a daemon reaper and leased again;
+ *       releasing an expired lease afterwards does nothing, so it can't free another test's account.</li>
+ *   <li>Metrics: wait time per acquire (p50/p95/p99), timeouts, reclaimed leases, peak use and utilisation,
+ *       exported as JSON and attached to Allure.</li>
+ * </ul>
+ *
+ * <p>Configuration (Config.properties, optional):
+ * <ul>
+ *   <li><code>accountAcquireTimeoutMs</code>: the longest a test waits for an account.</li>
+ *   <li><code>accountLeaseTtlMs</code>: the longest a test may hold an account before it's reclaimed.</li>
+ * </ul>
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ *   AccountPool pool = AccountPool.fromConfig(ConfigSnapshot.of("src/test/resources/Config.properties"));
+ *   try (AccountPool.Lease lease = pool.acquire()) {
+ *       loginPage.enterId(lease.account());
+ *   }
+ *   pool.export(Path.of("target/metrics/account-pool.json"));
+ * }</pre>
+ *
+ * @author Hossam Atef
+ * @version 1.0
+ */
+public final class AccountPool implements AutoCloseable {
+
+    private static final Logger log = LogManager.getLogger(lookup().lookupClass());
+
+    private final List<String> accounts;
+    private final Queue<String> idle = new ConcurrentLinkedQueue<>();
+    private final Semaphore permits;
+    private final Map<Lease, Boolean> leases = new ConcurrentHashMap<>();
+    private final Duration acquireTimeout;
+    private final Duration leaseTtl;
+    private final ScheduledExecutorService reaper;
+    private final long createdNanos = System.nanoTime();
+
+    private final LatencyHistogram waits = new LatencyHistogram();
+    private final ThreadLocal<String> lastAccount = new ThreadLocal<>();
+    private final LongAdder acquired = new LongAdder();
+    private final LongAdder preferredHits = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder reclaimed = new LongAdder();
+    private final LongAdder leasedNanos = new LongAdder();
+    private final AtomicInteger inUse = new AtomicInteger();
+    private final AtomicInteger peakInUse = new AtomicInteger();
+
+    /**
+     * A lease of one account; close it, or pass it to {@link #release(Lease)}, once the test is done with the account.
+     */
+    public final class Lease implements AutoCloseable {
+
+        private final String account;
+        private final String holder = Thread.currentThread().getName();
+        private final long acquiredNanos = System.nanoTime();
+        private volatile long expiresNanos;
+        private final AtomicBoolean ended = new AtomicBoolean();
+
+        private Lease(String account) {
+            this.account = account;
+            this.expiresNanos = acquiredNanos + leaseTtl.toNanos();
+        }
+
+        /**
+         * @return the leased account.
+         */
+        public String account() {
+            return account;
+        }
+
+        /**
+         * @return {@code true} until the lease is released or reclaimed.
+         */
+        public boolean isActive() {
+            return !ended.get();
+        }
+
+        /**
+         * Extends the lease by another time to live from now, for tests that legitimately run long.
+         *
+         * @return {@code true} if the lease was still active.
+         */
+        public boolean renew() {
+            expiresNanos = System.nanoTime() + leaseTtl.toNanos();
+            return isActive();
+        }
+
+        @Override
+        public void close() {
+            release(this);
+        }
+
+        @Override
+        public String toString() {
+            return "'" + account + "' held by '" + holder + "'";
+        }
+    }
+
+    /**
+     * @param accounts       the accounts to lease, at least one.
+     * @param acquireTimeout the longest {@link #acquire()} waits for an account.
+     * @param leaseTtl       the longest a lease is held before it's reclaimed.
+     */
+    public AccountPool(Collection<String> accounts, Duration acquireTimeout, Duration leaseTtl) {
+        if (accounts.isEmpty()) {
+            log.error("The account pool needs at least one account.");
+            throw new IllegalArgumentException("The account pool needs at least one account.");
+        }
+        this.accounts = List.copyOf(accounts);
+        this.idle.addAll(this.accounts);
+        this.permits = new Semaphore(this.accounts.size(), true);
+        this.acquireTimeout = acquireTimeout;
+        this.leaseTtl = leaseTtl;
+        this.reaper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "account-lease-reaper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long period = Math.max(leaseTtl.toMillis() / 4, 100);
+        reaper.scheduleWithFixedDelay(this::reclaimExpired, period, period, TimeUnit.MILLISECONDS);
+        log.info("Account pool created with '{}' accounts, Acquire timeout: '{}' ms, Lease TTL: '{}' ms.",
+                this.accounts.size(), acquireTimeout.toMillis(), leaseTtl.toMillis());
+    }
+
+    /**
+     * Creates a pool of the <code>nationalId/Passport</code> accounts, with the configured timeouts.
+     *
+     * @param config the configuration to read.
+     * @return the pool.
+     */
+    public static AccountPool fromConfig(ConfigSnapshot config) {
+        return new AccountPool(config.getList("nationalId/Passport"),
+                Duration.ofMillis(config.getLong("accountAcquireTimeoutMs", 600_000)),
+                Duration.ofMillis(config.getLong("accountLeaseTtlMs", 1_800_000)));
+    }
+
+    /**
+     * Leases an account, waiting up to the pool's acquire timeout.
+     *
+     * @return the lease.
+     * @throws TimeoutException     if no account was freed in time.
+     * @throws InterruptedException if the thread is interrupted while waiting.
+     */
+    public Lease acquire() throws InterruptedException, TimeoutException {
+        return acquire(acquireTimeout, null);
+    }
+
+    /**
+     * Leases an account, preferring the given one, then the one this thread held last, if either is free.
+     * <br>A busy preferred account is never waited for; any free account is leased instead, so affinity
+     * doesn't cost parallelism.
+     *
+     * @param preferredAccount the account whose warm session the test would reuse, or {@code null}.
+     * @return the lease.
+     * @throws TimeoutException     if no account was freed in time.
+     * @throws InterruptedException if the thread is interrupted while waiting.
+     */
+    public Lease acquire(String preferredAccount) throws InterruptedException, TimeoutException {
+        return acquire(acquireTimeout, preferredAccount);
+    }
+
+    /**
+     * Leases an account, waiting up to the given timeout.
+     *
+     * @param timeout          the longest to wait.
+     * @param preferredAccount the account to lease if it's free, or {@code null}; see {@link #acquire(String)}.
+     * @return the lease.
+     * @throws TimeoutException     if no account was freed in time.
+     * @throws InterruptedException if the thread is interrupted while waiting.
+     */
+    public Lease acquire(Duration timeout, String preferredAccount) throws InterruptedException, TimeoutException {
+        long startNanos = System.nanoTime();
+        // A zero timeout, unlike tryAcquire(), fails while earlier waiters are queued, so the fair order holds
+        if (!permits.tryAcquire(0, TimeUnit.NANOSECONDS)) {
+            // Expired leases are reclaimed before waiting, rather than on the reaper's next pass
+            reclaimExpired();
+            if (!permits.tryAcquire(timeout.toNanos(), TimeUnit.NANOSECONDS)) {
+                timeouts.increment();
+                log.error("No account freed within '{}' ms, Leased: {}", timeout.toMillis(), leases.keySet());
+                throw new TimeoutException("No account freed within '" + timeout.toMillis() + "' ms.");
+            }
+        }
+        // Every permit stands for an idle account, so the queue can't be empty here
+        String account = take(preferredAccount);
+        if (account == null) {
+            account = take(lastAccount.get());
+        }
+        if (account != null) {
+            preferredHits.increment();
+        } else {
+            account = idle.poll();
+        }
+        lastAccount.set(account);
+        Lease lease = new Lease(account);
+        leases.put(lease, Boolean.TRUE);
+        long waitNanos = System.nanoTime() - startNanos;
+        synchronized (waits) {
+            waits.recordNanos(waitNanos);
+        }
+        acquired.increment();
+        peakInUse.accumulateAndGet(inUse.incrementAndGet(), Math::max);
+        log.info("Account {} leased after '{}' ms.", lease, waitNanos / 1_000_000);
+        return lease;
+    }
+
+    /**
+     * Ends a lease and frees its account; a lease that was already released or reclaimed is ignored.
+     *
+     * @param lease the lease to end.
+     * @return {@code true} if this call freed the account.
+     */
+    public boolean release(Lease lease) {
+        if (!end(lease)) {
+            log.warn("Lease of account {} had already ended, Ignoring the release.", lease);
+            return false;
+        }
+        log.info("Account {} released.", lease);
+        return true;
+    }
+
+    /**
+     * Reclaims every lease held past its time to live.
+     *
+     * @return the number of reclaimed leases.
+     */
+    public int reclaimExpired() {
+        long now = System.nanoTime();
+        int count = 0;
+        for (Lease lease : leases.keySet()) {
+            if (now - lease.expiresNanos > 0 && end(lease)) {
+                reclaimed.increment();
+                count++;
+                log.warn("Lease of account {} expired after '{}' ms, Account reclaimed.", lease,
+                        (now - lease.acquiredNanos) / 1_000_000);
+            }
+        }
+        return count;
+    }
+
+    private String take(String account) {
+        return account != null && idle.remove(account) ? account : null;
+    }
+
+    private boolean end(Lease lease) {
+        if (!lease.ended.compareAndSet(false, true)) {
+            return false;
+        }
+        leases.remove(lease);
+        leasedNanos.add(System.nanoTime() - lease.acquiredNanos);
+        inUse.decrementAndGet();
+        idle.offer(lease.account);
+        permits.release();
+        return true;
+    }
+
+    /**
+     * @return the number of accounts free to lease right now.
+     */
+    public int available() {
+        return permits.availablePermits();
+    }
+
+    /**
+     * Builds the pool metrics.
+     *
+     * @return the acquire count, the acquires that got a preferred or the thread's last account, wait percentiles, timeouts, reclaimed leases, peak use, and utilisation: the share of
+     * account time spent leased since the pool was created.
+     */
+    public Map<String, Object> snapshot() {
+        long now = System.nanoTime();
+        long busyNanos = leasedNanos.sum();
+        for (Lease lease : leases.keySet()) {
+            busyNanos += now - lease.acquiredNanos;
+        }
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("generatedAt", Instant.now().toString());
+        report.put("accounts", accounts.size());
+        report.put("acquired", acquired.sum());
+        report.put("preferredHits", preferredHits.sum());
+        synchronized (waits) {
+            report.put("waitMeanMs", round(waits.getMeanMillis()));
+            report.put("waitP50Ms", round(waits.percentileMillis(50)));
+            report.put("waitP95Ms", round(waits.percentileMillis(95)));
+            report.put("waitP99Ms", round(waits.percentileMillis(99)));
+            report.put("waitMaxMs", round(waits.getMaxMillis()));
+        }
+        report.put("timeouts", timeouts.sum());
+        report.put("reclaimed", reclaimed.sum());
+        report.put("inUse", inUse.get());
+        report.put("peakInUse", peakInUse.get());
+        report.put("utilisation", round((double) busyNanos / ((double) accounts.size() * Math.max(now - createdNanos, 1))));
+        return report;
+    }
+
+    /**
+     * Writes the pool metrics as JSON to the given file and attaches them to Allure.
+     *
+     * @param jsonFile the file to write, parent directories are created if missing.
+     */
+    public void export(Path jsonFile) {
+        String json = new GsonBuilder().setPrettyPrinting().create().toJson(snapshot());
+        try {
+            if (jsonFile.getParent() != null) {
+                Files.createDirectories(jsonFile.getParent());
+            }
+            Files.writeString(jsonFile, json, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            log.error("Failed to write the account pool report to '{}'.", jsonFile);
+            throw new UncheckedIOException(e);
+        }
+        Allure.addAttachment("Account Pool", "application/json", json, ".json");
+        log.info("Account pool report written to '{}': {}", jsonFile, json.replaceAll("\\s+", " "));
+    }
+
+    /**
+     * Stops the reaper; leases still held stay valid and can be released.
+     */
+    @Override
+    public void close() {
+        reaper.shutdownNow();
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+}
@@ -1,17 +1,19 @@
 package utility;
 
+import com.google.gson.GsonBuilder;
+import datadriven.ConfigSnapshot;
 import io.qameta.allure.Allure;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.io.File;
 import java.io.FileInputStream;
-import java.io.FileNotFoundException;
 import java.io.IOException;
 
 import org.testng.IInvokedMethod;
 import org.testng.IInvokedMethodListener;
 import org.testng.ITestResult;
+import webdriverfactory.CommandCounter;
 
 /**
  * AllureLog4jListener is a TestNG listener class that enhances test reporting by integrating
@@ -21,6 +23,8 @@ import org.testng.ITestResult;
  * <ul>
  *   <li>Captures a screenshot if a test fails and attaches it to the Allure report.</li>
  *   <li>Attaches application logs and filtered warn/error logs to the Allure report.</li>
+ *   <li>Attaches the filmstrip of the last steps if a test fails.</li>
+ *   <li>Attaches the test's WebDriver round-trip counts and enforces the optional command budget.</li>
  *   <li>Provides post-invocation logic using {@link IInvokedMethodListener}.</li>
  * </ul>
  *
@@ -61,9 +65,15 @@ public class AllureLog4jListener implements IInvokedMethodListener {
     @Override
     public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
         if (method.isTestMethod()) {                    //Check it's annotated with @Test not @BeforeTest or @AfterTest
+            checkCommandBudget(testResult);
+
+            if (testResult.getStatus() == ITestResult.FAILURE) {
+                Filmstrip.flushToAllure();          // The last steps before the failure
+            }
+
             try {
                 Screenshot.takeScreenShot(testResult);
-            } catch (IOException e) {
+            } catch (Exception e) {
                 log.error("Failed to capture a screenshot");
                 throw new RuntimeException(e);
             }
@@ -77,20 +87,58 @@ public class AllureLog4jListener implements IInvokedMethodListener {
         }
     }
 
+    /**
+     * Attaches the WebDriver round-trip counts of the test to the Allure report and checks them
+     * against the {@code commandBudget} config value.
+     * <br>Over budget, the test fails if {@code commandBudgetMode} is {@code fail}, otherwise a warning is logged.
+     *
+     * @param testResult the result of the test method, updated if the test fails on budget
+     */
+    private void checkCommandBudget(ITestResult testResult) {
+        CommandCounter counter = CommandCounter.current();
+        if (counter == null) {
+            return;
+        }
+        Allure.addAttachment("WebDriver Commands", "application/json",
+                new GsonBuilder().setPrettyPrinting().create().toJson(counter.getSummary()), ".json");
+
+        int budget;
+        boolean failOnBudget;
+        try {
+            ConfigSnapshot config = RetryAnalyzer.startedConfig(testResult);
+            budget = config.getInt("commandBudget", 0);
+            failOnBudget = "fail".equalsIgnoreCase(config.getString("commandBudgetMode"));
+        } catch (Exception e) {
+            log.error("Failed to read the 'commandBudget' parameters from the config file.");
+            throw new RuntimeException(e);
+        }
+
+        if (counter.isOverBudget(budget)) {
+            String message = "Test '" + testResult.getName() + "' sent '" + counter.getTotal()
+                    + "' WebDriver commands, Over the budget of '" + budget + "'.";
+            if (failOnBudget && testResult.isSuccess()) {
+                log.error(message);
+                testResult.setStatus(ITestResult.FAILURE);
+                testResult.setThrowable(new AssertionError(message));
+            } else {
+                log.warn(message);
+            }
+        }
+    }
+
     /**
      * Attaches the application's main log file and filtered warn/error log file
      * to the Allure report, if they exist and are not empty.
      *
-     * @throws FileNotFoundException if log files cannot be found
+     * @throws IOException if log files cannot be found or read
      */
-    private void attachLogsToAllure() throws FileNotFoundException {
+    private void attachLogsToAllure() throws IOException {
         File logFile = new File("logs/application.log"); // Path to your log file
         File warnErrorFile = new File("logs/warn_error_logs.log"); // Path to your log file
 
         if (logFile.exists() && logFile.length() > 0) {
-            try {
-                FileInputStream applicationStream = new FileInputStream(logFile);
-                FileInputStream warnErrorStream = new FileInputStream(warnErrorFile);
+            try (FileInputStream applicationStream = new FileInputStream(logFile);
+                 FileInputStream warnErrorStream = new FileInputStream(warnErrorFile)) {
                 // Attach the log file to the Allure report
                 log.info("Logs attached to the allure report 'Application Logs' & 'WarnError Logs'.");
                 Allure.addAttachment("Application Logs", "text/plain", applicationStream, "log");
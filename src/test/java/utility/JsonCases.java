@@ -0,0 +1,60 @@
+package utility;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * JsonCases selects the test cases that {@link JsonDataProvider} feeds to a data-driven test method,
+ * from a JSON, JSON Lines or CSV file (see {@link datadriven.DataSource#open(String, boolean)}).
+ *
+ * <p>A case is selected when its key starts with {@link #keyPrefix()} (case-insensitive, whitespace ignored)
+ * and, if {@link #tag()} is set, its <code>_tags</code> list contains the tag, e.g.:
+ * <pre>{@code
+ *   "northCoastPayment_0001": { "_tags": ["volume", "US"], "Village": "...", ... }
+ * }</pre>
+ * In JSON Lines and CSV files, the key is the <code>_key</code> field, and CSV tags are separated by ';'.
+ * <br>The <code>dataShard</code>, <code>dataSample</code>, <code>dataSampleSeed</code> and <code>dataLimit</code>
+ * keys of Config.properties, or their <code>-D</code> overrides, then restrict the selection (see {@link datadriven.DataSlice}).
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ *   @JsonCases(keyPrefix = "northCoastPayment_", tag = "volume", type = PaymentCase.class)
+ *   @Test(dataProvider = "jsonCases", dataProviderClass = JsonDataProvider.class)
+ *   public void userCanPayByNorthCoast(String caseKey, PaymentCase testData) { ... }
+ * }</pre>
+ *
+ * @author Hossam Atef
+ * @version 1.0
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface JsonCases {
+
+    /**
+     * @return the path of the data file: <code>.json</code>, <code>.jsonl</code> or <code>.csv</code>.
+     */
+    String file() default "src/test/resources/jsonNewData.json";
+
+    /**
+     * @return the key prefix of the selected cases, empty selects all keys.
+     */
+    String keyPrefix() default "";
+
+    /**
+     * @return the tag the selected cases must have in their <code>_tags</code> list, empty means any.
+     */
+    String tag() default "";
+
+    /**
+     * @return the record each case is bound to.
+     */
+    Class<? extends Record> type();
+
+    /**
+     * @return {@code true} to read a JSON file through the streaming source, for data files too large to load;
+     * JSON Lines and CSV files are always streamed.
+     */
+    boolean streaming() default false;
+}
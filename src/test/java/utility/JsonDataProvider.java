@@ -0,0 +1,146 @@
+package utility;
+
+import datadriven.ConfigSnapshot;
+import datadriven.DataSlice;
+import datadriven.DataSource;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.annotations.DataProvider;
+
+import java.lang.reflect.Method;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.stream.Stream;
+
+import static java.lang.invoke.MethodHandles.lookup;
+
+/**
+ * JsonDataProvider is a generic parallel TestNG data provider that feeds test cases from JSON, JSON Lines
+ * or CSV files to a test method, so new permutations are added to the data file instead of writing new test methods.
+ *
+ * <p>Key Features:
+ * <ul>
+ *   <li>Selects cases by key prefix and tag through the {@link JsonCases} annotation of the test method.</li>
+ *   <li>Streams the cases through a {@link DataSource}: each one is read and bound only when TestNG pulls it.</li>
+ *   <li>Runs a shard or a sample of the cases, so a large matrix can be split across machines or runs.</li>
+ *   <li>Runs the cases in parallel, with a configurable fan-out.</li>
+ *   <li>Caps the fan-out by the number of test accounts, since every parallel case holds an account and a browser.</li>
+ * </ul>
+ *
+ * <p>Configuration (Config.properties, optional):
+ * <ul>
+ *   <li><code>dataProviderFanOut</code>: the maximum number of cases run at the same time.</li>
+ *   <li><code>dataShard</code>, <code>dataSample</code>, <code>dataSampleSeed</code>, <code>dataLimit</code>:
+ *       the slice of the cases to run (see {@link DataSlice}).</li>
+ * </ul>
+ *
+ * <p>Register it as a listener so the fan-out is applied to the suite:
+ * <pre>{@code
+ * <listeners>
+ *     <listener class-name="utility.JsonDataProvider"/>
+ * </listeners>
+ * }</pre>
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ *   @JsonCases(keyPrefix = "TC1_", type = PaymentCase.class)
+ *   @Test(dataProvider = "jsonCases", dataProviderClass = JsonDataProvider.class)
+ *   public void userCanPayByNorthCoast(String caseKey, PaymentCase testData) { ... }
+ * }</pre>
+ *
+ * @author Hossam Atef
+ * @version 1.0
+ */
+public class JsonDataProvider implements ISuiteListener {
+
+    private static final Logger log = LogManager.getLogger(lookup().lookupClass());
+
+    /**
+     * Sets the suite's data provider thread count from the configured fan-out, capped by the number of accounts.
+     *
+     * @param suite the starting suite.
+     */
+    @Override
+    public void onStart(ISuite suite) {
+        try {
+            ConfigSnapshot config = ConfigSnapshot.of("src/test/resources/Config.properties");
+            if (!config.contains("dataProviderFanOut")) {
+                return;
+            }
+            int fanOut = config.getInt("dataProviderFanOut");
+            int accounts = config.getList("nationalId/Passport").size();
+            int threads = Math.max(1, Math.min(fanOut, accounts));
+            suite.getXmlSuite().setDataProviderThreadCount(threads);
+            log.info("Data provider fan-out set to '{}' (configured: '{}', accounts: '{}').", threads, fanOut, accounts);
+        } catch (Exception e) {
+            log.warn("Failed to read the data provider fan-out, Keeping the suite's setting: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Feeds the cases selected by the {@link JsonCases} annotation of the test method, as
+     * <code>(String caseKey, Record testData)</code> rows, restricted to the configured shard and sample.
+     *
+     * @param method the test method, injected by TestNG.
+     * @return an iterator that reads and binds each case when it's pulled.
+     * @throws IllegalStateException if the test method isn't annotated with {@link JsonCases}.
+     */
+    @DataProvider(name = "jsonCases", parallel = true)
+    public static Iterator<Object[]> jsonCases(Method method) {
+        JsonCases cases = method.getAnnotation(JsonCases.class);
+        if (cases == null) {
+            log.error("Test method '{}' uses the 'jsonCases' data provider without a @JsonCases annotation.", method.getName());
+            throw new IllegalStateException("Test method '" + method.getName() + "' has no @JsonCases annotation.");
+        }
+        DataSlice slice = DataSlice.from(ConfigSnapshot.of("src/test/resources/Config.properties"));
+        DataSource source = DataSource.open(cases.file(), cases.streaming());
+        // The tag filter goes into the source, so the slice's limit counts tagged cases only
+        Stream<DataSource.Row> rows = source.rows(cases.keyPrefix(), slice,
+                cases.tag().isEmpty() ? row -> true : row -> row.hasTag(cases.tag()));
+        log.info("Feeding the cases of '{}' matching prefix '{}' and tag '{}' to '{}', Slice: {}", source.getName(),
+                cases.keyPrefix(), cases.tag(), method.getName(), slice);
+        return new CaseIterator(rows, cases.type());
+    }
+
+    /**
+     * Pulls the selected rows and binds each one as it's pulled, closing the source once it's exhausted.
+     * <br>TestNG pulls rows from its data provider threads, so it's synchronized.
+     */
+    private static final class CaseIterator implements Iterator<Object[]> {
+
+        private final Stream<DataSource.Row> stream;
+        private final Iterator<DataSource.Row> rows;
+        private final Class<? extends Record> type;
+
+        private CaseIterator(Stream<DataSource.Row> stream, Class<? extends Record> type) {
+            this.stream = stream;
+            this.rows = stream.iterator();
+            this.type = type;
+        }
+
+        @Override
+        public synchronized boolean hasNext() {
+            boolean hasNext = rows.hasNext();
+            if (!hasNext) {
+                stream.close();
+            }
+            return hasNext;
+        }
+
+        @Override
+        public synchronized Object[] next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            DataSource.Row row = rows.next();
+            try {
+                return new Object[]{row.key(), row.as(type)};
+            } catch (RuntimeException e) {
+                log.error("Failed to bind case '{}' to '{}': {}", row.key(), type.getSimpleName(), e.getMessage());
+                throw e;
+            }
+        }
+    }
+}
@@ -1,30 +1,66 @@
 package utility;
 
-import datadriven.ConfigLoader;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParseException;
+import datadriven.ConfigSnapshot;
 import io.qameta.allure.Allure;
+import org.openqa.selenium.*;
+import org.openqa.selenium.interactions.MoveTargetOutOfBoundsException;
 import webdriverfactory.GetWebDriver;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.testng.IRetryAnalyzer;
+import org.testng.ISuite;
+import org.testng.ISuiteResult;
+import org.testng.ITestContext;
+import org.testng.ITestNGMethod;
 import org.testng.ITestResult;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
 import static java.lang.invoke.MethodHandles.lookup;
 
 /**
- * RetryAnalyzer is a TestNG retry mechanism that re-executes failed tests up to a configurable number of times.
+ * RetryAnalyzer is a TestNG retry mechanism that re-executes tests failed by transient or infrastructure
+ * problems, within a retry budget shared by the whole suite.
  *
  * <p>Key Features:
  * <ul>
- *   <li>Reads the maximum retry count from a configuration file using {@link ConfigLoader}.</li>
- *   <li>Automatically retries failed tests up to the specified limit.</li>
- *   <li>Logs each retry attempt and final failure using Log4j.</li>
- *   <li>Attaches failure details to the Allure report on final failure.</li>
+ *   <li>Classifies each failure by its exception and causes:
+ *     <ul>
+ *       <li>Assertion: an {@link AssertionError}, e.g. from <code>SoftAssert.assertAll</code>, never retried.</li>
+ *       <li>Data: wrong test data, e.g. an {@link IllegalArgumentException} or a {@link JsonParseException}, never retried.</li>
+ *       <li>Transient: stale, intercepted or not yet interactable elements and wait timeouts, retried.</li>
+ *       <li>Infrastructure: lost browser sessions, network errors and account pool timeouts, retried.</li>
+ *       <li>Unknown: anything else, retried only if <code>retryUnknownFailures</code> is true.</li>
+ *     </ul>
+ *   </li>
+ *   <li>Retries each test up to <code>maxRetryCount</code> times, and the suite as a whole up to
+ *       <code>retryBudgetPercent</code> of its test invocations, so a real regression can't triple the run.</li>
+ *   <li>Waits with exponential backoff between attempts, giving a struggling environment time to recover.</li>
+ *   <li>Records the wall time of the retried attempts and the backoffs, per failure kind, and exports it as JSON.</li>
  *   <li>Ensures clean WebDriver state by quitting the driver before retrying.</li>
+ *   <li>Attaches the failure kind to the Allure report on final failure.</li>
  * </ul>
  *
- * <p>Configuration:
+ * <p>Configuration (Config.properties), read from the snapshot the test started with when it's stored in the
+ * {@link #CONFIG_ATTRIBUTE} attribute of its result, or from the current file otherwise:
  * <ul>
- *   <li>The maximum number of retries must be defined in the Config.properties file using the key <code>maxRetryCount</code>.</li>
+ *   <li><code>maxRetryCount</code>: the maximum no. of retries per test, required.</li>
+ *   <li><code>retryBudgetPercent</code>: the retries allowed in the suite, as a percentage of its test
+ *       invocations: the planned invocation counts, or the results so far once data provider rows outnumber them.</li>
+ *   <li><code>retryBackoffMs</code>, <code>retryBackoffMaxMs</code>: the first backoff, doubled on each retry, and its cap.</li>
+ *   <li><code>retryUnknownFailures</code>: whether unclassified failures are retried.</li>
  * </ul>
  *
  * <p>Example usage:
@@ -33,6 +69,8 @@ import static java.lang.invoke.MethodHandles.lookup;
  * public void testThatMayNeedRetries() {
  *     // test logic
  * }
+ *
+ * RetryAnalyzer.export(Path.of("target/metrics/retry-cost.json"));
  * }</pre>
  *
  * @author Hossam Atef
@@ -41,18 +79,48 @@ import static java.lang.invoke.MethodHandles.lookup;
 
 public class RetryAnalyzer implements IRetryAnalyzer {
 
+    /**
+     * The test result attribute holding the {@link ConfigSnapshot} the test started with.
+     */
+    public static final String CONFIG_ATTRIBUTE = "retryAnalyzer.config";
+
     private int retryCount = 0;
     private static final Logger log = LogManager.getLogger(lookup().lookupClass());
+    private static final Map<String, AtomicInteger> usedBudgets = new ConcurrentHashMap<>();
+    private static final Map<FailureKind, LongAdder> failures = new ConcurrentHashMap<>();
+    private static final Map<FailureKind, LongAdder> retries = new ConcurrentHashMap<>();
+    private static final Map<FailureKind, LongAdder> retryCostMillis = new ConcurrentHashMap<>();
+    private static final LongAdder budgetDenied = new LongAdder();
+
+    /**
+     * The kinds of test failures, and whether a retry can fix them.
+     */
+    public enum FailureKind {
+        ASSERTION(false), DATA(false), TRANSIENT(true), INFRASTRUCTURE(true), UNKNOWN(false);
+
+        private final boolean retryable;
+
+        FailureKind(boolean retryable) {
+            this.retryable = retryable;
+        }
+
+        /**
+         * @return {@code true} if a retry can fix this kind of failure.
+         */
+        public boolean isRetryable() {
+            return retryable;
+        }
+    }
 
     /**
      * Implements retry logic for TestNG tests.
      *
      * <p>This method:
      * <ul>
-     *   <li>Loads the retry limit from properties (only once per test instance).</li>
-     *   <li>Logs retry attempts and cleanups between retries.</li>
-     *   <li>Returns {@code true} to retry the test if within the retry limit.</li>
-     *   <li>Attaches failure summary to Allure if retry limit is reached.</li>
+     *   <li>Classifies the failure, and doesn't retry assertion and data failures.</li>
+     *   <li>Retries within the test's retry limit and the suite's retry budget.</li>
+     *   <li>Quits the driver and backs off before the retry, and records the retry's cost.</li>
+     *   <li>Attaches failure summary to Allure if the test isn't retried.</li>
      * </ul>
      *
      * @param result The result of the test execution from TestNG.
@@ -60,44 +128,217 @@ public class RetryAnalyzer implements IRetryAnalyzer {
      */
     @Override
     public boolean retry(ITestResult result) {
-        String maxRetryCountString = null;
-        int maxRetryCount ;
+        ConfigSnapshot config;
+        int maxRetryCount;
         try {
-            log.info("Checking the value of the 'maxRetryCount' parameter.");
-            maxRetryCountString = new ConfigLoader("src/test/resources/Config.properties").getValue("maxRetryCount",true);
-            maxRetryCount = Integer.parseInt(maxRetryCountString);
-        } catch (NumberFormatException e) {
-            log.error("The 'maxRetryCount' value provided isn't a valid integer: '{}'.", maxRetryCountString);
-            throw new RuntimeException(e);
+            config = startedConfig(result);
+            maxRetryCount = config.getInt("maxRetryCount");
         } catch (Exception e) {
-            log.error("The 'maxRetryCount' parameter isn't exist in the config file.");
+            log.error("The 'maxRetryCount' parameter is missing or isn't a valid integer.");
             throw new RuntimeException(e);
         }
+        FailureKind kind = classify(result.getThrowable());
+        failures.computeIfAbsent(kind, key -> new LongAdder()).increment();
         if (maxRetryCount <= 0) {
             log.warn("Test '{}' won't be retried. As 'maxRetryCount' provided value is: '{}', It should be greater than 0.",
                     result.getName(), maxRetryCount);
             return false;
         }
-        log.info("Starting retry analyzer mechanism for test '{}' by '{}' attempts.", result.getName(), maxRetryCount);
+        boolean retryable = kind.isRetryable() || (kind == FailureKind.UNKNOWN && config.getBoolean("retryUnknownFailures", false));
+        if (!retryable) {
+            giveUp(result, kind, String.format("Test '%s' failed with a '%s' failure, which a retry can't fix: %s",
+                    result.getName(), kind, describe(result.getThrowable())));
+            return false;
+        }
+        if (retryCount >= maxRetryCount) {
+            giveUp(result, kind, String.format("Test '%s' failed after '%d' retries, Last failure: '%s'.", result.getName(), maxRetryCount, kind));
+            return false;
+        }
+        if (!takeBudget(result.getTestContext(), config.getDouble("retryBudgetPercent", 100))) {
+            budgetDenied.increment();
+            giveUp(result, kind, String.format("Test '%s' failed with a '%s' failure, but the suite's retry budget is spent.",
+                    result.getName(), kind));
+            return false;
+        }
 
-        if (retryCount < maxRetryCount) {
+        try {
+            GetWebDriver.quitDriver();
+        } catch (Exception e) {
+            log.info("The driver instance had been already quit");
+        }
+        long backoffMillis = Math.min(config.getLong("retryBackoffMs", 0) << Math.min(retryCount, 20), config.getLong("retryBackoffMaxMs", 30_000));
+        log.warn("Retrying test '{}' after a '{}' failure in '{}' ms - attempt {}/{}: {}", result.getName(), kind, backoffMillis,
+                retryCount + 1, maxRetryCount, describe(result.getThrowable()));
+        if (backoffMillis > 0) {
             try {
-                GetWebDriver.quitDriver();
-            } catch (Exception e) {
-                log.info("The driver instance had been already quit");
+                Thread.sleep(backoffMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.warn("Retry of test '{}' cancelled, The thread was interrupted.", result.getName());
+                return false;
             }
-            log.warn("Retrying test '{}' - attempt {}/{}", result.getName(), retryCount + 1, maxRetryCount);
-            retryCount++;
-            return true; // Retry the test
-        } else {
-            String finalFailureMessage = String.format("Test '%s' failed after '%d' retries.", result.getName(), maxRetryCount);
-            log.error(finalFailureMessage);
-            // Attach final failure info to Allure report
-            Allure.addAttachment("Final Retry Failure", "text/plain", finalFailureMessage);
         }
+        // The failed attempt and the backoff are the wall time the retry costs
+        long costMillis = Math.max(result.getEndMillis() - result.getStartMillis(), 0) + backoffMillis;
+        retries.computeIfAbsent(kind, key -> new LongAdder()).increment();
+        retryCostMillis.computeIfAbsent(kind, key -> new LongAdder()).add(costMillis);
+        retryCount++;
+        return true; // Retry the test
+    }
 
-        return false; // Do not retry if the max retry count is reached
+    /**
+     * Returns the configuration a test started with, so settings read once it's over match the ones it ran with.
+     *
+     * @param result the test's result.
+     * @return the snapshot in its {@link #CONFIG_ATTRIBUTE} attribute, or the current file's if there's none.
+     */
+    public static ConfigSnapshot startedConfig(ITestResult result) {
+        return result.getAttribute(CONFIG_ATTRIBUTE) instanceof ConfigSnapshot started
+                ? started : ConfigSnapshot.of("src/test/resources/Config.properties");
     }
-}
 
+    /**
+     * Classifies a failure by the first exception in its cause chain that has a known kind.
+     *
+     * @param failure the test's failure, or {@code null}.
+     * @return the failure kind.
+     */
+    public static FailureKind classify(Throwable failure) {
+        Set<Throwable> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Throwable cause = failure; cause != null && seen.add(cause); cause = cause.getCause()) {
+            FailureKind kind = kindOf(cause);
+            if (kind != FailureKind.UNKNOWN) {
+                return kind;
+            }
+        }
+        return FailureKind.UNKNOWN;
+    }
 
+    private static FailureKind kindOf(Throwable cause) {
+        if (cause instanceof AssertionError) {
+            return FailureKind.ASSERTION;
+        }
+        if (cause instanceof StaleElementReferenceException || cause instanceof ElementClickInterceptedException
+                || cause instanceof ElementNotInteractableException || cause instanceof MoveTargetOutOfBoundsException
+                || cause instanceof NotFoundException || cause instanceof org.openqa.selenium.TimeoutException
+                || cause instanceof ScriptTimeoutException) {
+            return FailureKind.TRANSIENT;
+        }
+        if (cause instanceof WebDriverException || cause instanceof IOException || cause instanceof UncheckedIOException
+                || cause instanceof java.util.concurrent.TimeoutException) {
+            return FailureKind.INFRASTRUCTURE;
+        }
+        if (cause instanceof IllegalArgumentException || cause instanceof JsonParseException
+                || cause instanceof DateTimeParseException) {
+            return FailureKind.DATA;
+        }
+        return FailureKind.UNKNOWN;
+    }
+
+    /**
+     * Takes one retry from the suite's budget, at least one retry when the percentage is above zero.
+     */
+    private static boolean takeBudget(ITestContext context, double percent) {
+        ISuite suite = context.getSuite();
+        long invocations = countInvocations(context);
+        int budget = percent <= 0 ? 0 : (int) Math.max(1, Math.floor(invocations * percent / 100));
+        AtomicInteger used = usedBudgets.computeIfAbsent(suite.getName(), key -> new AtomicInteger());
+        int taken = used.incrementAndGet();
+        if (taken > budget) {
+            used.decrementAndGet();
+            log.warn("Retry budget of suite '{}' is spent: '{}' retries ({}% of '{}' invocations).", suite.getName(), budget,
+                    percent, invocations);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Counts the suite's test invocations: the planned ones, each method's invocation count, or, once data provider
+     * rows make it larger, the invocations that finished so far plus the failing one.
+     */
+    private static long countInvocations(ITestContext context) {
+        long planned = 0;
+        for (ITestNGMethod method : context.getSuite().getAllMethods()) {
+            planned += Math.max(method.getInvocationCount(), 1);
+        }
+        // The running test's context only joins the suite's results once it's finished
+        Map<String, ITestContext> contexts = new HashMap<>();
+        for (ISuiteResult suiteResult : context.getSuite().getResults().values()) {
+            contexts.put(suiteResult.getTestContext().getName(), suiteResult.getTestContext());
+        }
+        contexts.put(context.getName(), context);
+        long finished = 1;
+        for (ITestContext each : contexts.values()) {
+            // Retried attempts are reported as skipped, so they aren't counted
+            finished += each.getPassedTests().size() + each.getFailedTests().size()
+                    + each.getFailedButWithinSuccessPercentageTests().size();
+        }
+        return Math.max(planned, finished);
+    }
+
+    private static void giveUp(ITestResult result, FailureKind kind, String finalFailureMessage) {
+        log.error(finalFailureMessage);
+        // Attach final failure info to Allure report
+        Allure.addAttachment("Final Retry Failure", "text/plain", finalFailureMessage + System.lineSeparator() + "Failure kind: " + kind);
+    }
+
+    private static String describe(Throwable failure) {
+        if (failure == null) {
+            return "no exception";
+        }
+        String message = failure.getMessage() == null ? "" : failure.getMessage().lines().findFirst().orElse("");
+        return failure.getClass().getSimpleName() + ": " + message;
+    }
+
+    /**
+     * Builds the retry report.
+     *
+     * @return the failures and retries per failure kind, the wall time spent on retries, and the retries
+     * denied by the budget.
+     */
+    public static Map<String, Object> snapshot() {
+        Map<String, Object> byKind = new LinkedHashMap<>();
+        long totalCost = 0;
+        for (FailureKind kind : FailureKind.values()) {
+            long cost = sum(retryCostMillis, kind);
+            totalCost += cost;
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("failures", sum(failures, kind));
+            row.put("retries", sum(retries, kind));
+            row.put("retryCostMs", cost);
+            byKind.put(kind.name(), row);
+        }
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("generatedAt", Instant.now().toString());
+        report.put("retryCostMs", totalCost);
+        report.put("budgetDenied", budgetDenied.sum());
+        report.put("byKind", byKind);
+        return report;
+    }
+
+    /**
+     * Writes the retry report as JSON to the given file and attaches it to Allure.
+     *
+     * @param jsonFile the file to write, parent directories are created if missing.
+     */
+    public static void export(Path jsonFile) {
+        String json = new GsonBuilder().setPrettyPrinting().create().toJson(snapshot());
+        try {
+            if (jsonFile.getParent() != null) {
+                Files.createDirectories(jsonFile.getParent());
+            }
+            Files.writeString(jsonFile, json, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            log.error("Failed to write the retry report to '{}'.", jsonFile);
+            throw new UncheckedIOException(e);
+        }
+        Allure.addAttachment("Retry Cost", "application/json", json, ".json");
+        log.info("Retry report written to '{}'.", jsonFile);
+    }
+
+    private static long sum(Map<FailureKind, LongAdder> counts, FailureKind kind) {
+        LongAdder count = counts.get(kind);
+        return count == null ? 0 : count.sum();
+    }
+}
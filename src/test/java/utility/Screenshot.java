@@ -1,19 +1,22 @@
 package utility;
 
+import datadriven.ConfigSnapshot;
 import io.qameta.allure.Allure;
-import org.apache.commons.io.FileUtils;
+import io.qameta.allure.AllureLifecycle;
 import org.testng.ITestResult;
 import webdriverfactory.GetWebDriver;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.OutputType;
 import org.openqa.selenium.TakesScreenshot;
-import org.openqa.selenium.io.FileHandler;
 
-import java.io.File;
-import java.io.IOException;
+import java.io.ByteArrayInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.text.SimpleDateFormat;
 import java.util.Date;
+import java.util.concurrent.*;
 
 import static java.lang.invoke.MethodHandles.lookup;
 
@@ -24,17 +27,27 @@ import static java.lang.invoke.MethodHandles.lookup;
  * <p>Key Features:
  * <ul>
  *   <li>Captures screenshots for failed test cases automatically.</li>
+ *   <li>Captures the screenshot in memory as bytes, with no temporary file.</li>
+ *   <li>Optionally downscales or re-encodes it as JPEG to keep reports small.</li>
+ *   <li>Hands encoding, saving and the Allure attachment to a bounded background writer,
+ *       so the test thread is released right after capture.</li>
  *   <li>Saves screenshots with timestamped filenames in a structured folder hierarchy.</li>
- *   <li>Attaches captured screenshots to the Allure test report for enhanced reporting.</li>
  *   <li>Integrated logging using Log4j for visibility and debugging.</li>
  * </ul>
  *
  * <p>Screenshots are saved under the <code>screenshots/FailedTests_yyyy-MM-dd</code> directory.
  * Files are named using the test method name and timestamp to prevent overwriting.
  *
+ * <p>Configuration (Config.properties, both optional), read from the snapshot the failed test started with:
+ * <ul>
+ *   <li><code>screenshotScale</code>: the scale factor between 0 and 1, 1 keeps the original size.</li>
+ *   <li><code>screenshotFormat</code>: <code>png</code> (default) or <code>jpg</code>.</li>
+ * </ul>
+ *
  * <p>Example usage (typically invoked from a TestNG listener):
  * <pre>{@code
  *   Screenshot.takeScreenShot(testResult);
+ *   Screenshot.awaitPendingWrites(30);   // once, at the end of the suite
  * }</pre>
  *
  * <p>If the WebDriver is not initialized at the time of capture, the screenshot will be skipped
@@ -46,59 +59,81 @@ import static java.lang.invoke.MethodHandles.lookup;
 public class Screenshot {
 
     private static final Logger log = LogManager.getLogger(lookup().lookupClass());
+    private static final int WRITER_QUEUE_CAPACITY = 16;
 
     /**
-     * Captures a screenshot of the current browser state.
-     * <br>The screenshot is saved under the "screenshots/FailedTests_<date>/" directory,
-     * with a filename based on the test method name and current timestamp.
-     *
-     * @param fileName The base name to use for the screenshot file (typically the test method name).
-     * @return The {@link File} object pointing to the saved screenshot, or {@code null} if the WebDriver is not initialized.
-     * @throws IOException If there is an error during screenshot capture or saving to disk.
+     * Single background writer. When the queue is full, the test thread writes the screenshot itself,
+     * so memory stays bounded however many tests fail at once.
      */
-    private static File takeShot(String fileName) throws IOException {
-        String timestamp = new SimpleDateFormat("yyyy-MM-dd_HH-mm-ss").format(new Date());
-        try {
-            File dir = new File("screenshots/FailedTests_" + timestamp.substring(0, 10));
-            if (!dir.exists() && dir.mkdirs()) {
-                log.info("Screenshot directory created at: {}", dir.getAbsolutePath());
-            }
-            String fullPath = dir.getPath() + "/" + fileName + "_" + timestamp + ".png";
-            TakesScreenshot screenshot = (TakesScreenshot) GetWebDriver.getLocalDriver();
-            if (screenshot == null) {
-                log.warn("The driver isn't initiated, screenshot cannot be taken.");
-                return null;
+    private static final ThreadPoolExecutor writer = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(WRITER_QUEUE_CAPACITY), runnable -> {
+        Thread thread = new Thread(runnable, "screenshot-writer");
+        thread.setDaemon(true);
+        return thread;
+    }, new ThreadPoolExecutor.CallerRunsPolicy());
+
+
+    /**
+     * The scale and format of a test's screenshot.
+     */
+    private record Settings(double scale, String format) {
+
+        /**
+         * Reads the settings the test started with, whatever the config file says by now.
+         */
+        static Settings of(ITestResult testResult) {
+            try {
+                ConfigSnapshot config = RetryAnalyzer.startedConfig(testResult);
+                return new Settings(Math.min(Math.max(config.getDouble("screenshotScale", 1.0), 0.1), 1.0),
+                        ImageEncoder.normalizeFormat(config.getString("screenshotFormat", "png")));
+            } catch (Exception e) {
+                log.warn("Failed to read the screenshot settings, Using the original size as PNG.");
+                return new Settings(1.0, "png");
             }
-            File srcFile = screenshot.getScreenshotAs(OutputType.FILE);
-            File destFile = new File(fullPath);
-            FileHandler.copy(srcFile, destFile);
-            log.info("Screenshot captured and saved to: {}", destFile.getAbsolutePath());
-            log.warn("Screenshot captured and saved as: {}", destFile.getName());
-            return destFile;
+        }
+    }
 
-        } catch (IOException e) {
-            log.error("Failed to save screenshot in the directory '{}'.", "FailedTests");
-            throw e;
+    /**
+     * Captures a screenshot of the current browser state as bytes.
+     *
+     * @return the PNG bytes, or {@code null} if the WebDriver is not initialized.
+     */
+    private static byte[] takeShot() {
+        TakesScreenshot screenshot = (TakesScreenshot) GetWebDriver.getLocalDriver();
+        if (screenshot == null) {
+            log.warn("The driver isn't initiated, screenshot cannot be taken.");
+            return null;
         }
+        return screenshot.getScreenshotAs(OutputType.BYTES);
     }
 
     /**
      * Captures a screenshot and attaches it to the Allure report if the test failed.
      *
      * <p>This method should be called after each test method execution, typically from a TestNG listener.
-     * Screenshots are only taken for failed tests. The screenshot will be saved locally and attached to the Allure report.</p>
+     * Screenshots are only taken for failed tests. The capture and the reservation of the Allure attachment
+     * happen on the calling thread, while encoding, saving and writing the attachment happen in the background.</p>
      *
      * @param testCaseResult The {@link ITestResult} representing the outcome of the executed test method.
-     * @throws IOException If an error occurs while capturing or saving the screenshot.
      */
-    static void takeScreenShot(ITestResult testCaseResult) throws IOException {
+    static void takeScreenShot(ITestResult testCaseResult) {
         if (testCaseResult.getStatus() == ITestResult.FAILURE) {
             log.warn("Test case '{}' failed. Taking screenshot...", testCaseResult.getName());
             try {
-                File screenShot = Screenshot.takeShot(testCaseResult.getName());
-                if (screenShot == null) return;
-                Allure.attachment(screenShot.getName(), FileUtils.openInputStream(screenShot));
-                log.info("Screenshot had been added to the Allure report '{}'.", screenShot.getName());
+                byte[] png = Screenshot.takeShot();
+                if (png == null) return;
+                Settings settings = Settings.of(testCaseResult);
+                String format = settings.format();
+
+                String timestamp = new SimpleDateFormat("yyyy-MM-dd_HH-mm-ss").format(new Date());
+                String fileName = testCaseResult.getName() + "_" + timestamp + "." + format;
+                Path destFile = Paths.get("screenshots", "FailedTests_" + timestamp.substring(0, 10), fileName);
+
+                // The attachment must be reserved on the test thread, where Allure knows the running test
+                AllureLifecycle lifecycle = Allure.getLifecycle();
+                String source = lifecycle.prepareAttachment(fileName, ImageEncoder.mimeType(format), format);
+                writer.execute(() -> write(png, settings, destFile, lifecycle, source));
+                log.info("Screenshot captured, Saving it to '{}' in the background.", destFile);
             } catch (Exception e) {
                 log.error("An error occurred while taking a screenshot.");
                 throw (e);
@@ -107,4 +142,40 @@ public class Screenshot {
             log.info("Test case '{}' passed. No screenshot will be captured.", testCaseResult.getName());
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Waits for the screenshots still queued to be written, typically once at the end of the suite.
+     *
+     * @param timeoutSec the maximum number of seconds to wait.
+     */
+    public static void awaitPendingWrites(int timeoutSec) {
+        long deadline = System.currentTimeMillis() + timeoutSec * 1000L;
+        try {
+            while (!writer.getQueue().isEmpty() || writer.getActiveCount() > 0) {
+                if (System.currentTimeMillis() > deadline) {
+                    log.warn("Screenshots are still being written after '{}' seconds.", timeoutSec);
+                    return;
+                }
+                Thread.sleep(50);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Interrupted while waiting for screenshots to be written.");
+        }
+    }
+
+    /**
+     * Encodes the screenshot, saves it to disk and writes it to the reserved Allure attachment.
+     */
+    private static void write(byte[] png, Settings settings, Path destFile, AllureLifecycle lifecycle, String source) {
+        try {
+            byte[] image = ImageEncoder.encode(png, settings.scale(), settings.format());
+            Files.createDirectories(destFile.getParent());
+            Files.write(destFile, image);
+            lifecycle.writeAttachment(source, new ByteArrayInputStream(image));
+            log.info("Screenshot had been saved to '{}' and added to the Allure report.", destFile.toAbsolutePath());
+        } catch (Exception e) {
+            log.error("Failed to save the screenshot '{}'.", destFile);
+        }
+    }
+}